@@ -0,0 +1,70 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.BoardState;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.Piece;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the bot: one move generation, and a full search per preview depth.
+ * The search runs without a time budget, so the numbers show how deep fits into a frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacementSearchBenchmark {
+
+    @Param({"EMPTY", "HALF_FULL", "PYRAMID"})
+    public BoardState boardState;
+
+    @Param({"0", "1", "2", "3"})
+    public int previewDepth;
+
+    private final MoveGenerator generator = new MoveGenerator();
+    private PlacementSearch search;
+    private SearchBoard board;
+    private Piece current;
+    private List<Piece> previews;
+    private int x;
+
+    @Setup
+    public void setUp() {
+        SimpleBoard simpleBoard = boardState.create(42);
+        board = SearchBoard.of(simpleBoard.getBoardMatrix());
+        current = simpleBoard.getCurrentBrick().getPiece();
+        x = simpleBoard.getBrickPosition().x;
+        previews = new ArrayList<>();
+        for (Brick brick : simpleBoard.getBrickGenerator().getNextBricks(previewDepth)) {
+            previews.add(brick.getPiece());
+        }
+        search = new PlacementSearch(Heuristic.defaults(), previewDepth, PlacementSearch.DEFAULT_BEAM_WIDTH, Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public List<Placement> generate() {
+        return generator.generate(board, current, x, 0, 0);
+    }
+
+    @Benchmark
+    public Plan plan() {
+        return search.plan(board, current, x, 0, 0, previews);
+    }
+}
@@ -0,0 +1,164 @@
+package com.comp2042.controller;
+
+import com.comp2042.logic.GameSession;
+import com.comp2042.logic.HighScoreManager;
+import com.comp2042.logic.Score;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.events.EventSource;
+import com.comp2042.logic.events.EventType;
+import com.comp2042.logic.events.MoveEvent;
+import com.comp2042.model.GameLevel;
+import com.comp2042.view.DownData;
+import com.comp2042.view.ViewData;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Measures the latency of the {@link GameController} input handlers end to end.
+ * A recorded input stream is replayed against a controller that draws on a {@link StubGameView},
+ * and every handler call is timed on its own. JMH reports averages well, but a tick that
+ * stutters once in a thousand calls needs the tail, so this harness prints p50, p99 and p999 per input type.
+ * The gravity clock never ticks; bricks only fall through the recorded inputs.
+ */
+public final class GameControllerTickHarness {
+
+    private static final EventType[] MEASURED = {
+            EventType.DOWN, EventType.HARD_DROP, EventType.LEFT, EventType.RIGHT, EventType.ROTATE
+    };
+
+    private final GameController controller;
+    private final StubGameView view = new StubGameView();
+    private final MoveEvent[] moveEvents = new MoveEvent[EventType.values().length];
+    private long sink;
+
+    /**
+     * Constructs a new harness with a seeded game.
+     * @param levelType The level type to play.
+     * @param seed The seed of the brick sequence.
+     */
+    public GameControllerTickHarness(GameLevel.LevelType levelType, long seed) {
+        SimpleBoard board = new SimpleBoard(GameSession.DEFAULT_WIDTH, GameSession.DEFAULT_HEIGHT,
+                new RandomBrickGenerator(levelType, seed));
+        GameSession session = new GameSession(levelType, board, new Score(levelType, HighScoreManager.inMemory()));
+        controller = new GameController(view, session, new IdleClock());
+        for (EventType type : EventType.values()) {
+            moveEvents[type.ordinal()] = new MoveEvent(type, EventSource.USER);
+        }
+    }
+
+    /**
+     * Replays a recording and times every handler call.
+     * A game that tops out is restarted; the restart is not timed.
+     * @param recording The inputs to replay.
+     * @param latencies Receives the latency of each call in nanoseconds, per input type.
+     *                  Each array must hold at least as many values as the recording has inputs of that type.
+     */
+    public void replay(InputRecording recording, Map<EventType, long[]> latencies) {
+        int[] counts = new int[EventType.values().length];
+        for (int i = 0; i < recording.size(); i++) {
+            EventType type = recording.get(i);
+            int gameOvers = view.getGameOvers();
+            long start = System.nanoTime();
+            dispatch(type);
+            long elapsed = System.nanoTime() - start;
+            latencies.get(type)[counts[type.ordinal()]++] = elapsed;
+            if (view.getGameOvers() != gameOvers) {
+                controller.createNewGame();
+            }
+        }
+    }
+
+    /**
+     * Forwards one input to the controller, the way the view's key handler does.
+     * @param type The input type.
+     */
+    private void dispatch(EventType type) {
+        MoveEvent event = moveEvents[type.ordinal()];
+        switch (type) {
+            case DOWN -> consume(controller.onDownEvent(event));
+            case HARD_DROP -> consume(controller.onHardDropEvent(event));
+            case LEFT -> consume(controller.onLeftEvent(event));
+            case RIGHT -> consume(controller.onRightEvent(event));
+            case ROTATE -> consume(controller.onRotateEvent(event));
+            case HOLD -> consume(controller.onHoldEvent(event));
+        }
+    }
+
+    private void consume(DownData downData) {
+        consume(downData.getViewData());
+    }
+
+    private void consume(ViewData viewData) {
+        sink += viewData.getGhostYPosition();
+    }
+
+    /**
+     * A clock that never ticks.
+     */
+    private static final class IdleClock implements GameClock {
+        @Override
+        public void start(LongConsumer tick) {
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+
+    /**
+     * Gets the nearest-rank percentile of sorted values.
+     * @param sorted The values, in ascending order.
+     * @param percentile The percentile, between 0 and 100.
+     * @return The value at the percentile.
+     */
+    static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.min(Math.max(rank - 1, 0), sorted.length - 1)];
+    }
+
+    /**
+     * Runs the harness and prints the latency table.
+     * Arguments, all optional: pieces per round, warm-up rounds, measured rounds, level type, seed.
+     * @param args The command-line arguments.
+     */
+    public static void main(String[] args) {
+        int pieces = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int warmupRounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        GameLevel.LevelType levelType = args.length > 3 ? GameLevel.LevelType.valueOf(args[3]) : GameLevel.LevelType.TYPE_B_NORMAL;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+
+        InputRecording recording = InputRecording.record(seed, pieces);
+        GameControllerTickHarness harness = new GameControllerTickHarness(levelType, seed);
+        Map<EventType, long[]> round = new EnumMap<>(EventType.class);
+        Map<EventType, long[]> all = new EnumMap<>(EventType.class);
+        for (EventType type : MEASURED) {
+            round.put(type, new long[recording.count(type)]);
+            all.put(type, new long[recording.count(type) * rounds]);
+        }
+        for (int i = 0; i < warmupRounds; i++) {
+            harness.replay(recording, round);
+        }
+        for (int i = 0; i < rounds; i++) {
+            harness.replay(recording, round);
+            for (EventType type : MEASURED) {
+                long[] values = round.get(type);
+                System.arraycopy(values, 0, all.get(type), i * values.length, values.length);
+            }
+        }
+
+        System.out.printf("Level type: %s, %d inputs per round, %d rounds%n", levelType, recording.size(), rounds);
+        System.out.printf("%-10s %10s %10s %10s %10s %10s%n", "event", "count", "p50 ns", "p99 ns", "p999 ns", "max ns");
+        for (EventType type : MEASURED) {
+            long[] values = all.get(type);
+            Arrays.sort(values);
+            System.out.printf("%-10s %10d %10d %10d %10d %10d%n", type, values.length,
+                    percentile(values, 50), percentile(values, 99), percentile(values, 99.9), values[values.length - 1]);
+        }
+        System.out.println("(view sink " + (harness.sink + harness.view.getSink()) + ")");
+    }
+}
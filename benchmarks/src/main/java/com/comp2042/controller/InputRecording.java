@@ -0,0 +1,81 @@
+package com.comp2042.controller;
+
+import com.comp2042.logic.events.EventType;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * A fixed stream of player inputs, replayed by the tick harness.
+ * Each brick gets what a player typically sends: a few rotations, a run of sideways moves,
+ * some soft drops and a hard drop. The same seed always records the same stream.
+ */
+public final class InputRecording {
+
+    private final EventType[] events;
+
+    private InputRecording(EventType[] events) {
+        this.events = events;
+    }
+
+    /**
+     * Records the inputs for a number of bricks.
+     * @param seed The seed of the recording.
+     * @param pieces The number of bricks to record inputs for.
+     * @return The recording.
+     */
+    public static InputRecording record(long seed, int pieces) {
+        SplittableRandom random = new SplittableRandom(seed);
+        EventType[] events = new EventType[pieces * 16];
+        int size = 0;
+        for (int i = 0; i < pieces; i++) {
+            int rotations = random.nextInt(4);
+            for (int r = 0; r < rotations; r++) {
+                events[size++] = EventType.ROTATE;
+            }
+            int shift = random.nextInt(-4, 5);
+            EventType direction = shift < 0 ? EventType.LEFT : EventType.RIGHT;
+            for (int s = 0; s < Math.abs(shift); s++) {
+                events[size++] = direction;
+            }
+            int softDrops = random.nextInt(5);
+            for (int d = 0; d < softDrops; d++) {
+                events[size++] = EventType.DOWN;
+            }
+            events[size++] = EventType.HARD_DROP;
+        }
+        return new InputRecording(Arrays.copyOf(events, size));
+    }
+
+    /**
+     * Gets the number of inputs.
+     * @return The number of inputs.
+     */
+    public int size() {
+        return events.length;
+    }
+
+    /**
+     * Gets an input.
+     * @param index The position of the input in the stream.
+     * @return The input.
+     */
+    public EventType get(int index) {
+        return events[index];
+    }
+
+    /**
+     * Counts the inputs of one type.
+     * @param type The input type.
+     * @return The number of inputs of that type.
+     */
+    public int count(EventType type) {
+        int count = 0;
+        for (EventType event : events) {
+            if (event == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,113 @@
+package com.comp2042.controller;
+
+import com.comp2042.view.GameView;
+import com.comp2042.view.ViewData;
+import javafx.beans.property.IntegerProperty;
+
+import java.awt.*;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A {@link GameView} that draws nothing, so a benchmark measures only the controller and the game logic.
+ * It still reads what the controller hands it, and finishes block removals straight away.
+ */
+public class StubGameView implements GameView {
+
+    private long sink;
+    private int gameOvers;
+
+    /**
+     * Gets a value derived from everything the view was given, so the JIT cannot drop the work that produced it.
+     * @return The accumulated value.
+     */
+    public long getSink() {
+        return sink;
+    }
+
+    /**
+     * Gets how often the game-over screen was requested.
+     * @return The number of game overs.
+     */
+    public int getGameOvers() {
+        return gameOvers;
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+        sink += boardMatrix.length;
+    }
+
+    @Override
+    public void refreshBrick(ViewData brick) {
+        sink += brick.getxPosition();
+    }
+
+    @Override
+    public void interpolateBrick(double rows, double rowsPerSecond) {
+        sink += (long) rows;
+    }
+
+    @Override
+    public void inputApplied(long pressedAt, long appliedAt) {
+        sink += appliedAt - pressedAt;
+    }
+
+    @Override
+    public void refreshPreview(List<int[][]> nextBricks) {
+        sink += nextBricks.size();
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] board, BitSet changedRows) {
+        sink += changedRows.cardinality();
+    }
+
+    @Override
+    public void setEventListener(InputEventListener eventListener) {
+    }
+
+    @Override
+    public void bindScore(IntegerProperty scoreProperty) {
+    }
+
+    @Override
+    public void bindHighScore(IntegerProperty highScoreProperty) {
+    }
+
+    @Override
+    public void gameOver() {
+        gameOvers++;
+    }
+
+    @Override
+    public void showSpeedNotification(String message) {
+    }
+
+    @Override
+    public void showScoreNotification(String text) {
+        sink += text.length();
+    }
+
+    @Override
+    public void spawnFireEffect(double x, double y) {
+    }
+
+    @Override
+    public void animateBlockRemoval(List<Point> clearedBlocks, Runnable onFinished) {
+        sink += clearedBlocks.size();
+        onFinished.run();
+    }
+
+    @Override
+    public void updatePowerUpProgressBar(double progress) {
+    }
+
+    @Override
+    public void setPowerUpContainerVisibility(boolean isVisible) {
+    }
+
+    @Override
+    public void close() {
+    }
+}
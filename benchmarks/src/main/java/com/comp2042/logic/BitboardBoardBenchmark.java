@@ -0,0 +1,85 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.events.ClearRow;
+import com.comp2042.model.BoardSize;
+import com.comp2042.model.GameLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BitboardBoard} from the standard board up to the largest party board,
+ * to show that moves and line checks stay cheap when a row spans several words.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitboardBoardBenchmark {
+
+    @Param({"10x25", "64x200", "256x1000"})
+    public String boardSize;
+
+    private BoardSize size;
+    private BitboardBoard board;
+    private int pieces;
+
+    @Setup
+    public void setUp() {
+        size = BoardSize.parse(boardSize);
+        board = newBoard();
+        pieces = 0;
+    }
+
+    private BitboardBoard newBoard() {
+        BitboardBoard fresh = new BitboardBoard(size.getWidth(), size.getHeight(),
+                new RandomBrickGenerator(GameLevel.LevelType.TYPE_B_NORMAL, 42));
+        fresh.createPyramidObstacle();
+        fresh.createNewBrick();
+        return fresh;
+    }
+
+    /**
+     * Moves the brick left and back, so it never gets stuck against a wall.
+     */
+    @Benchmark
+    public boolean moveLeftAndRight() {
+        return board.moveBrickLeft() & board.moveBrickRight();
+    }
+
+    @Benchmark
+    public int ghost() {
+        return board.getGhostYPosition();
+    }
+
+    /**
+     * Drops a brick into one of seven columns, locks it, clears lines and spawns the next brick.
+     * The board is rebuilt when it tops out.
+     */
+    @Benchmark
+    public ClearRow lock() {
+        for (int shift = pieces++ % 7 - 3; shift < 0 && board.moveBrickLeft(); shift++) {
+            // Spread the bricks over a few columns
+        }
+        board.hardDrop();
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        if (board.createNewBrick()) {
+            board = newBoard();
+        }
+        return clearRow;
+    }
+}
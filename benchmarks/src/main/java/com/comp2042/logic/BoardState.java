@@ -0,0 +1,48 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.model.GameLevel;
+
+import java.util.Random;
+
+/**
+ * The board states the engine benchmarks run against.
+ * Filled rows are garbage rows with one random hole each, so the same seed always builds the same board.
+ */
+public enum BoardState {
+    /** A board with nothing on it. */
+    EMPTY(0),
+    /** A board whose bottom half is filled. */
+    HALF_FULL(11),
+    /** A board filled up to a few rows below the spawn area. */
+    NEAR_TOP_OUT(19),
+    /** The pyramid obstacle of the obstacle mode. */
+    PYRAMID(0);
+
+    private final int garbageRows;
+
+    BoardState(int garbageRows) {
+        this.garbageRows = garbageRows;
+    }
+
+    /**
+     * Builds a standard 10x25 board in this state, with a brick ready to play.
+     * @param seed The seed of the garbage holes, colors and brick sequence.
+     * @return The new board.
+     */
+    public SimpleBoard create(long seed) {
+        Random random = new Random(seed);
+        SimpleBoard board = new SimpleBoard(GameSession.DEFAULT_WIDTH, GameSession.DEFAULT_HEIGHT,
+                new RandomBrickGenerator(GameLevel.LevelType.TYPE_B_NORMAL, random.nextLong()));
+        board.newGame();
+        for (int i = 0; i < garbageRows; i++) {
+            board.addGarbageRows(1, random.nextInt(GameSession.DEFAULT_WIDTH), random.nextInt(7) + 1);
+        }
+        if (this == PYRAMID) {
+            board.createPyramidObstacle();
+        }
+        // Respawn so the brick starts at the top of the finished board
+        board.createNewBrick();
+        return board;
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.PieceCatalog;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.events.ClearRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link MatrixOperations} primitives on realistic boards.
+ * The test brick is a T placed where it would land, so collision checks see the top of the stack.
+ * Run with {@code -prof gc} to see the allocation rate next to the throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    @Param({"EMPTY", "HALF_FULL", "NEAR_TOP_OUT", "PYRAMID"})
+    public BoardState boardState;
+
+    private int[][] matrix;
+    private PieceShape shape;
+    private int[][] shapeMatrix;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUp() {
+        matrix = boardState.create(42).getBoardSnapshot().toMatrix();
+        shape = PieceCatalog.T.getPiece().getShape(0);
+        shapeMatrix = shape.getMatrix();
+        x = 3;
+        y = 0;
+        while (!MatrixOperations.intersect(matrix, shape, x, y + 1)) {
+            y++;
+        }
+    }
+
+    /**
+     * The original collision test, which walks the whole 4x4 shape matrix.
+     */
+    @Benchmark
+    public boolean intersectMatrix() {
+        return MatrixOperations.intersect(matrix, shapeMatrix, x, y + 1);
+    }
+
+    @Benchmark
+    public boolean intersectShape() {
+        return MatrixOperations.intersect(matrix, shape, x, y + 1);
+    }
+
+    /**
+     * The copying merge, which duplicates the whole board.
+     */
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(matrix, shapeMatrix, x, y);
+    }
+
+    /**
+     * The in-place merge. The cells are emptied again afterwards so every call sees the same board.
+     */
+    @Benchmark
+    public int[][] mergeInPlace() {
+        MatrixOperations.mergeInPlace(matrix, shape, x, y);
+        for (int k = 0; k < shape.getCellCount(); k++) {
+            matrix[y + shape.getCellRow(k)][x + shape.getCellColumn(k)] = 0;
+        }
+        return matrix;
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(matrix);
+    }
+}
@@ -0,0 +1,114 @@
+package com.comp2042.logic;
+
+import com.comp2042.model.BoardSize;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar and the Vector API {@link RowKernels} on a half-full board with scattered holes.
+ * The forks are started with the incubator module, so both kernels can be measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class RowKernelsBenchmark {
+
+    @Param({"scalar", "vector"})
+    public String kernels;
+
+    @Param({"10x25", "256x1000"})
+    public String boardSize;
+
+    private RowKernels rowKernels;
+    private int[][] template;
+    private int[][] matrix;
+    private long[] words;
+
+    @Setup
+    public void setUp() {
+        rowKernels = "vector".equals(kernels) ? RowKernels.vector() : RowKernels.scalar();
+        if (rowKernels == null) {
+            throw new IllegalStateException("The Vector API is not available in this JVM");
+        }
+        BoardSize size = BoardSize.parse(boardSize);
+        SplittableRandom random = new SplittableRandom(42);
+        template = new int[size.getHeight()][size.getWidth()];
+        for (int i = size.getHeight() / 2; i < size.getHeight(); i++) {
+            for (int j = 0; j < size.getWidth(); j++) {
+                // About one hole in ten cells, and the odd full row
+                if (i % 7 == 0 || random.nextInt(10) != 0) {
+                    template[i][j] = 1 + random.nextInt(7);
+                }
+            }
+        }
+        matrix = MatrixOperations.copy(template);
+        words = new long[4];
+    }
+
+    /**
+     * Checks every row for a full line, as a clear after a bomb would.
+     */
+    @Benchmark
+    public int fullRows() {
+        int full = 0;
+        for (int[] row : matrix) {
+            if (rowKernels.isRowFull(row)) {
+                full++;
+            }
+        }
+        return full;
+    }
+
+    @Benchmark
+    public int countHoles() {
+        return rowKernels.countHoles(matrix);
+    }
+
+    /**
+     * Packs every row into occupancy words, as a bitboard rebuild does.
+     */
+    @Benchmark
+    public long packRows() {
+        long sink = 0;
+        for (int[] row : matrix) {
+            words[0] = words[1] = words[2] = words[3] = 0;
+            rowKernels.packRow(row, words, 0);
+            sink ^= words[0] ^ words[3];
+        }
+        return sink;
+    }
+
+    /**
+     * Restores the holey board and lets it fall. The restore is the same row copy for both kernels;
+     * {@link #restore()} measures it alone.
+     */
+    @Benchmark
+    public int[][] applyGravity() {
+        restore();
+        rowKernels.applyGravity(matrix);
+        return matrix;
+    }
+
+    @Benchmark
+    public int[][] restore() {
+        for (int i = 0; i < template.length; i++) {
+            System.arraycopy(template[i], 0, matrix[i], 0, template[i].length);
+        }
+        return matrix;
+    }
+}
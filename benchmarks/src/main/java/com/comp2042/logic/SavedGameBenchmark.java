@@ -0,0 +1,75 @@
+package com.comp2042.logic;
+
+import com.comp2042.model.GameLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving and resuming a game, which the game does after every locked brick.
+ * Both directions have to stay well under a millisecond; {@code writeAtomically} includes the file system.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SavedGameBenchmark {
+
+    @Param({"EMPTY", "HALF_FULL", "NEAR_TOP_OUT", "PYRAMID"})
+    public BoardState boardState;
+
+    private GameSession session;
+    private GameState state;
+    private byte[] encoded;
+    private Path directory;
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        GameLevel.LevelType levelType = GameLevel.LevelType.TYPE_B_NORMAL;
+        session = new GameSession(levelType, boardState.create(42), new Score(levelType, HighScoreManager.inMemory()));
+        state = session.saveState();
+        encoded = SavedGame.encode(state);
+        directory = Files.createTempDirectory("saved-game-benchmark");
+        file = directory.resolve("savegame.dat");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public byte[] save() {
+        return SavedGame.encode(session.saveState());
+    }
+
+    @Benchmark
+    public GameSession restore() {
+        session.restoreState(SavedGame.decode(encoded));
+        return session;
+    }
+
+    @Benchmark
+    public Path writeAtomically() throws IOException {
+        SavedGame.write(state, file);
+        return file;
+    }
+}
@@ -0,0 +1,86 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.events.ClearRow;
+import com.comp2042.view.ViewData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link SimpleBoard} operations a player triggers: moving, rotating, the ghost lookup, locking,
+ * and the view data that is built after each of them.
+ * Run with {@code -prof gc} to see the allocation rate next to the throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleBoardBenchmark {
+
+    @Param({"EMPTY", "HALF_FULL", "NEAR_TOP_OUT", "PYRAMID"})
+    public BoardState boardState;
+
+    private SimpleBoard board;
+    private int pieces;
+
+    @Setup
+    public void setUp() {
+        board = boardState.create(42);
+        pieces = 0;
+    }
+
+    /**
+     * Moves the brick left and back, so it never gets stuck against a wall.
+     */
+    @Benchmark
+    public boolean moveLeftAndRight() {
+        return board.moveBrickLeft() & board.moveBrickRight();
+    }
+
+    @Benchmark
+    public boolean rotate() {
+        return board.rotateLeftBrick();
+    }
+
+    @Benchmark
+    public int ghost() {
+        return board.getGhostYPosition();
+    }
+
+    /**
+     * Builds the data the view draws after every input, including the preview of upcoming bricks.
+     */
+    @Benchmark
+    public ViewData viewData() {
+        return board.getViewData();
+    }
+
+    /**
+     * Drops a brick into one of seven columns, locks it, clears lines and spawns the next brick.
+     * When the board tops out it is rebuilt, which is part of the measured cost:
+     * roughly once every twenty bricks on an empty board, and every few bricks near the top.
+     */
+    @Benchmark
+    public ClearRow lock() {
+        board.tryMove(pieces++ % 7 - 3, 0);
+        board.hardDrop();
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        if (board.createNewBrick()) {
+            board = boardState.create(42);
+        }
+        return clearRow;
+    }
+}
@@ -0,0 +1,129 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.logic.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-call deep copies of {@link Brick#getShapeMatrix()} with the shared {@link PieceCatalog}.
+ * The "legacy" benchmarks run against {@link LegacyBrick}, a faithful copy of the brick classes as they were
+ * before the catalog existed: matrices built in the constructor and deep-copied on every call.
+ * This benchmark lives in the bricks package so it can reach the package-private {@code Piece.copyShapes()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieceCatalogBenchmark {
+
+    @Param({"1", "6"})
+    public int pieceId;
+
+    private Brick brick;
+    private Brick legacyBrick;
+    private int[][] board;
+    private int rotation;
+
+    @Setup
+    public void setUp() {
+        brick = PieceCatalog.byId(pieceId);
+        legacyBrick = new LegacyBrick(pieceId);
+        board = new int[25][10];
+        for (int j = 0; j < 9; j++) {
+            board[24][j] = 1;
+            board[23][j + 1] = 1;
+        }
+    }
+
+    /**
+     * The old {@code BrickRotator.getCurrentShape()}: a full deep copy of every rotation per call.
+     */
+    @Benchmark
+    public int[][] legacyCurrentShape() {
+        rotation = (rotation + 1) & 3;
+        List<int[][]> shapes = legacyBrick.getShapeMatrix();
+        return shapes.get(rotation % shapes.size());
+    }
+
+    @Benchmark
+    public int[][] catalogCurrentShape() {
+        rotation = (rotation + 1) & 3;
+        Piece piece = brick.getPiece();
+        return piece.getShape(rotation % piece.getRotationCount()).getMatrix();
+    }
+
+    /**
+     * The old collision test: copy the shapes, then walk the whole 4x4 matrix.
+     */
+    @Benchmark
+    public boolean legacyCollision() {
+        rotation = (rotation + 1) & 3;
+        List<int[][]> shapes = legacyBrick.getShapeMatrix();
+        return MatrixOperations.intersect(board, shapes.get(rotation % shapes.size()), 3, 21);
+    }
+
+    @Benchmark
+    public boolean catalogCollision() {
+        rotation = (rotation + 1) & 3;
+        Piece piece = brick.getPiece();
+        return MatrixOperations.intersect(board, piece.getShape(rotation % piece.getRotationCount()), 3, 21);
+    }
+
+    /**
+     * The old {@code RandomBrickGenerator.fillBag()}: seven new brick objects per bag.
+     */
+    @Benchmark
+    public List<Brick> legacyFillBag() {
+        List<Brick> bag = new ArrayList<>(7);
+        for (int id = 1; id <= 7; id++) {
+            bag.add(new LegacyBrick(id));
+        }
+        return bag;
+    }
+
+    @Benchmark
+    public List<Brick> catalogFillBag() {
+        List<Brick> bag = new ArrayList<>(7);
+        bag.addAll(PieceCatalog.standardBricks());
+        return bag;
+    }
+
+    /**
+     * A brick that behaves like the brick classes before the catalog:
+     * it builds its own matrices when constructed and deep-copies them on every call.
+     */
+    private static final class LegacyBrick implements Brick {
+        private final List<int[][]> brickMatrix;
+        private final Piece piece;
+
+        private LegacyBrick(int id) {
+            piece = PieceCatalog.byId(id).getPiece();
+            brickMatrix = piece.copyShapes();
+        }
+
+        @Override
+        public List<int[][]> getShapeMatrix() {
+            return MatrixOperations.deepCopyList(brickMatrix);
+        }
+
+        @Override
+        public Piece getPiece() {
+            return piece;
+        }
+    }
+}
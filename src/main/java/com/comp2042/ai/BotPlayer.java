@@ -0,0 +1,101 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.Board;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.Piece;
+import com.comp2042.logic.events.EventType;
+
+import java.awt.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Plays the game by producing inputs, one at a time, like a player pressing keys.
+ * The bot plans a brick when it spawns and then feeds the plan's inputs out at a fixed pace.
+ * If the brick is not where the bot expects, because gravity moved it or an input was refused,
+ * the bot plans again from where the brick actually is.
+ */
+public class BotPlayer {
+
+    /**
+     * The default time between two inputs.
+     */
+    public static final long DEFAULT_INPUT_INTERVAL_NANOS = 50_000_000L;
+
+    private final PlacementSearch search;
+    private final long inputIntervalNanos;
+    private final Deque<EventType> inputs = new ArrayDeque<>();
+    private final List<Piece> previews = new ArrayList<>();
+    private int expectedX;
+    private int expectedY;
+    private int expectedRotation;
+    private long lastInput = Long.MIN_VALUE;
+
+    /**
+     * Constructs a new BotPlayer with the default search and pace.
+     */
+    public BotPlayer() {
+        this(new PlacementSearch(), DEFAULT_INPUT_INTERVAL_NANOS);
+    }
+
+    /**
+     * Constructs a new BotPlayer.
+     * @param search The search that plans each brick.
+     * @param inputIntervalNanos The minimum time between two inputs, 0 to play as fast as asked.
+     */
+    public BotPlayer(PlacementSearch search, long inputIntervalNanos) {
+        this.search = search;
+        this.inputIntervalNanos = inputIntervalNanos;
+    }
+
+    /**
+     * Gets the next input for the board, if it is time for one.
+     * @param board The board being played.
+     * @param now The current time in nanoseconds.
+     * @return The input to send, or null if the bot waits or the brick has no placement.
+     */
+    public EventType nextInput(Board board, long now) {
+        if (lastInput != Long.MIN_VALUE && now - lastInput < inputIntervalNanos) {
+            return null;
+        }
+        Point position = board.getBrickPosition();
+        int rotation = board.getBrickRotation();
+        if (inputs.isEmpty() || position.x != expectedX || position.y != expectedY || rotation != expectedRotation) {
+            replan(board, position, rotation);
+        }
+        EventType input = inputs.poll();
+        if (input == null) {
+            return null;
+        }
+        switch (input) {
+            case LEFT -> expectedX--;
+            case RIGHT -> expectedX++;
+            case DOWN -> expectedY++;
+            case ROTATE -> expectedRotation = (expectedRotation + 1) % board.getCurrentBrick().getPiece().getRotationCount();
+            default -> inputs.clear();
+        }
+        lastInput = now;
+        return input;
+    }
+
+    /**
+     * Plans the current brick from where it is.
+     */
+    private void replan(Board board, Point position, int rotation) {
+        inputs.clear();
+        expectedX = position.x;
+        expectedY = position.y;
+        expectedRotation = rotation;
+        previews.clear();
+        for (Brick brick : board.getBrickGenerator().getNextBricks(search.getPreviewDepth())) {
+            previews.add(brick.getPiece());
+        }
+        Plan plan = search.plan(SearchBoard.of(board.getBoardMatrix()), board.getCurrentBrick().getPiece(),
+                position.x, position.y, rotation, previews);
+        if (plan != null) {
+            inputs.addAll(plan.getInputs());
+        }
+    }
+}
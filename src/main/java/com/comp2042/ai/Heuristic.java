@@ -0,0 +1,101 @@
+package com.comp2042.ai;
+
+/**
+ * Scores a board after a placement; higher is better.
+ * The score is a weighted sum of the lines cleared and four penalties: the summed column heights,
+ * the covered holes, the bumpiness between neighbouring columns and the depth of wells.
+ * The default weights are the widely used genetically tuned ones, with a small extra well penalty.
+ */
+public final class Heuristic {
+
+    private final double linesWeight;
+    private final double heightWeight;
+    private final double holesWeight;
+    private final double bumpinessWeight;
+    private final double wellsWeight;
+
+    /**
+     * Constructs a new Heuristic. Penalties are given as positive weights and subtracted.
+     * @param linesWeight The reward per cleared line.
+     * @param heightWeight The penalty per unit of summed column height.
+     * @param holesWeight The penalty per empty cell below a column top.
+     * @param bumpinessWeight The penalty per unit of height difference between neighbouring columns.
+     * @param wellsWeight The penalty per unit of well depth beyond the first two rows.
+     */
+    public Heuristic(double linesWeight, double heightWeight, double holesWeight, double bumpinessWeight, double wellsWeight) {
+        this.linesWeight = linesWeight;
+        this.heightWeight = heightWeight;
+        this.holesWeight = holesWeight;
+        this.bumpinessWeight = bumpinessWeight;
+        this.wellsWeight = wellsWeight;
+    }
+
+    /**
+     * Creates the heuristic with the default weights.
+     * @return The default heuristic.
+     */
+    public static Heuristic defaults() {
+        return new Heuristic(0.760666, 0.510066, 0.35663, 0.184483, 0.05);
+    }
+
+    /**
+     * Scores a board.
+     * @param board The board to score.
+     * @param lines The number of lines cleared on the way to this board.
+     * @return The score; higher is better.
+     */
+    public double evaluate(SearchBoard board, int lines) {
+        return scoreLines(lines) + evaluateBoard(board);
+    }
+
+    /**
+     * Scores the lines cleared on the way to a board.
+     * @param lines The number of lines.
+     * @return The reward for the lines.
+     */
+    public double scoreLines(int lines) {
+        return linesWeight * lines;
+    }
+
+    /**
+     * Scores the shape of a board alone. The result depends only on the filled cells,
+     * so it can be cached by board hash.
+     * @param board The board to score.
+     * @return The score; higher is better.
+     */
+    public double evaluateBoard(SearchBoard board) {
+        int width = board.getWidth();
+        int height = board.getHeight();
+        long full = board.getFullRowMask();
+        int[] heights = new int[width];
+        long covered = 0;
+        int holes = 0;
+        for (int r = 0; r < height; r++) {
+            long row = board.getRow(r);
+            holes += Long.bitCount(covered & ~row & full);
+            long tops = row & ~covered;
+            while (tops != 0) {
+                heights[Long.numberOfTrailingZeros(tops)] = height - r;
+                tops &= tops - 1;
+            }
+            covered |= row;
+        }
+        int aggregateHeight = 0;
+        int bumpiness = 0;
+        int wells = 0;
+        for (int j = 0; j < width; j++) {
+            aggregateHeight += heights[j];
+            if (j > 0) {
+                bumpiness += Math.abs(heights[j] - heights[j - 1]);
+            }
+            int left = j > 0 ? heights[j - 1] : height;
+            int right = j < width - 1 ? heights[j + 1] : height;
+            int depth = Math.min(left, right) - heights[j];
+            if (depth > 2) {
+                wells += depth - 2;
+            }
+        }
+        return -heightWeight * aggregateHeight - holesWeight * holes
+                - bumpinessWeight * bumpiness - wellsWeight * wells;
+    }
+}
@@ -0,0 +1,179 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.Piece;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.events.EventType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Finds every placement a brick can reach with the game's own inputs: left, right, rotate and down.
+ * The search is a breadth-first walk over (rotation, x, y) states, so it also finds tucks and spins
+ * under overhangs that a plain rotate-shift-drop enumeration misses. Rotation has no wall kicks,
+ * exactly like the boards. The state arrays are reused between calls, so a generator must not be
+ * shared between threads.
+ */
+public final class MoveGenerator {
+
+    private static final int PAD = 4;
+    private static final byte LEFT = 1;
+    private static final byte RIGHT = 2;
+    private static final byte ROTATE = 3;
+    private static final byte DOWN = 4;
+
+    private int columns;
+    private int rows;
+    private int[] visited = new int[0];
+    private int[] parent = new int[0];
+    private byte[] move = new byte[0];
+    private int[] queue = new int[0];
+    private int generation;
+
+    /**
+     * Gets the x-coordinate a piece spawns at, matching the boards' {@code createNewBrick}.
+     * @param piece The piece.
+     * @param boardWidth The width of the board.
+     * @return The spawn x-coordinate.
+     */
+    public static int spawnX(Piece piece, int boardWidth) {
+        return (boardWidth - piece.getShape(0).getColumns()) / 2;
+    }
+
+    /**
+     * Enumerates the reachable placements of a brick.
+     * @param board The board to search.
+     * @param piece The piece of the brick.
+     * @param startX The current x-coordinate of the brick.
+     * @param startY The current y-coordinate of the brick.
+     * @param startRotation The current rotation index of the brick.
+     * @return The reachable placements, empty if the brick does not fit where it is.
+     */
+    public List<Placement> generate(SearchBoard board, Piece piece, int startX, int startY, int startRotation) {
+        List<Placement> placements = new ArrayList<>();
+        explore(board, piece, startX, startY, startRotation, placements);
+        return placements;
+    }
+
+    /**
+     * Finds the shortest input sequence that locks a brick at a placement.
+     * Trailing down moves are replaced by a single hard drop, which lands on the same row.
+     * @param board The board to search.
+     * @param piece The piece of the brick.
+     * @param startX The current x-coordinate of the brick.
+     * @param startY The current y-coordinate of the brick.
+     * @param startRotation The current rotation index of the brick.
+     * @param target The placement to reach.
+     * @return The inputs, ending with {@link EventType#HARD_DROP}.
+     * @throws IllegalArgumentException If the placement cannot be reached.
+     */
+    public List<EventType> findPath(SearchBoard board, Piece piece, int startX, int startY, int startRotation, Placement target) {
+        explore(board, piece, startX, startY, startRotation, null);
+        int state = index(target.getRotation(), target.getX(), target.getY());
+        if (state < 0 || visited[state] != generation) {
+            throw new IllegalArgumentException("Placement is not reachable: " + target);
+        }
+        List<EventType> inputs = new ArrayList<>();
+        int start = index(startRotation, startX, startY);
+        boolean dropping = true;
+        for (; state != start; state = parent[state]) {
+            if (dropping && move[state] == DOWN) {
+                continue;
+            }
+            dropping = false;
+            inputs.add(toEventType(move[state]));
+        }
+        Collections.reverse(inputs);
+        inputs.add(EventType.HARD_DROP);
+        return inputs;
+    }
+
+    /**
+     * Walks every state reachable from the start and optionally collects the resting ones.
+     */
+    private void explore(SearchBoard board, Piece piece, int startX, int startY, int startRotation, List<Placement> placements) {
+        prepare(board);
+        int start = index(startRotation, startX, startY);
+        if (start < 0 || board.collides(piece.getShape(startRotation), startX, startY)) {
+            return;
+        }
+        int rotationCount = piece.getRotationCount();
+        visited[start] = generation;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int state = queue[head++];
+            int x = state % columns - PAD;
+            int y = state / columns % rows - PAD;
+            int rotation = state / (columns * rows);
+            PieceShape shape = piece.getShape(rotation);
+            tail = visit(board, piece, state, (rotation + 1) % rotationCount, x, y, ROTATE, tail);
+            tail = visit(board, piece, state, rotation, x - 1, y, LEFT, tail);
+            tail = visit(board, piece, state, rotation, x + 1, y, RIGHT, tail);
+            if (board.collides(shape, x, y + 1)) {
+                if (placements != null) {
+                    placements.add(new Placement(rotation, x, y));
+                }
+            } else {
+                tail = visit(board, piece, state, rotation, x, y + 1, DOWN, tail);
+            }
+        }
+    }
+
+    /**
+     * Enqueues a state if it is new and the brick fits there.
+     * @return The new end of the queue.
+     */
+    private int visit(SearchBoard board, Piece piece, int from, int rotation, int x, int y, byte step, int tail) {
+        int state = index(rotation, x, y);
+        if (state < 0 || visited[state] == generation || board.collides(piece.getShape(rotation), x, y)) {
+            return tail;
+        }
+        visited[state] = generation;
+        parent[state] = from;
+        move[state] = step;
+        queue[tail] = state;
+        return tail + 1;
+    }
+
+    /**
+     * Sizes the state arrays for the board and starts a new generation of visited marks.
+     */
+    private void prepare(SearchBoard board) {
+        columns = board.getWidth() + 2 * PAD;
+        rows = board.getHeight() + PAD;
+        int states = 4 * columns * rows;
+        if (visited.length < states) {
+            visited = new int[states];
+            parent = new int[states];
+            move = new byte[states];
+            queue = new int[states];
+            generation = 0;
+        }
+        generation++;
+    }
+
+    /**
+     * Gets the state index of a brick position.
+     * @return The index, or -1 if the position lies outside the padded board.
+     */
+    private int index(int rotation, int x, int y) {
+        int column = x + PAD;
+        int row = y + PAD;
+        if (column < 0 || column >= columns || row < 0 || row >= rows) {
+            return -1;
+        }
+        return (rotation * rows + row) * columns + column;
+    }
+
+    private static EventType toEventType(byte step) {
+        return switch (step) {
+            case LEFT -> EventType.LEFT;
+            case RIGHT -> EventType.RIGHT;
+            case ROTATE -> EventType.ROTATE;
+            default -> EventType.DOWN;
+        };
+    }
+}
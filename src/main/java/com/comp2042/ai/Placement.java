@@ -0,0 +1,52 @@
+package com.comp2042.ai;
+
+/**
+ * A final resting position of a brick: where it locks if dropped from there.
+ */
+public final class Placement {
+
+    private final int rotation;
+    private final int x;
+    private final int y;
+
+    /**
+     * Constructs a new Placement.
+     * @param rotation The rotation index of the brick.
+     * @param x The x-coordinate of the shape matrix.
+     * @param y The y-coordinate of the shape matrix.
+     */
+    public Placement(int rotation, int x, int y) {
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Gets the rotation index of the brick.
+     * @return The rotation index.
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the x-coordinate of the shape matrix.
+     * @return The x-coordinate.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the y-coordinate of the shape matrix.
+     * @return The y-coordinate.
+     */
+    public int getY() {
+        return y;
+    }
+
+    @Override
+    public String toString() {
+        return "Placement[rotation=" + rotation + ", x=" + x + ", y=" + y + "]";
+    }
+}
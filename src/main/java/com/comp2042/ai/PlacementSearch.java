@@ -0,0 +1,216 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.Piece;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Chooses where to place the current brick by looking ahead through the preview queue.
+ * Every reachable placement of the current brick is scored; the best few boards, the beam, are then
+ * expanded with every placement of the next preview brick, and so on. The plan follows the root
+ * placement of the best board at the deepest level finished within the time budget, so a slow
+ * machine searches less deep instead of missing frames.
+ * Board evaluations are cached in a {@link TranspositionTable}, and boards reached twice within a level,
+ * for example through two rotations that cover the same cells, take only one place in the beam.
+ * A search keeps reusable state and must not be shared between threads.
+ */
+public final class PlacementSearch {
+
+    /**
+     * The default number of preview bricks to look at.
+     */
+    public static final int DEFAULT_PREVIEW_DEPTH = 2;
+
+    /**
+     * The default number of boards kept per level.
+     */
+    public static final int DEFAULT_BEAM_WIDTH = 12;
+
+    /**
+     * The default time budget per search, a quarter of a 60 Hz frame.
+     */
+    public static final long DEFAULT_BUDGET_NANOS = 4_000_000L;
+
+    private static final Comparator<Node> BEST_FIRST = Comparator.comparingDouble((Node node) -> node.score).reversed();
+
+    private final Heuristic heuristic;
+    private final int previewDepth;
+    private final int beamWidth;
+    private final long budgetNanos;
+    private final MoveGenerator generator = new MoveGenerator();
+    private final TranspositionTable table;
+
+    /**
+     * Constructs a new PlacementSearch with the default settings.
+     */
+    public PlacementSearch() {
+        this(Heuristic.defaults(), DEFAULT_PREVIEW_DEPTH, DEFAULT_BEAM_WIDTH, DEFAULT_BUDGET_NANOS);
+    }
+
+    /**
+     * Constructs a new PlacementSearch.
+     * @param heuristic The heuristic that scores boards.
+     * @param previewDepth The number of preview bricks to look at, 0 for the current brick only.
+     * @param beamWidth The number of boards kept per level, at least 1.
+     * @param budgetNanos The time after which no further level is started or finished.
+     */
+    public PlacementSearch(Heuristic heuristic, int previewDepth, int beamWidth, long budgetNanos) {
+        this(heuristic, previewDepth, beamWidth, budgetNanos, new TranspositionTable(TranspositionTable.DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Constructs a new PlacementSearch with its own evaluation cache.
+     * @param heuristic The heuristic that scores boards.
+     * @param previewDepth The number of preview bricks to look at, 0 for the current brick only.
+     * @param beamWidth The number of boards kept per level, at least 1.
+     * @param budgetNanos The time after which no further level is started or finished.
+     * @param table The cache of board evaluations, which must only hold scores from the same heuristic.
+     */
+    public PlacementSearch(Heuristic heuristic, int previewDepth, int beamWidth, long budgetNanos, TranspositionTable table) {
+        if (previewDepth < 0) {
+            throw new IllegalArgumentException("Preview depth must not be negative: " + previewDepth);
+        }
+        if (beamWidth < 1) {
+            throw new IllegalArgumentException("Beam width must be at least 1: " + beamWidth);
+        }
+        this.heuristic = heuristic;
+        this.previewDepth = previewDepth;
+        this.beamWidth = beamWidth;
+        this.budgetNanos = budgetNanos;
+        this.table = table;
+    }
+
+    /**
+     * Gets the number of preview bricks the search looks at.
+     * @return The preview depth.
+     */
+    public int getPreviewDepth() {
+        return previewDepth;
+    }
+
+    /**
+     * Gets the cache of board evaluations.
+     * @return The transposition table.
+     */
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    /**
+     * Plans the placement of the current brick.
+     * @param board The board.
+     * @param current The piece of the current brick.
+     * @param x The current x-coordinate of the brick.
+     * @param y The current y-coordinate of the brick.
+     * @param rotation The current rotation index of the brick.
+     * @param previews The upcoming pieces, in order; only the first {@link #getPreviewDepth()} are used.
+     * @return The plan, or null if the brick has no placement at all.
+     */
+    public Plan plan(SearchBoard board, Piece current, int x, int y, int rotation, List<Piece> previews) {
+        long start = System.nanoTime();
+        List<Placement> roots = generator.generate(board, current, x, y, rotation);
+        if (roots.isEmpty()) {
+            return null;
+        }
+        int evaluated = 0;
+        List<Node> beam = new ArrayList<>(roots.size());
+        for (int i = 0; i < roots.size(); i++) {
+            Placement placement = roots.get(i);
+            SearchBoard child = board.place(current.getShape(placement.getRotation()), placement.getX(), placement.getY());
+            beam.add(new Node(child, i, child.getLinesCleared()));
+            evaluated++;
+        }
+        beam = keepBest(beam);
+
+        int depth = 0;
+        int levels = Math.min(previewDepth, previews.size());
+        while (depth < levels && System.nanoTime() - start < budgetNanos) {
+            Piece piece = previews.get(depth);
+            int spawnX = MoveGenerator.spawnX(piece, board.getWidth());
+            List<Node> next = new ArrayList<>();
+            boolean finished = true;
+            for (Node node : beam) {
+                if (System.nanoTime() - start >= budgetNanos) {
+                    finished = false;
+                    break;
+                }
+                for (Placement placement : generator.generate(node.board, piece, spawnX, 0, 0)) {
+                    SearchBoard child = node.board.place(piece.getShape(placement.getRotation()), placement.getX(), placement.getY());
+                    next.add(new Node(child, node.root, node.lines + child.getLinesCleared()));
+                    evaluated++;
+                }
+            }
+            if (!finished || next.isEmpty()) {
+                // An unfinished level would favour the nodes that happened to be expanded first,
+                // and an empty one means every line tops out; either way the previous level decides.
+                break;
+            }
+            beam = keepBest(next);
+            depth++;
+        }
+
+        Placement best = roots.get(beam.get(0).root);
+        return new Plan(best, generator.findPath(board, current, x, y, rotation, best), depth, evaluated);
+    }
+
+    /**
+     * Scores the nodes and keeps the best ones, each board at most once.
+     * @param nodes The nodes of a level.
+     * @return The best nodes, best first.
+     */
+    private List<Node> keepBest(List<Node> nodes) {
+        for (Node node : nodes) {
+            long hash = node.board.getHash();
+            double boardScore = table.get(hash);
+            if (Double.isNaN(boardScore)) {
+                boardScore = heuristic.evaluateBoard(node.board);
+                table.put(hash, boardScore);
+            }
+            node.score = heuristic.scoreLines(node.lines) + boardScore;
+        }
+        nodes.sort(BEST_FIRST);
+        List<Node> best = new ArrayList<>(Math.min(beamWidth, nodes.size()));
+        for (Node node : nodes) {
+            if (best.size() == beamWidth) {
+                break;
+            }
+            if (!containsBoard(best, node.board.getHash())) {
+                best.add(node);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Checks whether a board is already among the nodes.
+     * @param nodes The nodes.
+     * @param hash The hash of the board.
+     * @return true if a node holds a board with that hash, false otherwise.
+     */
+    private static boolean containsBoard(List<Node> nodes, long hash) {
+        for (Node node : nodes) {
+            if (node.board.getHash() == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A board in the search, with the placement of the current brick it descends from.
+     */
+    private static final class Node {
+        private final SearchBoard board;
+        private final int root;
+        private final int lines;
+        private double score;
+
+        private Node(SearchBoard board, int root, int lines) {
+            this.board = board;
+            this.root = root;
+            this.lines = lines;
+        }
+    }
+}
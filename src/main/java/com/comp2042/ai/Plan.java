@@ -0,0 +1,62 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.events.EventType;
+
+import java.util.List;
+
+/**
+ * The outcome of a placement search: where to put the current brick and how to get it there.
+ */
+public final class Plan {
+
+    private final Placement placement;
+    private final List<EventType> inputs;
+    private final int depth;
+    private final int evaluatedNodes;
+
+    /**
+     * Constructs a new Plan.
+     * @param placement The chosen placement of the current brick.
+     * @param inputs The inputs that lock the brick at the placement.
+     * @param depth The number of preview bricks the search looked at.
+     * @param evaluatedNodes The number of boards the heuristic scored.
+     */
+    public Plan(Placement placement, List<EventType> inputs, int depth, int evaluatedNodes) {
+        this.placement = placement;
+        this.inputs = List.copyOf(inputs);
+        this.depth = depth;
+        this.evaluatedNodes = evaluatedNodes;
+    }
+
+    /**
+     * Gets the chosen placement of the current brick.
+     * @return The placement.
+     */
+    public Placement getPlacement() {
+        return placement;
+    }
+
+    /**
+     * Gets the inputs that lock the brick at the placement.
+     * @return An unmodifiable list of inputs, ending with a hard drop.
+     */
+    public List<EventType> getInputs() {
+        return inputs;
+    }
+
+    /**
+     * Gets the number of preview bricks the search looked at before the budget ran out.
+     * @return The search depth.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Gets the number of boards the heuristic scored.
+     * @return The number of evaluated boards.
+     */
+    public int getEvaluatedNodes() {
+        return evaluatedNodes;
+    }
+}
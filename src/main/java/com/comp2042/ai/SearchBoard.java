@@ -0,0 +1,182 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.ZobristKeys;
+import com.comp2042.logic.bricks.PieceShape;
+
+import java.util.Arrays;
+
+/**
+ * An immutable occupancy-only board for the placement search.
+ * Each row is a bitmask with bit {@code j} set when column {@code j} is filled, the same layout as
+ * {@link com.comp2042.logic.BitboardBoard}, so a collision test costs one AND per shape row.
+ * Colors are irrelevant to the search and are not kept.
+ * Its hash is the same Zobrist hash a {@link com.comp2042.logic.SimpleBoard} with the same filled cells reports.
+ */
+public final class SearchBoard {
+
+    /**
+     * The widest board that fits into a single {@code long} row mask.
+     */
+    public static final int MAX_WIDTH = Long.SIZE;
+
+    private final int width;
+    private final long fullRowMask;
+    private final long[] rows;
+    private final int linesCleared;
+    private final ZobristKeys keys;
+    private long hash;
+    private boolean hashed;
+
+    private SearchBoard(int width, long[] rows, int linesCleared, ZobristKeys keys) {
+        this.width = width;
+        this.keys = keys;
+        this.fullRowMask = width == MAX_WIDTH ? -1L : (1L << width) - 1;
+        this.rows = rows;
+        this.linesCleared = linesCleared;
+    }
+
+    /**
+     * Creates a search board from a game board matrix.
+     * @param matrix The board matrix, indexed by row then column, where 0 means empty.
+     * @return The search board.
+     */
+    public static SearchBoard of(int[][] matrix) {
+        int width = matrix[0].length;
+        if (width > MAX_WIDTH) {
+            throw new IllegalArgumentException("Board width must be at most " + MAX_WIDTH + ": " + width);
+        }
+        long[] rows = new long[matrix.length];
+        for (int i = 0; i < matrix.length; i++) {
+            for (int j = 0; j < width; j++) {
+                if (matrix[i][j] != 0) {
+                    rows[i] |= 1L << j;
+                }
+            }
+        }
+        return new SearchBoard(width, rows, 0, ZobristKeys.of(width, matrix.length));
+    }
+
+    /**
+     * Checks whether a shape collides at the given position.
+     * A collision is either an occupied cell or a cell outside the board.
+     * @param shape The shape to test.
+     * @param x The x-coordinate of the shape matrix.
+     * @param y The y-coordinate of the shape matrix.
+     * @return true if there is a collision, false otherwise.
+     */
+    public boolean collides(PieceShape shape, int x, int y) {
+        if (x + shape.getMinColumn() < 0 || x + shape.getMaxColumn() >= width) {
+            return true;
+        }
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+            long mask = shape.getRowMask(i);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + i;
+            if (row < 0 || row >= rows.length) {
+                return true;
+            }
+            long shifted = x >= 0 ? mask << x : mask >>> -x;
+            if ((rows[row] & shifted) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Locks a shape into a copy of this board and removes the rows it completes.
+     * @param shape The shape to lock, which must not collide at the given position.
+     * @param x The x-coordinate of the shape matrix.
+     * @param y The y-coordinate of the shape matrix.
+     * @return The resulting board, whose {@link #getLinesCleared()} is the number of rows removed.
+     */
+    public SearchBoard place(PieceShape shape, int x, int y) {
+        long[] next = Arrays.copyOf(rows, rows.length);
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+            long mask = shape.getRowMask(i);
+            next[y + i] |= x >= 0 ? mask << x : mask >>> -x;
+        }
+        int write = next.length - 1;
+        for (int read = next.length - 1; read >= 0; read--) {
+            if (next[read] != fullRowMask) {
+                next[write--] = next[read];
+            }
+        }
+        int cleared = write + 1;
+        Arrays.fill(next, 0, cleared, 0L);
+        SearchBoard child = new SearchBoard(width, next, cleared, keys);
+        if (cleared == 0) {
+            // Without a clear no row moves, so only the rows the shape touched change their hash
+            long h = getHash();
+            for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+                int row = y + i;
+                h ^= keys.rowHash(row, keys.contentHash(rows[row])) ^ keys.rowHash(row, keys.contentHash(next[row]));
+            }
+            child.hash = h;
+            child.hashed = true;
+        }
+        return child;
+    }
+
+    /**
+     * Gets the Zobrist hash of the board, computed on first use unless the placement that produced it
+     * could derive it from its parent's.
+     * @return The board hash, 0 for an empty board.
+     */
+    public long getHash() {
+        if (!hashed) {
+            long h = 0;
+            for (int r = 0; r < rows.length; r++) {
+                if (rows[r] != 0) {
+                    h ^= keys.rowHash(r, keys.contentHash(rows[r]));
+                }
+            }
+            hash = h;
+            hashed = true;
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the number of rows removed by the placement that produced this board.
+     * @return The number of rows cleared, 0 for a board created from a matrix.
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the width of the board.
+     * @return The number of columns.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the board.
+     * @return The number of rows.
+     */
+    public int getHeight() {
+        return rows.length;
+    }
+
+    /**
+     * Gets the occupancy mask of a row.
+     * @param row The row index.
+     * @return The row mask, with bit {@code j} set when column {@code j} is filled.
+     */
+    public long getRow(int row) {
+        return rows[row];
+    }
+
+    /**
+     * Gets the mask of a completely filled row.
+     * @return The full row mask.
+     */
+    public long getFullRowMask() {
+        return fullRowMask;
+    }
+}
@@ -0,0 +1,101 @@
+package com.comp2042.ai;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size cache of board evaluations, keyed by Zobrist hash.
+ * Each hash maps to exactly one slot and a new entry always replaces the old one, so the table never
+ * grows and lookups cost one array access. The search shares it across sibling branches and across
+ * successive plans, where the same boards come up again.
+ */
+public final class TranspositionTable {
+
+    /**
+     * The default number of entries, about a megabyte.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final long[] keys;
+    private final double[] scores;
+    private final int mask;
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructs a new TranspositionTable.
+     * @param capacity The number of entries, rounded up to a power of two.
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        keys = new long[size];
+        scores = new double[size];
+        mask = size - 1;
+        clear();
+    }
+
+    /**
+     * Looks up the evaluation of a board.
+     * @param hash The board hash.
+     * @return The cached score, or NaN if the board is not in the table.
+     */
+    public double get(long hash) {
+        int slot = (int) hash & mask;
+        if (keys[slot] == hash && !Double.isNaN(scores[slot])) {
+            hits++;
+            return scores[slot];
+        }
+        misses++;
+        return Double.NaN;
+    }
+
+    /**
+     * Stores the evaluation of a board, replacing whatever shared its slot.
+     * @param hash The board hash.
+     * @param score The score, which must not be NaN.
+     */
+    public void put(long hash, double score) {
+        int slot = (int) hash & mask;
+        keys[slot] = hash;
+        scores[slot] = score;
+    }
+
+    /**
+     * Removes every entry and resets the statistics.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(scores, Double.NaN);
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Gets the number of entries.
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    /**
+     * Gets the number of lookups that found an entry.
+     * @return The number of hits.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that found nothing.
+     * @return The number of misses.
+     */
+    public long getMisses() {
+        return misses;
+    }
+}
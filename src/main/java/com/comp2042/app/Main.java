@@ -1,5 +1,7 @@
 package com.comp2042.app;
 
+import com.comp2042.view.GuiController;
+import com.comp2042.view.InputLatency;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -38,6 +40,17 @@ public class Main extends Application {
         primaryStage.show();
     }
 
+    /**
+     * Prints the input latency measured while playing, if the player made any input.
+     */
+    @Override
+    public void stop() {
+        InputLatency inputLatency = GuiController.getInputLatency();
+        if (inputLatency.getListener().getCount() > 0) {
+            System.out.println(inputLatency);
+        }
+    }
+
     /**
      * The main method that launches the JavaFX application.
      *
@@ -0,0 +1,35 @@
+package com.comp2042.controller;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link GameClock} that calls its handler once per JavaFX pulse.
+ */
+public class AnimationTimerClock implements GameClock {
+
+    private AnimationTimer timer;
+    private LongConsumer tick;
+
+    @Override
+    public void start(LongConsumer tick) {
+        this.tick = tick;
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    AnimationTimerClock.this.tick.accept(now);
+                }
+            };
+        }
+        timer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.comp2042.controller;
+
+/**
+ * Turns the irregular times of frames into a whole number of fixed ticks.
+ * The time since the last frame is added to an accumulator and spent one tick at a time, so the game advances
+ * by the same steps whatever the frame rate. What is left over carries into the next frame, and as a fraction
+ * of a tick it tells the renderer how far between two ticks the frame falls.
+ * Time is kept in nanoseconds times the tick rate, so a tick is exactly one second's worth and no rounding
+ * error builds up. After a stall, such as a debugger break or a window drag, at most
+ * {@link #MAX_CATCH_UP_TICKS} ticks are run and the rest of the time is dropped, so the game never
+ * falls into a spiral of catching up.
+ */
+public final class FixedTimestep {
+
+    /**
+     * The most ticks run for one frame.
+     */
+    public static final int MAX_CATCH_UP_TICKS = 8;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int ticksPerSecond;
+    private long lastFrame;
+    private long accumulator;
+
+    /**
+     * Constructs a new FixedTimestep, starting at the given time.
+     * @param ticksPerSecond The number of ticks per second.
+     * @param now The current time in nanoseconds.
+     */
+    public FixedTimestep(int ticksPerSecond, long now) {
+        if (ticksPerSecond < 1) {
+            throw new IllegalArgumentException("Tick rate must be at least 1: " + ticksPerSecond);
+        }
+        this.ticksPerSecond = ticksPerSecond;
+        reset(now);
+    }
+
+    /**
+     * Starts counting from the given time with no time accumulated, for example after a pause.
+     * @param now The current time in nanoseconds.
+     */
+    public void reset(long now) {
+        lastFrame = now;
+        accumulator = 0;
+    }
+
+    /**
+     * Adds the time since the last frame and takes the ticks it completes.
+     * @param now The time of this frame in nanoseconds.
+     * @return The number of ticks to run, at most {@link #MAX_CATCH_UP_TICKS}.
+     */
+    public int advance(long now) {
+        accumulator += Math.max(0, now - lastFrame) * ticksPerSecond;
+        lastFrame = now;
+        long ticks = accumulator / NANOS_PER_SECOND;
+        if (ticks > MAX_CATCH_UP_TICKS) {
+            accumulator = 0;
+            return MAX_CATCH_UP_TICKS;
+        }
+        accumulator -= ticks * NANOS_PER_SECOND;
+        return (int) ticks;
+    }
+
+    /**
+     * Gets how far the last frame is past the last tick.
+     * @return The fraction of a tick, from 0 up to but excluding 1.
+     */
+    public double getTickFraction() {
+        return accumulator / (double) NANOS_PER_SECOND;
+    }
+}
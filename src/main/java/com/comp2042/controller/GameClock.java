@@ -0,0 +1,37 @@
+package com.comp2042.controller;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Calls a {@link GameController} once per frame. The controller turns the frame times into
+ * fixed game ticks with a {@link FixedTimestep}, so the clock only decides when frames happen.
+ * The clock also decides the thread the game runs on: every call into the game goes through {@link #execute(Runnable)}.
+ */
+public interface GameClock {
+
+    /**
+     * Starts calling the frame handler, or resumes it after {@link #stop()}.
+     * @param tick Called with the current time in nanoseconds.
+     */
+    void start(LongConsumer tick);
+
+    /**
+     * Stops calling the frame handler.
+     */
+    void stop();
+
+    /**
+     * Runs a command on the thread that calls the frame handler, after the commands queued before it.
+     * The default runs it straight away, for clocks that call the handler on the caller's thread.
+     * @param command The command.
+     */
+    default void execute(Runnable command) {
+        command.run();
+    }
+
+    /**
+     * Releases the clock for good, after the player left the game.
+     */
+    default void close() {
+    }
+}
@@ -1,77 +1,330 @@
 package com.comp2042.controller;
 
-import com.comp2042.logic.SimpleBoard;
+import com.comp2042.ai.BotPlayer;
+import com.comp2042.ai.SearchBoard;
+import com.comp2042.logic.GameSession;
+import com.comp2042.logic.GameSessionListener;
+import com.comp2042.logic.GameState;
+import com.comp2042.logic.SavedGame;
+import com.comp2042.logic.Score;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.events.ClearRow;
 import com.comp2042.logic.events.EventSource;
 import com.comp2042.logic.events.EventType;
 import com.comp2042.logic.events.MoveEvent;
+import com.comp2042.model.BoardSize;
 import com.comp2042.model.GameLevel;
+import com.comp2042.replay.ReplayRecorder;
 import com.comp2042.view.DownData;
+import com.comp2042.view.FramePublisher;
+import com.comp2042.view.GameView;
 import com.comp2042.view.GuiController;
 import com.comp2042.view.ViewData;
-import com.comp2042.logic.events.ClearRow;
-import javafx.animation.AnimationTimer;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 
 import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 /**
- * The main controller for the Tetris game. It handles the game logic, user input, and updates the view.
+ * Connects a {@link GameSession} to a {@link GameView}.
+ * The game rules live in the session; this class forwards user input to it, turns the frames of a
+ * {@link GameClock} into fixed game ticks, and turns the session's events into updates of the view.
+ * The ticks are the only clock of the game: they drive gravity, the lock delay and the bomb aftermath,
+ * while the view only draws the falling brick between rows to match the time since the last tick.
+ * <p>
+ * The session belongs to the clock's thread. In the game that thread is a {@link SimulationThread}, and
+ * the view a {@link FramePublisher} that hands frames to the JavaFX thread; the player's input, a new game,
+ * pausing and leaving all reach the session through {@link GameClock#execute(Runnable)}. The system property
+ * {@code tetris.simulationThread=false} runs the game on the JavaFX thread instead.
  */
-public class GameController implements InputEventListener {
+public class GameController implements InputEventListener, GameSessionListener {
 
-    private final SimpleBoard board;
-    private final GuiController viewGuiController;
-    private AnimationTimer gameTimer;
-    private long lastUpdate = 0;
-    private double dropInterval = 1_000_000_000; // 1 second in nanoseconds
-    private int linesClearedSinceSpeedUp = 0;
+    private final GameSession session;
+    private final GameView viewGuiController;
+    private final GameClock gameClock;
+    private final FixedTimestep timestep = new FixedTimestep(GameSession.TICKS_PER_SECOND, System.nanoTime());
+    private final BitSet changedRows = new BitSet();
+    private final IntegerProperty scoreProperty = new SimpleIntegerProperty();
+    private final IntegerProperty highScoreProperty = new SimpleIntegerProperty();
+    private BotPlayer botPlayer;
+    private Path replayDirectory;
+    private ReplayRecorder replayRecorder;
+    private Path saveFile;
+    private int savedPieces = -1;
 
     /**
-     * Constructs a new GameController.
+     * Constructs a new GameController for the level type selected in the menu.
      * @param c The GUI controller.
      */
     public GameController(GuiController c) {
-        viewGuiController = c;
-        board = new SimpleBoard(10, 25);
-        // Obstacle Mode: Create a pyramid at the start
-        if (MenuController.getSelectedLevelType() == GameLevel.LevelType.TYPE_C_OBSTACLES) {
-            board.createPyramidObstacle();
-            viewGuiController.setPowerUpContainerVisibility(true);
+        this(c, new GameSession(MenuController.getSelectedLevelType()));
+    }
+
+    /**
+     * Constructs a new GameController that resumes a saved game.
+     * @param c The GUI controller.
+     * @param saved The saved game.
+     */
+    public GameController(GuiController c, GameState saved) {
+        this(c, resumeSession(saved));
+    }
+
+    /**
+     * Creates a session that continues a saved game.
+     * @param saved The saved game.
+     * @return The session.
+     */
+    private static GameSession resumeSession(GameState saved) {
+        BoardSize boardSize = new BoardSize(saved.getCells().getWidth(), saved.getCells().getHeight());
+        GameSession session = new GameSession(saved.getLevelType(), boardSize, saved.getGeneratorState().getSeed());
+        session.restoreState(saved);
+        return session;
+    }
+
+    /**
+     * Constructs a new GameController that shows the given session.
+     * This allows an alternative {@link com.comp2042.logic.Board} implementation, such as a
+     * {@link com.comp2042.logic.BitboardBoard}, to be selected when the session is created.
+     * @param c The GUI controller.
+     * @param session The session to play.
+     */
+    public GameController(GuiController c, GameSession session) {
+        this(Boolean.parseBoolean(System.getProperty("tetris.simulationThread", "true")) ? new FramePublisher(c) : c, session);
+    }
+
+    /**
+     * Constructs a new GameController for the game, which runs on a simulation thread if the view publishes frames.
+     * @param view The view to draw on.
+     * @param session The session to play.
+     */
+    private GameController(GameView view, GameSession session) {
+        this(view, session, view instanceof FramePublisher publisher
+                ? new SimulationThread(GameSession.TICKS_PER_SECOND, publisher::publish)
+                : new AnimationTimerClock());
+        session.getBoard().getBrickGenerator().setPrefetcher(RandomBrickGenerator.BACKGROUND_PREFETCHER);
+        String previewDepth = System.getProperty("tetris.previewDepth");
+        if (previewDepth != null) {
+            session.setPreviewDepth(Integer.parseInt(previewDepth));
+        }
+        if (Boolean.getBoolean("tetris.bot")) {
+            if (session.getBoardSize().getWidth() <= SearchBoard.MAX_WIDTH) {
+                setBotPlayer(new BotPlayer());
+            } else {
+                System.err.println("The bot plays boards up to " + SearchBoard.MAX_WIDTH + " columns wide, not "
+                        + session.getBoardSize() + "; playing without it.");
+            }
+        }
+        if (!"false".equals(System.getProperty("tetris.autosave"))) {
+            setSaveFile(SavedGame.DEFAULT_FILE);
         }
-        board.createNewBrick();
+        String replayDirectory = System.getProperty("tetris.replayDir");
+        if (replayDirectory != null) {
+            setReplayDirectory(Path.of(replayDirectory));
+        }
+        start();
+    }
+
+    /**
+     * Constructs a new GameController for any view and clock, such as a stub view in a benchmark.
+     * The game is set up but waits for {@link #start()}.
+     * @param view The view to draw on.
+     * @param session The session to play.
+     * @param clock The clock that calls the controller once per frame.
+     */
+    public GameController(GameView view, GameSession session, GameClock clock) {
+        viewGuiController = view;
+        this.session = session;
+        gameClock = clock;
+        session.setListener(this);
+        viewGuiController.setPowerUpContainerVisibility(isObstacleMode());
         viewGuiController.setEventListener(this);
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
+        viewGuiController.initGameView(session.getBoard().getBoardMatrix(), session.getViewData());
         // Refresh the view to show the pyramid immediately
-        if (MenuController.getSelectedLevelType() == GameLevel.LevelType.TYPE_C_OBSTACLES) {
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        }
-        viewGuiController.bindScore(board.getScore().scoreProperty());
-        viewGuiController.bindHighScore(board.getScore().highScoreProperty());
-        lastUpdate = System.nanoTime(); // Initialize timer
-        startGameLoop();
+        onBoardChanged();
+        Score score = session.getScore();
+        scoreProperty.set(score.getScore());
+        highScoreProperty.set(score.getHighScore());
+        score.setOnScoreChanged(scoreProperty::set);
+        score.setOnHighScoreChanged(highScoreProperty::set);
+        viewGuiController.bindScore(scoreProperty);
+        viewGuiController.bindHighScore(highScoreProperty);
     }
 
     /**
-     * Starts the main game loop.
+     * Starts the clock. Call it once, after the controller is configured; from then on the session
+     * belongs to the clock's thread.
+     */
+    public void start() {
+        gameClock.execute(this::startGameLoop);
+    }
+
+    /**
+     * Starts the main game loop, with no time owed from before.
      */
     private void startGameLoop() {
-        gameTimer = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                if (now - lastUpdate >= dropInterval) {
-                    onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
-                    lastUpdate += (long) dropInterval;
-
-                    // To prevent a "death spiral" on lag, reset the timer if it falls too far behind.
-                    // This prioritizes responsiveness over catching up on missed drops.
-                    if (now - lastUpdate >= dropInterval) {
-                        lastUpdate = now;
-                    }
-                }
+        timestep.reset(System.nanoTime());
+        gameClock.start(this::onFrame);
+    }
+
+    /**
+     * Runs one frame: the ticks that are due, then the bot's next input, if a bot plays, and last the falling
+     * brick is drawn part of the way to the next row, by how far gravity has got since the last tick.
+     * @param now The current time in nanoseconds.
+     */
+    private void onFrame(long now) {
+        int ticks = timestep.advance(now);
+        int steps = 0;
+        for (int i = 0; i < ticks; i++) {
+            steps += tick(now);
+        }
+        if (steps > 0) {
+            viewGuiController.refreshBrick(session.getViewData());
+        }
+        if (botPlayer != null && !session.isGameOver()) {
+            EventType input = botPlayer.nextInput(session.getBoard(), now);
+            if (input != null) {
+                viewGuiController.refreshBrick(apply(new MoveEvent(input, EventSource.BOT)));
+            }
+        }
+        viewGuiController.interpolateBrick(session.getFallOffset(timestep.getTickFraction()), session.getFallSpeed());
+    }
+
+    /**
+     * Advances the game by one tick and records its gravity steps as automatic down moves.
+     * @param now The time of the frame in nanoseconds.
+     * @return The number of gravity steps taken.
+     */
+    private int tick(long now) {
+        boolean active = session.isActive();
+        int steps = session.tick();
+        if (replayRecorder != null && active) {
+            for (int i = 0; i < steps; i++) {
+                replayRecorder.record(EventType.DOWN, EventSource.THREAD, now);
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * Lets a bot play instead of, or alongside, the keyboard.
+     * The bot's inputs arrive through the same handlers as key presses.
+     * @param botPlayer The bot, or null to stop it.
+     * @throws IllegalArgumentException If the board is wider than the bot can search.
+     */
+    public void setBotPlayer(BotPlayer botPlayer) {
+        if (botPlayer != null && session.getBoardSize().getWidth() > SearchBoard.MAX_WIDTH) {
+            throw new IllegalArgumentException("The bot plays boards up to " + SearchBoard.MAX_WIDTH
+                    + " columns wide: " + session.getBoardSize());
+        }
+        this.botPlayer = botPlayer;
+    }
+
+    /**
+     * Records every game from now on into a replay file in the given directory, starting with the current game.
+     * The replay holds the seed and the inputs, which is all it takes to play the game again.
+     * @param replayDirectory The directory of the replay files, or null to stop recording.
+     */
+    public void setReplayDirectory(Path replayDirectory) {
+        this.replayDirectory = replayDirectory;
+        startRecording(System.nanoTime());
+    }
+
+    /**
+     * Saves the game to a file after every locked brick and when the player leaves it, so it can be resumed.
+     * The file is deleted when the game ends.
+     * @param saveFile The save file, or null to stop saving.
+     */
+    public void setSaveFile(Path saveFile) {
+        this.saveFile = saveFile;
+        savedPieces = -1;
+    }
+
+    /**
+     * Saves the game if saving is enabled and the game can be continued.
+     * @param force true to save even if no brick locked since the last save.
+     */
+    private void saveGame(boolean force) {
+        if (saveFile == null || !session.isActive() || (!force && session.getPiecesPlaced() == savedPieces)) {
+            return;
+        }
+        try {
+            SavedGame.write(session.saveState(), saveFile);
+            savedPieces = session.getPiecesPlaced();
+        } catch (IOException e) {
+            System.err.println("Could not save the game to " + saveFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Finishes the current recording, if any, and starts recording the current game if a replay directory is set.
+     * A replay starts from the seed alone, so a resumed game is not recorded until the next new game.
+     * @param now The time the game started, in nanoseconds.
+     */
+    private void startRecording(long now) {
+        stopRecording();
+        if (replayDirectory != null && session.getPiecesPlaced() == 0) {
+            replayRecorder = new ReplayRecorder(ReplayRecorder.fileFor(replayDirectory, session.getSeed()),
+                    session.getLevelType(), session.getBoardSize(), session.getSeed(), now);
+        }
+    }
+
+    /**
+     * Closes the current recording in the background.
+     */
+    private void stopRecording() {
+        if (replayRecorder != null) {
+            replayRecorder.close();
+            replayRecorder = null;
+        }
+    }
+
+    /**
+     * Adds an input to the replay if a recording runs and the session will act on the input.
+     * Inputs the session ignores, such as those during a bomb explosion, are left out, so a replay
+     * can apply its inputs without waiting for animations.
+     * @param event The move event.
+     */
+    private void record(MoveEvent event) {
+        if (replayRecorder != null && session.isActive()) {
+            replayRecorder.record(event.getEventType(), event.getEventSource(), System.nanoTime());
+        }
+    }
+
+    /**
+     * Applies a player's input on the clock's thread and redraws the brick.
+     * A stamped input is passed on to the view, which measures its latency.
+     * @param event The move event.
+     */
+    @Override
+    public void onInput(MoveEvent event) {
+        gameClock.execute(() -> {
+            ViewData viewData = apply(event);
+            if (event.getTimestamp() != 0) {
+                viewGuiController.inputApplied(event.getTimestamp(), System.nanoTime());
             }
+            viewGuiController.refreshBrick(viewData);
+        });
+    }
+
+    /**
+     * Forwards an input to the matching handler.
+     * @param event The move event.
+     * @return The data for updating the view.
+     */
+    private ViewData apply(MoveEvent event) {
+        return switch (event.getEventType()) {
+            case DOWN -> onDownEvent(event).getViewData();
+            case LEFT -> onLeftEvent(event);
+            case RIGHT -> onRightEvent(event);
+            case ROTATE -> onRotateEvent(event);
+            case HARD_DROP -> onHardDropEvent(event).getViewData();
+            case HOLD -> onHoldEvent(event);
         };
-        gameTimer.start();
     }
 
     /**
@@ -81,45 +334,9 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-        if (!canMove) {
-            if (board.isCurrentBrickBomb()) {
-                Point bombCenter = board.getBrickPosition();
-                List<Point> clearedBlocks = board.detonateBomb(bombCenter.x, bombCenter.y);
-                viewGuiController.spawnFireEffect(bombCenter.x, bombCenter.y);
-                viewGuiController.animateBlockRemoval(clearedBlocks, () -> handleBombAftermath(clearedBlocks.size()));
-            } else {
-                board.mergeBrickToBackground();
-                clearRow = board.clearRows();
-                if (clearRow.getLinesRemoved() > 0) {
-                    board.getScore().add(clearRow.getScoreBonus());
-                    viewGuiController.showScoreNotification("+" + clearRow.getScoreBonus());
-                    linesClearedSinceSpeedUp += clearRow.getLinesRemoved();
-                    if (MenuController.getSelectedLevelType() == GameLevel.LevelType.TYPE_C_OBSTACLES) {
-                        board.getBrickGenerator().incrementPowerUpProgress(clearRow.getLinesRemoved());
-                        viewGuiController.updatePowerUpProgressBar(board.getBrickGenerator().getPowerUpProgress() / 5.0);
-                    }
-                    // Speed Curve Mode: Increase speed every 2 lines
-                    if (MenuController.getSelectedLevelType() == GameLevel.LevelType.TYPE_A_SPEED_CURVE && linesClearedSinceSpeedUp >= 1) {
-                        dropInterval *= 0.75; // 25% faster
-                        viewGuiController.showSpeedNotification("Speed Up!");
-                        linesClearedSinceSpeedUp = 0;
-                    }
-                }
-                if (board.createNewBrick()) {
-                    board.getScore().updateHighScore();
-                    viewGuiController.gameOver();
-                    gameTimer.stop();
-                }
-                viewGuiController.refreshGameBackground(board.getBoardMatrix());
-            }
-        } else {
-            if (event.getEventSource() == EventSource.USER) {
-                board.getScore().add(1);
-            }
-        }
-        return new DownData(clearRow, board.getViewData());
+        record(event);
+        ClearRow clearRow = session.moveDown(event.getEventSource() == EventSource.USER);
+        return new DownData(clearRow, session.getViewData());
     }
 
     /**
@@ -129,8 +346,9 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
-        return board.getViewData();
+        record(event);
+        session.moveLeft();
+        return session.getViewData();
     }
 
     /**
@@ -140,8 +358,9 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
-        return board.getViewData();
+        record(event);
+        session.moveRight();
+        return session.getViewData();
     }
 
     /**
@@ -151,8 +370,9 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        return board.getViewData();
+        record(event);
+        session.rotate();
+        return session.getViewData();
     }
 
     /**
@@ -162,8 +382,9 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onHoldEvent(MoveEvent event) {
-        board.holdBrick();
-        return board.getViewData();
+        record(event);
+        session.hold();
+        return session.getViewData();
     }
 
     /**
@@ -173,43 +394,9 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onHardDropEvent(MoveEvent event) {
-        int distance = 0;
-        while (board.moveBrickDown()) {
-            distance++;
-        }
-        board.getScore().add(distance * 2);
-
-        if (board.isCurrentBrickBomb()) {
-            Point bombCenter = board.getBrickPosition();
-            List<Point> clearedBlocks = board.detonateBomb(bombCenter.x, bombCenter.y);
-            viewGuiController.spawnFireEffect(bombCenter.x, bombCenter.y);
-            viewGuiController.animateBlockRemoval(clearedBlocks, () -> handleBombAftermath(clearedBlocks.size()));
-        } else {
-            board.mergeBrickToBackground();
-            ClearRow clearRow = board.clearRows();
-            if (clearRow.getLinesRemoved() > 0) {
-                board.getScore().add(clearRow.getScoreBonus());
-                viewGuiController.showScoreNotification("+" + clearRow.getScoreBonus());
-                linesClearedSinceSpeedUp += clearRow.getLinesRemoved();
-                if (MenuController.getSelectedLevelType() == GameLevel.LevelType.TYPE_C_OBSTACLES) {
-                    board.getBrickGenerator().incrementPowerUpProgress(clearRow.getLinesRemoved());
-                    viewGuiController.updatePowerUpProgressBar(board.getBrickGenerator().getPowerUpProgress() / 5.0);
-                }
-                // Speed Curve Mode: Increase speed every 2 lines
-                if (MenuController.getSelectedLevelType() == GameLevel.LevelType.TYPE_A_SPEED_CURVE && linesClearedSinceSpeedUp >= 2) {
-                    dropInterval *= 0.75;
-                    viewGuiController.showSpeedNotification("Speed Up!");
-                    linesClearedSinceSpeedUp = 0;
-                }
-            }
-            if (board.createNewBrick()) {
-                board.getScore().updateHighScore();
-                viewGuiController.gameOver();
-                gameTimer.stop();
-            }
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        }
-        return new DownData(null, board.getViewData());
+        record(event);
+        session.hardDrop();
+        return new DownData(null, session.getViewData());
     }
 
     /**
@@ -217,41 +404,122 @@ public class GameController implements InputEventListener {
      */
     @Override
     public void createNewGame() {
-        board.newGame();
-        // Obstacle Mode: Create a pyramid at the start of a new game
-        if (MenuController.getSelectedLevelType() == GameLevel.LevelType.TYPE_C_OBSTACLES) {
-            board.createPyramidObstacle();
-            viewGuiController.setPowerUpContainerVisibility(true);
-        } else {
-            viewGuiController.setPowerUpContainerVisibility(false);
-        }
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        viewGuiController.refreshBrick(board.getViewData());
-        dropInterval = 1_000_000_000;
-        linesClearedSinceSpeedUp = 0;
+        gameClock.execute(this::startNewGame);
+    }
+
+    /**
+     * Resets the session and the view for a new game and restarts the clock.
+     */
+    private void startNewGame() {
+        session.newGame();
+        viewGuiController.setPowerUpContainerVisibility(isObstacleMode());
+        viewGuiController.refreshBrick(session.getViewData());
         viewGuiController.updatePowerUpProgressBar(0);
-        lastUpdate = System.nanoTime(); // Reset timer for new game
-        gameTimer.start();
+        startRecording(System.nanoTime());
+        startGameLoop();
+    }
+
+    /**
+     * Stops the ticks while the game is paused, and resumes them without catching up on the pause.
+     * @param paused true to pause, false to resume.
+     */
+    @Override
+    public void setPaused(boolean paused) {
+        gameClock.execute(() -> {
+            if (paused) {
+                gameClock.stop();
+                // Holds the brick where it is instead of letting the view move it on
+                viewGuiController.interpolateBrick(session.getFallOffset(timestep.getTickFraction()), 0);
+            } else if (!session.isGameOver()) {
+                startGameLoop();
+            }
+        });
+    }
+
+    /**
+     * Saves the unfinished game, stops the clock and the recording, and closes the view and the clock.
+     */
+    @Override
+    public void leaveGame() {
+        gameClock.execute(() -> {
+            saveGame(true);
+            gameClock.stop();
+            stopRecording();
+            viewGuiController.close();
+            gameClock.close();
+        });
+    }
+
+    /**
+     * Redraws the board rows that changed since the last redraw.
+     */
+    @Override
+    public void onBoardChanged() {
+        changedRows.clear();
+        session.getBoard().drainChangedRows(changedRows);
+        viewGuiController.refreshGameBackground(session.getBoard().getBoardMatrix(), changedRows);
+        saveGame(false);
+    }
+
+    /**
+     * Redraws the preview, which happens only when the queue of upcoming bricks shifted.
+     */
+    @Override
+    public void onPreviewChanged() {
+        viewGuiController.refreshPreview(session.getBoard().getBrickGenerator().getPreviewShapes());
+    }
+
+    @Override
+    public void onLinesCleared(ClearRow clearRow) {
+        viewGuiController.showScoreNotification("+" + clearRow.getScoreBonus());
+    }
+
+    @Override
+    public void onSpeedUp() {
+        viewGuiController.showSpeedNotification("Speed Up!");
+    }
+
+    @Override
+    public void onPowerUpProgress(int progress) {
+        viewGuiController.updatePowerUpProgressBar(progress / (double) RandomBrickGenerator.POWER_UP_THRESHOLD);
     }
 
     /**
-     * Handles the aftermath of a bomb detonation.
-     * @param destroyedBlocks The number of blocks destroyed by the bomb.
+     * Plays the explosion. The session finishes the detonation on its own clock, as long after as the animation lasts.
      */
-    private void handleBombAftermath(int destroyedBlocks) {
-        board.getScore().add(destroyedBlocks * 50);
-        board.handleGravity();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        ClearRow clearRow = board.clearRows();
-        if (clearRow.getLinesRemoved() > 0) {
-            board.getScore().add(clearRow.getScoreBonus());
-            viewGuiController.showScoreNotification("+" + clearRow.getScoreBonus());
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
+    @Override
+    public void onBombDetonated(Point center, List<Point> clearedBlocks, Runnable aftermath) {
+        viewGuiController.spawnFireEffect(center.x, center.y);
+        viewGuiController.animateBlockRemoval(clearedBlocks, () -> { });
+    }
+
+    @Override
+    public void onGameOver() {
+        viewGuiController.gameOver();
+        gameClock.stop();
+        stopRecording();
+        deleteSave();
+    }
+
+    /**
+     * Deletes the save file of a finished game, so it is not offered for resuming.
+     */
+    private void deleteSave() {
+        if (saveFile == null) {
+            return;
         }
-        if (board.createNewBrick()) {
-            board.getScore().updateHighScore();
-            viewGuiController.gameOver();
-            gameTimer.stop();
+        try {
+            Files.deleteIfExists(saveFile);
+        } catch (IOException e) {
+            System.err.println("Could not delete " + saveFile + ": " + e.getMessage());
         }
     }
+
+    /**
+     * Checks whether the session plays the obstacle mode, which shows the power-up bar.
+     * @return true for the obstacle mode, false otherwise.
+     */
+    private boolean isObstacleMode() {
+        return session.getLevelType() == GameLevel.LevelType.TYPE_C_OBSTACLES;
+    }
 }
@@ -9,6 +9,13 @@ import com.comp2042.view.ViewData;
  */
 public interface InputEventListener {
 
+    /**
+     * Called for a player's input, which the listener applies and draws on its own thread.
+     * The other handlers return the new brick to the caller instead, on the caller's thread.
+     * @param event The move event.
+     */
+    void onInput(MoveEvent event);
+
     /**
      * Called when a "down" event occurs.
      * @param event The move event.
@@ -55,4 +62,15 @@ public interface InputEventListener {
      * Called when a new game is created.
      */
     void createNewGame();
+
+    /**
+     * Called when the player leaves the running game for the main menu.
+     */
+    void leaveGame();
+
+    /**
+     * Called when the game is paused or resumed.
+     * @param paused true when the game is paused, false when it resumes.
+     */
+    void setPaused(boolean paused);
 }
@@ -1,5 +1,7 @@
 package com.comp2042.controller;
 
+import com.comp2042.logic.GameState;
+import com.comp2042.logic.SavedGame;
 import com.comp2042.model.GameLevel;
 import com.comp2042.model.LeaderboardManager;
 import com.comp2042.model.ScoreEntry;
@@ -25,6 +27,7 @@ import javafx.scene.shape.Shape;
 import javafx.stage.Stage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -42,6 +45,7 @@ public class MenuController {
     @FXML private VBox mainMenuVBox;
     @FXML private VBox helpPane;
     @FXML private VBox levelSelectionVBox;
+    @FXML private Button continueButton;
     @FXML private Button playButton;
     @FXML private Button quitButton;
     @FXML private Button leaderboardButton;
@@ -79,6 +83,9 @@ public class MenuController {
         playMenuMusic();
         leaderboardManager = new LeaderboardManager();
         leaderboardManager.loadScores();
+        boolean hasSavedGame = Files.exists(SavedGame.DEFAULT_FILE);
+        continueButton.setVisible(hasSavedGame);
+        continueButton.setManaged(hasSavedGame);
     }
 
     /**
@@ -244,6 +251,34 @@ public class MenuController {
      * @param event The action event.
      */
     private void onNewGame(ActionEvent event) {
+        showGame(event, null);
+    }
+
+    /**
+     * Resumes the saved game.
+     * @param event The action event.
+     */
+    @FXML
+    private void onContinue(ActionEvent event) {
+        GameState saved;
+        try {
+            saved = SavedGame.read(SavedGame.DEFAULT_FILE);
+        } catch (IOException e) {
+            System.out.println("ERROR: Could not load the saved game: " + e.getMessage());
+            continueButton.setVisible(false);
+            continueButton.setManaged(false);
+            return;
+        }
+        selectedLevelType = saved.getLevelType();
+        showGame(event, saved);
+    }
+
+    /**
+     * Switches to the game scene.
+     * @param event The action event.
+     * @param saved The saved game to resume, or null for a new game.
+     */
+    private void showGame(ActionEvent event, GameState saved) {
         stopMenuMusic(); // Stop music before starting game
         try {
             // Load the Game Layout
@@ -252,7 +287,11 @@ public class MenuController {
 
             // Initialize the Game Logic
             com.comp2042.view.GuiController guiController = loader.getController();
-            new GameController(guiController);
+            if (saved != null) {
+                new GameController(guiController, saved);
+            } else {
+                new GameController(guiController);
+            }
 
             // Switch the Scene
             Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
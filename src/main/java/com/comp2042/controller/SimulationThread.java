@@ -0,0 +1,120 @@
+package com.comp2042.controller;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link GameClock} with a thread of its own, the only thread that touches the game once it has started.
+ * <p>
+ * Other threads hand it work through {@link #execute(Runnable)}: the command goes into a lock-free queue and
+ * the thread is unparked, so an input is applied as soon as it arrives, not at the next frame. Between
+ * commands the thread sleeps until the next frame is due and then calls the frame handler. After each
+ * batch of commands and frames it runs the batch hook once, which is where the view publishes what the batch
+ * changed; the JavaFX thread never waits for the simulation, and the simulation never waits for a pulse.
+ */
+public final class SimulationThread implements GameClock {
+
+    private final ConcurrentLinkedQueue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final long frameNanos;
+    private final Runnable afterBatch;
+    private volatile LongConsumer frameHandler;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new SimulationThread. The thread starts with the first command or {@link #start(LongConsumer)},
+     * whichever comes first.
+     * @param framesPerSecond How often the frame handler is called while the clock runs.
+     * @param afterBatch Run on the thread after every batch of commands and frames.
+     */
+    public SimulationThread(int framesPerSecond, Runnable afterBatch) {
+        if (framesPerSecond < 1) {
+            throw new IllegalArgumentException("Frame rate must be at least 1: " + framesPerSecond);
+        }
+        frameNanos = 1_000_000_000L / framesPerSecond;
+        this.afterBatch = afterBatch;
+        thread = new Thread(this::run, "game-simulation");
+        thread.setDaemon(true);
+    }
+
+    @Override
+    public void start(LongConsumer tick) {
+        frameHandler = tick;
+        wake();
+    }
+
+    @Override
+    public void stop() {
+        frameHandler = null;
+    }
+
+    /**
+     * Queues a command for the simulation thread. Commands run in the order they were queued,
+     * also while the clock is stopped. Never blocks.
+     * @param command The command.
+     */
+    @Override
+    public void execute(Runnable command) {
+        commands.add(command);
+        wake();
+    }
+
+    /**
+     * Ends the thread after the batch it is in, or the next one if it sleeps. Queued commands still run first.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Starts the thread if it has not started yet, or wakes it up to look at its queue and its frame handler.
+     */
+    private void wake() {
+        if (started.compareAndSet(false, true)) {
+            thread.start();
+        } else {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Checks whether the caller is the simulation thread.
+     * @return true on the simulation thread, false otherwise.
+     */
+    public boolean isSimulationThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    private void run() {
+        long nextFrame = System.nanoTime();
+        while (true) {
+            Runnable command;
+            while ((command = commands.poll()) != null) {
+                command.run();
+            }
+            LongConsumer handler = frameHandler;
+            long now = System.nanoTime();
+            if (handler != null && now - nextFrame >= 0) {
+                handler.accept(now);
+                // Frames keep to a fixed grid, but skip ahead instead of bursting after a stall or a pause
+                nextFrame = now - nextFrame > frameNanos ? now + frameNanos : nextFrame + frameNanos;
+            }
+            afterBatch.run();
+            if (closed) {
+                return;
+            }
+            if (commands.isEmpty()) {
+                if (frameHandler != null) {
+                    LockSupport.parkNanos(this, nextFrame - System.nanoTime());
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+        }
+    }
+}
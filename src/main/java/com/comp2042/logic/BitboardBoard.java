@@ -0,0 +1,479 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceCatalog;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.events.ClearRow;
+import com.comp2042.view.ViewData;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A Tetris game board that stores occupancy as bitmasks, packed 64 columns to a {@code long} word.
+ * Bit {@code j % 64} of word {@code j / 64} of a row is set when column {@code j} is filled, and the words of
+ * all rows sit in one flat array. The colors shown by the view are kept in a separate color plane, so
+ * collision, merge and full-row detection only touch the words: a piece spans at most two words of a row,
+ * and a row is full when each of its words equals the full-word mask, whatever the width.
+ * The row masks of every piece rotation come precomputed from the {@link com.comp2042.logic.bricks.PieceCatalog}.
+ * The rules are the same as {@link SimpleBoard}, and both boards produce identical results for the same bricks.
+ */
+public class BitboardBoard implements Board {
+
+    /**
+     * The widest board supported, four words per row.
+     */
+    public static final int MAX_WIDTH = 4 * Long.SIZE;
+
+    private final int width;
+    private final int height;
+    private final int words;
+    private final long[] fullRow;
+    private final RandomBrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final int[] clearedScratch;
+    private final int[][] spareRows;
+    private final BitSet changedRows;
+    private long[] rows;
+    private int[][] colors;
+    private int currentX;
+    private int currentY;
+    private Brick heldBrick;
+    private boolean canHold = true;
+
+    /**
+     * Constructs a new BitboardBoard.
+     * @param width The width of the board, at most {@link #MAX_WIDTH}.
+     * @param height The height of the board.
+     */
+    public BitboardBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new BitboardBoard fed by the given brick generator.
+     * @param width The width of the board, at most {@link #MAX_WIDTH}.
+     * @param height The height of the board.
+     * @param brickGenerator The generator supplying the bricks.
+     */
+    public BitboardBoard(int width, int height, RandomBrickGenerator brickGenerator) {
+        if (width <= 0 || width > MAX_WIDTH) {
+            throw new IllegalArgumentException("Board width must be between 1 and " + MAX_WIDTH + ": " + width);
+        }
+        this.width = width;
+        this.height = height;
+        this.words = (width + Long.SIZE - 1) / Long.SIZE;
+        this.fullRow = new long[words];
+        Arrays.fill(fullRow, -1L);
+        if (width % Long.SIZE != 0) {
+            fullRow[words - 1] = (1L << width) - 1;
+        }
+        this.brickGenerator = brickGenerator;
+        this.brickRotator = new BrickRotator();
+        clearedScratch = new int[height];
+        spareRows = new int[height][];
+        changedRows = new BitSet(height);
+        rows = new long[height * words];
+        colors = new int[height][width];
+    }
+
+    /**
+     * Checks whether a piece row mask, placed with its first column at {@code x}, overlaps a board row.
+     * The mask is at most four columns wide, so it covers one word or straddles two.
+     * @param row The board row.
+     * @param mask The piece row mask.
+     * @param x The board column of the mask's first column, at least -3.
+     * @return true if a cell is already filled, false otherwise.
+     */
+    private boolean overlaps(int row, long mask, int x) {
+        int base = row * words;
+        if (x < 0) {
+            return (rows[base] & (mask >>> -x)) != 0;
+        }
+        int word = x >>> 6;
+        int bit = x & (Long.SIZE - 1);
+        if ((rows[base + word] & (mask << bit)) != 0) {
+            return true;
+        }
+        return bit != 0 && word + 1 < words && (rows[base + word + 1] & (mask >>> (Long.SIZE - bit))) != 0;
+    }
+
+    /**
+     * Fills the cells of a piece row mask, placed with its first column at {@code x}, in a board row.
+     */
+    private void fill(int row, long mask, int x) {
+        int base = row * words;
+        if (x < 0) {
+            rows[base] |= mask >>> -x;
+            return;
+        }
+        int word = x >>> 6;
+        int bit = x & (Long.SIZE - 1);
+        rows[base + word] |= mask << bit;
+        if (bit != 0 && word + 1 < words) {
+            rows[base + word + 1] |= mask >>> (Long.SIZE - bit);
+        }
+    }
+
+    /**
+     * Checks whether every column of a row is filled.
+     */
+    private boolean isFull(int row) {
+        int base = row * words;
+        for (int w = 0; w < words; w++) {
+            if (rows[base + w] != fullRow[w]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rebuilds the words of a row from the color plane.
+     */
+    private void rebuildRow(int row) {
+        int base = row * words;
+        Arrays.fill(rows, base, base + words, 0);
+        MatrixOperations.packRow(colors[row], rows, base);
+    }
+
+    /**
+     * Checks whether the current brick, in the given rotation, collides at the given position.
+     * A collision is either an occupied cell or a cell outside the board.
+     * @param rotation The rotation index of the current brick.
+     * @param x The x-coordinate of the brick.
+     * @param y The y-coordinate of the brick.
+     * @return true if there is a collision, false otherwise.
+     */
+    private boolean collides(int rotation, int x, int y) {
+        PieceShape shape = brickRotator.getPieceShape(rotation);
+        if (x + shape.getMinColumn() < 0 || x + shape.getMaxColumn() >= width) {
+            return true;
+        }
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+            long mask = shape.getRowMask(i);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + i;
+            if (row < 0 || row >= height || overlaps(row, mask, x)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        if (collides(brickRotator.getCurrentShapeIndex(), currentX, currentY + 1)) {
+            return false;
+        }
+        currentY++;
+        return true;
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        if (collides(brickRotator.getCurrentShapeIndex(), currentX - 1, currentY)) {
+            return false;
+        }
+        currentX--;
+        return true;
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        if (collides(brickRotator.getCurrentShapeIndex(), currentX + 1, currentY)) {
+            return false;
+        }
+        currentX++;
+        return true;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextRotation = brickRotator.getNextShapeIndex();
+        if (collides(nextRotation, currentX, currentY)) {
+            return false;
+        }
+        brickRotator.setCurrentShape(nextRotation);
+        return true;
+    }
+
+    /**
+     * Creates a new brick at the top of the board. A new brick may always be held.
+     * @return true if the new brick overlaps with existing blocks (game over), false otherwise.
+     */
+    @Override
+    public boolean createNewBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(currentBrick);
+        currentX = (width - brickRotator.getPieceShape(0).getColumns()) / 2;
+        currentY = 0;
+        canHold = true;
+        return collides(0, currentX, currentY);
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        return colors;
+    }
+
+    @Override
+    public BoardSnapshot getBoardSnapshot() {
+        return BoardSnapshot.of(colors);
+    }
+
+    @Override
+    public void drainChangedRows(BitSet target) {
+        target.or(changedRows);
+        changedRows.clear();
+    }
+
+    @Override
+    public ViewData getViewData() {
+        int[][] holdBrickData = heldBrick != null ? heldBrick.getPiece().getShape(0).getMatrix() : null;
+        return new ViewData(brickRotator.getCurrentShape(), currentX, currentY, brickGenerator.getPreviewShapes(),
+                getGhostYPosition(), holdBrickData);
+    }
+
+    /**
+     * Merges the current brick into the board. If the brick is a bomb, it detonates.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        if (isCurrentBrickBomb()) {
+            Point bombCenter = getBombCenter();
+            detonateBomb(bombCenter.x, bombCenter.y);
+            return;
+        }
+        PieceShape shape = brickRotator.getPieceShape(brickRotator.getCurrentShapeIndex());
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+            fill(currentY + i, shape.getRowMask(i), currentX);
+        }
+        MatrixOperations.mergeInPlace(colors, shape, currentX, currentY);
+        changedRows.set(currentY + shape.getMinRow(), currentY + shape.getMaxRow() + 1);
+    }
+
+    /**
+     * Clears completed rows. The color rows above move down by reference and the few words of each row
+     * are copied, and the color rows of the cleared lines are wiped and reused at the top.
+     * @return A {@link ClearRow} object with the number and indices of the cleared rows.
+     */
+    @Override
+    public ClearRow clearRows() {
+        int target = height - 1;
+        int linesRemoved = 0;
+        for (int i = height - 1; i >= 0; i--) {
+            if (isFull(i)) {
+                spareRows[linesRemoved] = colors[i];
+                clearedScratch[linesRemoved++] = i;
+                continue;
+            }
+            if (target != i) {
+                System.arraycopy(rows, i * words, rows, target * words, words);
+                colors[target] = colors[i];
+            }
+            target--;
+        }
+        Arrays.fill(rows, 0, (target + 1) * words, 0);
+        for (int i = target; i >= 0; i--) {
+            colors[i] = spareRows[i];
+            spareRows[i] = null;
+            Arrays.fill(colors[i], 0);
+        }
+        if (linesRemoved > 0) {
+            changedRows.set(0, clearedScratch[0] + 1);
+        }
+        int[] clearedRows = new int[linesRemoved];
+        for (int k = 0; k < linesRemoved; k++) {
+            clearedRows[k] = clearedScratch[linesRemoved - 1 - k];
+        }
+        int scoreBonus = 50 * linesRemoved * linesRemoved;
+        return new ClearRow(linesRemoved, colors, scoreBonus, clearedRows);
+    }
+
+    /**
+     * Resets the board for a new game.
+     */
+    @Override
+    public void newGame() {
+        rows = new long[height * words];
+        colors = new int[height][width];
+        changedRows.set(0, height);
+        heldBrick = null;
+        canHold = true;
+        brickGenerator.resetPowerUpProgress();
+        createNewBrick();
+    }
+
+    @Override
+    public int getGhostYPosition() {
+        int ghostY = currentY;
+        while (!collides(brickRotator.getCurrentShapeIndex(), currentX, ghostY + 1)) {
+            ghostY++;
+        }
+        return ghostY;
+    }
+
+    @Override
+    public int hardDrop() {
+        int ghostY = getGhostYPosition();
+        int distance = ghostY - currentY;
+        currentY = ghostY;
+        return distance;
+    }
+
+    /**
+     * Holds the current brick or swaps with the held brick.
+     */
+    @Override
+    public void holdBrick() {
+        if (!canHold) {
+            return;
+        }
+        if (heldBrick == null) {
+            heldBrick = brickRotator.getBrick();
+            createNewBrick();
+        } else {
+            Brick tmp = brickRotator.getBrick();
+            brickRotator.setBrick(heldBrick);
+            heldBrick = tmp;
+            currentX = width / 2 - 1;
+            currentY = 0;
+        }
+        canHold = false;
+    }
+
+    /**
+     * Creates a pyramid-shaped obstacle at the bottom of the board, sized like {@link SimpleBoard}'s.
+     */
+    @Override
+    public void createPyramidObstacle() {
+        int pyramidHeight = SimpleBoard.pyramidHeight(width, height);
+        GameRandom random = brickGenerator.getObstacleRandom();
+        for (int i = 0; i < pyramidHeight; i++) {
+            for (int j = 0; j < i * 2 + 1; j++) {
+                int x = (width / 2) - i + j - 1;
+                int y = height - pyramidHeight + i;
+                if (x >= 0 && x < width) {
+                    // Assign a random color (1-7) to each block
+                    colors[y][x] = random.nextInt(7) + 1;
+                    rows[y * words + (x >>> 6)] |= 1L << x;
+                }
+            }
+        }
+        changedRows.set(height - pyramidHeight, height);
+    }
+
+    @Override
+    public boolean isCurrentBrickBomb() {
+        return brickRotator.getBrick().isBomb();
+    }
+
+    @Override
+    public Point getBrickPosition() {
+        return new Point(currentX, currentY);
+    }
+
+    @Override
+    public int getBrickRotation() {
+        return brickRotator.getCurrentShapeIndex();
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.getBrick();
+    }
+
+    @Override
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    @Override
+    public boolean canHoldBrick() {
+        return canHold;
+    }
+
+    @Override
+    public void restoreState(GameState state) {
+        BoardSnapshot cells = state.getCells();
+        if (cells.getWidth() != width || cells.getHeight() != height) {
+            throw new IllegalArgumentException("Saved board is " + cells.getWidth() + "x" + cells.getHeight()
+                    + ", this board is " + width + "x" + height);
+        }
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                colors[i][j] = cells.get(i, j);
+            }
+            rebuildRow(i);
+        }
+        changedRows.set(0, height);
+        brickRotator.setBrick(PieceCatalog.byId(state.getBrickId()));
+        brickRotator.setCurrentShape(state.getRotation());
+        currentX = state.getX();
+        currentY = state.getY();
+        heldBrick = state.getHeldBrickId() != GameState.NO_BRICK ? PieceCatalog.byId(state.getHeldBrickId()) : null;
+        canHold = state.canHold();
+    }
+
+    @Override
+    public List<Point> detonateBomb(int centerX, int centerY) {
+        List<Point> clearedBlocks = new ArrayList<>();
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                int x = centerX + j;
+                int y = centerY + i;
+
+                if (y >= 0 && y < height && x >= 0 && x < width) {
+                    if (colors[y][x] != 0) {
+                        clearedBlocks.add(new Point(x, y));
+                    }
+                    colors[y][x] = 0;
+                    rows[y * words + (x >>> 6)] &= ~(1L << x);
+                    changedRows.set(y);
+                }
+            }
+        }
+        return clearedBlocks;
+    }
+
+    /**
+     * Finds the center of the bomb brick.
+     * @return The center point of the bomb.
+     */
+    private Point getBombCenter() {
+        int[][] shape = brickRotator.getCurrentShape();
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] == SimpleBoard.BOMB_ID) {
+                    return new Point(currentX + j, currentY + i);
+                }
+            }
+        }
+        return getBrickPosition(); // Fallback
+    }
+
+    /**
+     * Applies gravity to the board, causing unsupported blocks to fall.
+     * The color plane is compacted column by column and the row words are rebuilt from it.
+     */
+    @Override
+    public void handleGravity() {
+        MatrixOperations.applyGravity(colors);
+        for (int i = 0; i < height; i++) {
+            rebuildRow(i);
+        }
+        changedRows.set(0, height);
+    }
+
+    @Override
+    public RandomBrickGenerator getBrickGenerator() {
+        return brickGenerator;
+    }
+}
@@ -1,8 +1,14 @@
 package com.comp2042.logic;
 
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
 import com.comp2042.logic.events.ClearRow;
 import com.comp2042.view.ViewData;
 
+import java.awt.Point;
+import java.util.BitSet;
+import java.util.List;
+
 /**
  * Defines the contract for a Tetris game board.
  * This interface outlines the core functionalities required for managing the game's state,
@@ -41,10 +47,26 @@ public interface Board {
 
     /**
      * Gets the current state of the game board as a matrix.
+     * The matrix is the board's live storage: it is updated in place as the game goes on and must not be modified.
+     * Callers that keep the board beyond the current event should take a {@link #getBoardSnapshot()} instead.
      * @return A 2D array representing the board.
      */
     int[][] getBoardMatrix();
 
+    /**
+     * Takes an immutable copy of the current board, for readers such as replays or AI search
+     * that must not see later changes.
+     * @return A snapshot of the board.
+     */
+    BoardSnapshot getBoardSnapshot();
+
+    /**
+     * Adds the rows that changed since the last call to the given set, then forgets them.
+     * A renderer uses this to redraw only the affected rows instead of the whole board.
+     * @param changedRows The set that receives the changed row indices.
+     */
+    void drainChangedRows(BitSet changedRows);
+
     /**
      * Gets the data required for the view to render the current game state.
      * @return A {@link ViewData} object.
@@ -62,12 +84,6 @@ public interface Board {
      */
     ClearRow clearRows();
 
-    /**
-     * Gets the current score.
-     * @return The {@link Score} object.
-     */
-    Score getScore();
-
     /**
      * Starts a new game.
      */
@@ -79,6 +95,12 @@ public interface Board {
      */
     int getGhostYPosition();
 
+    /**
+     * Drops the current brick straight down to its ghost position.
+     * @return The number of rows the brick dropped.
+     */
+    int hardDrop();
+
     /**
      * Holds the current brick, allowing the player to use it later.
      */
@@ -93,4 +115,61 @@ public interface Board {
      * Handles the gravity effect, pulling bricks down.
      */
     void handleGravity();
-}
\ No newline at end of file
+
+    /**
+     * Checks if the current brick is a bomb.
+     * @return true if the current brick is a bomb, false otherwise.
+     */
+    boolean isCurrentBrickBomb();
+
+    /**
+     * Gets the position of the current brick.
+     * @return The current brick's position.
+     */
+    Point getBrickPosition();
+
+    /**
+     * Gets the rotation index of the current brick.
+     * @return The current rotation index.
+     */
+    int getBrickRotation();
+
+    /**
+     * Gets the brick that is currently falling.
+     * @return The current brick.
+     */
+    Brick getCurrentBrick();
+
+    /**
+     * Gets the brick that is being held.
+     * @return The held brick, or null if no brick is held.
+     */
+    Brick getHeldBrick();
+
+    /**
+     * Checks whether the current brick may still be held.
+     * @return true if holding is allowed, false after a hold until the next brick locks.
+     */
+    boolean canHoldBrick();
+
+    /**
+     * Replaces the cells, the falling brick and the held brick with those of a saved game.
+     * The brick generator is restored separately. Every row is reported as changed.
+     * @param state The saved game, taken on a board of the same size.
+     */
+    void restoreState(GameState state);
+
+    /**
+     * Detonates a bomb at the specified center coordinates, clearing a 3x3 area.
+     * @param centerX The x-coordinate of the bomb's center.
+     * @param centerY The y-coordinate of the bomb's center.
+     * @return A list of points representing the cleared blocks.
+     */
+    List<Point> detonateBomb(int centerX, int centerY);
+
+    /**
+     * Gets the brick generator feeding this board.
+     * @return The brick generator.
+     */
+    RandomBrickGenerator getBrickGenerator();
+}
@@ -0,0 +1,90 @@
+package com.comp2042.logic;
+
+import java.util.Arrays;
+
+/**
+ * An immutable copy of the board cells at one point in time.
+ * Boards merge and clear in place, so anything that keeps the board for later, such as a replay
+ * or an AI search, takes a snapshot instead of holding on to the live matrix.
+ */
+public final class BoardSnapshot {
+
+    private final int width;
+    private final int height;
+    private final int[] cells;
+
+    private BoardSnapshot(int width, int height, int[] cells) {
+        this.width = width;
+        this.height = height;
+        this.cells = cells;
+    }
+
+    /**
+     * Copies a board matrix into a new snapshot.
+     * @param matrix The board matrix, top row first.
+     * @return The snapshot.
+     */
+    public static BoardSnapshot of(int[][] matrix) {
+        int height = matrix.length;
+        int width = height == 0 ? 0 : matrix[0].length;
+        int[] cells = new int[width * height];
+        for (int i = 0; i < height; i++) {
+            System.arraycopy(matrix[i], 0, cells, i * width, width);
+        }
+        return new BoardSnapshot(width, height, cells);
+    }
+
+    /**
+     * Gets the width of the board.
+     * @return The number of columns.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the board.
+     * @return The number of rows.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the value of a cell.
+     * @param row The row of the cell.
+     * @param column The column of the cell.
+     * @return The value of the cell, 0 if it is empty.
+     */
+    public int get(int row, int column) {
+        return cells[row * width + column];
+    }
+
+    /**
+     * Copies the snapshot back into a board matrix.
+     * @return A new 2D array with the cells of the snapshot.
+     */
+    public int[][] toMatrix() {
+        int[][] matrix = new int[height][width];
+        for (int i = 0; i < height; i++) {
+            System.arraycopy(cells, i * width, matrix[i], 0, width);
+        }
+        return matrix;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BoardSnapshot other)) {
+            return false;
+        }
+        return width == other.width && height == other.height && Arrays.equals(cells, other.cells);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(cells);
+    }
+}
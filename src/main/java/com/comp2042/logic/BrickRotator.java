@@ -2,14 +2,18 @@ package com.comp2042.logic;
 
 import com.comp2042.model.NextShapeInfo;
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.Piece;
+import com.comp2042.logic.bricks.PieceShape;
 
 /**
  * Handles the rotation of a Tetris brick.
  * This class keeps track of the current shape of a brick and provides methods to get the next rotated shape.
+ * The shapes come from the brick's shared {@link Piece}, so reading a rotation never copies or allocates.
  */
 public class BrickRotator {
 
     private Brick brick;
+    private Piece piece;
     private int currentShape = 0;
 
     /**
@@ -17,9 +21,16 @@ public class BrickRotator {
      * @return A {@link NextShapeInfo} object containing the next shape and its position.
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextShapeIndex();
+        return new NextShapeInfo(getShape(nextShape), nextShape);
+    }
+
+    /**
+     * Gets the index of the shape the brick would have after a rotation.
+     * @return The index of the next shape.
+     */
+    public int getNextShapeIndex() {
+        return (currentShape + 1) % piece.getRotationCount();
     }
 
     /**
@@ -27,7 +38,34 @@ public class BrickRotator {
      * @return A 2D array representing the current shape.
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return getShape(currentShape);
+    }
+
+    /**
+     * Gets the shape of the brick for a given rotation.
+     * The returned array is shared and must not be modified.
+     * @param index The index of the shape.
+     * @return A 2D array representing the shape.
+     */
+    public int[][] getShape(int index) {
+        return piece.getShape(index).getMatrix();
+    }
+
+    /**
+     * Gets the precomputed shape of the brick for a given rotation.
+     * @param index The index of the shape.
+     * @return The precomputed shape.
+     */
+    public PieceShape getPieceShape(int index) {
+        return piece.getShape(index);
+    }
+
+    /**
+     * Gets the index of the current shape.
+     * @return The index of the current shape.
+     */
+    public int getCurrentShapeIndex() {
+        return currentShape;
     }
 
     /**
@@ -44,6 +82,7 @@ public class BrickRotator {
      */
     public void setBrick(Brick brick) {
         this.brick = brick;
+        this.piece = brick.getPiece();
         currentShape = 0;
     }
 
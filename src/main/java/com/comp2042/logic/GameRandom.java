@@ -0,0 +1,124 @@
+package com.comp2042.logic;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The source of randomness for game state: the SplitMix64 generator behind {@link java.util.SplittableRandom}.
+ * It is fast, statistically strong for a game, and splits into independent streams, so one seed per game
+ * can feed the bag shuffles and the obstacle colors without one stream shifting the other.
+ * Unlike {@code SplittableRandom} its state can be read and restored, so a saved game resumes the exact sequence.
+ * Instances are not thread-safe.
+ */
+public final class GameRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+    private final long gamma;
+
+    /**
+     * Constructs a new GameRandom.
+     * @param seed The seed; equal seeds produce equal sequences.
+     */
+    public GameRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private GameRandom(long state, long gamma) {
+        this.state = state;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Recreates a generator from a state saved with {@link #getState()} and {@link #getGamma()}.
+     * @param state The saved state.
+     * @param gamma The saved gamma, which must be odd.
+     * @return A generator that continues the saved sequence.
+     */
+    public static GameRandom restore(long state, long gamma) {
+        if ((gamma & 1) == 0) {
+            throw new IllegalArgumentException("Gamma must be odd: " + gamma);
+        }
+        return new GameRandom(state, gamma);
+    }
+
+    /**
+     * Picks a fresh seed for a game that was not given one.
+     * @return A random seed.
+     */
+    public static long newSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Gets the next pseudorandom long.
+     * @return The next value.
+     */
+    public long nextLong() {
+        return mix64(state += gamma);
+    }
+
+    /**
+     * Gets the next pseudorandom int between 0 (inclusive) and a bound (exclusive), without modulo bias.
+     * @param bound The upper bound, at least 1.
+     * @return The next value.
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        int r = mix32(state += gamma);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(state += gamma) >>> 1) {
+            // Reject the values that would make the low results more likely
+        }
+        return r;
+    }
+
+    /**
+     * Splits off a new generator whose sequence is independent of this one's.
+     * This generator advances by two values.
+     * @return The new generator.
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong(), mixGamma(state += gamma));
+    }
+
+    /**
+     * Gets the current state, for saving.
+     * @return The state.
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Gets the gamma, the constant the state advances by, for saving.
+     * @return The gamma.
+     */
+    public long getGamma() {
+        return gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62A9D9ED799705F5L;
+        return (int) (((z ^ (z >>> 28)) * 0xCB24D0A5C88C35B3L) >>> 32);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return n < 24 ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+}
@@ -0,0 +1,575 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.events.ClearRow;
+import com.comp2042.model.BoardSize;
+import com.comp2042.model.GameLevel;
+import com.comp2042.view.ViewData;
+
+import java.awt.Point;
+import java.util.List;
+
+/**
+ * One game of Tetris, independent of JavaFX.
+ * A session owns the board, its brick generator, the score and the level type, and applies the rules of
+ * that level: scoring, the speed curve, the obstacle pyramid, bombs and game over.
+ * It does not need the FX toolkit, so many sessions can run side by side in a headless JVM.
+ * Views follow the game through a {@link GameSessionListener}.
+ * <p>
+ * Time only passes through {@link #tick()}, one fixed step of 1/{@link #TICKS_PER_SECOND} of a second.
+ * Gravity, the lock delay and the bomb aftermath are counted in ticks, so a game advances the same way
+ * however irregular the frames that drive it are.
+ */
+public class GameSession {
+
+    /**
+     * The width of the standard board.
+     */
+    public static final int DEFAULT_WIDTH = BoardSize.STANDARD.getWidth();
+
+    /**
+     * The height of the standard board, including the two hidden rows at the top.
+     */
+    public static final int DEFAULT_HEIGHT = BoardSize.STANDARD.getHeight();
+
+    /**
+     * The time between two gravity steps at the start of a game, in nanoseconds.
+     */
+    public static final double INITIAL_DROP_INTERVAL = 1_000_000_000;
+
+    /**
+     * The number of ticks per second of game time.
+     */
+    public static final int TICKS_PER_SECOND = 60;
+
+    /**
+     * The number of ticks a brick rests on the stack before gravity locks it, half a second.
+     */
+    public static final int LOCK_DELAY_TICKS = 30;
+
+    /**
+     * The number of ticks between a bomb's explosion and its aftermath, as long as the explosion animation.
+     */
+    public static final int BOMB_AFTERMATH_TICKS = 30;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final GameSessionListener NO_LISTENER = new GameSessionListener() { };
+
+    private final GameLevel.LevelType levelType;
+    private final Board board;
+    private final Score score;
+    private GameSessionListener listener = NO_LISTENER;
+    private double dropInterval = INITIAL_DROP_INTERVAL;
+    private int linesPerSpeedUp = 2;
+    private int linesClearedSinceSpeedUp;
+    private int piecesPlaced;
+    private int previewVersion;
+    private long tickCount;
+    // Gravity progress in nanoseconds times TICKS_PER_SECOND, so a tick adds exactly one second's worth
+    private long gravityProgress;
+    private boolean grounded;
+    private int lockTicks;
+    private int aftermathTicks;
+    private Runnable pendingAftermath;
+    private boolean bombPending;
+    private boolean gameOver;
+
+    /**
+     * Constructs a new GameSession on a standard board, with high scores kept in the high score file.
+     * The game is started from a fresh random seed.
+     * @param levelType The level type to play.
+     */
+    public GameSession(GameLevel.LevelType levelType) {
+        this(levelType, GameRandom.newSeed());
+    }
+
+    /**
+     * Constructs a new GameSession on the level type's board, see {@link BoardSize#forLevel(GameLevel.LevelType)}.
+     * @param levelType The level type to play.
+     * @param seed The seed of the game; the same seed and the same inputs always play the same game.
+     */
+    public GameSession(GameLevel.LevelType levelType, long seed) {
+        this(levelType, BoardSize.forLevel(levelType), seed);
+    }
+
+    /**
+     * Constructs a new GameSession on a board of the given size. High scores are kept in the high score file
+     * on the standard board only; other sizes keep them in memory, so party boards do not mix into them.
+     * @param levelType The level type to play.
+     * @param boardSize The size of the board.
+     * @param seed The seed of the game; the same seed and the same inputs always play the same game.
+     */
+    public GameSession(GameLevel.LevelType levelType, BoardSize boardSize, long seed) {
+        this(levelType, createBoard(boardSize, new RandomBrickGenerator(levelType, seed)),
+                boardSize.isStandard() ? new Score(levelType) : new Score(levelType, HighScoreManager.inMemory()));
+    }
+
+    /**
+     * Constructs a new GameSession on the given board.
+     * The board's brick generator should be made for the same level type.
+     * @param levelType The level type to play.
+     * @param board The board to play on.
+     * @param score The score to add to.
+     */
+    public GameSession(GameLevel.LevelType levelType, Board board, Score score) {
+        this.levelType = levelType;
+        this.board = board;
+        this.score = score;
+        placeObstacles();
+        board.createNewBrick();
+        previewVersion = board.getBrickGenerator().getPreviewVersion();
+    }
+
+    /**
+     * Creates the board for a board size: a {@link SimpleBoard} for the standard board and a
+     * {@link BitboardBoard}, whose word-packed rows keep collision and line checks cheap, for any other size.
+     * @param boardSize The size of the board.
+     * @param brickGenerator The generator supplying the bricks.
+     * @return The board.
+     */
+    public static Board createBoard(BoardSize boardSize, RandomBrickGenerator brickGenerator) {
+        if (boardSize.isStandard()) {
+            return new SimpleBoard(boardSize.getWidth(), boardSize.getHeight(), brickGenerator);
+        }
+        return new BitboardBoard(boardSize.getWidth(), boardSize.getHeight(), brickGenerator);
+    }
+
+    /**
+     * Sets the listener that receives the events of this session.
+     * @param listener The listener, or null to remove it.
+     */
+    public void setListener(GameSessionListener listener) {
+        this.listener = listener != null ? listener : NO_LISTENER;
+    }
+
+    /**
+     * Sets how many cleared lines make the speed curve speed up.
+     * @param linesPerSpeedUp The number of lines, at least 1.
+     */
+    public void setLinesPerSpeedUp(int linesPerSpeedUp) {
+        if (linesPerSpeedUp < 1) {
+            throw new IllegalArgumentException("Lines per speed-up must be at least 1: " + linesPerSpeedUp);
+        }
+        this.linesPerSpeedUp = linesPerSpeedUp;
+    }
+
+    /**
+     * Restarts the game with an empty board and score, from a fresh random seed.
+     */
+    public void newGame() {
+        newGame(GameRandom.newSeed());
+    }
+
+    /**
+     * Restarts the game with an empty board and score.
+     * @param seed The seed of the new game.
+     */
+    public void newGame(long seed) {
+        board.getBrickGenerator().reseed(seed);
+        board.newGame();
+        score.reset();
+        dropInterval = INITIAL_DROP_INTERVAL;
+        linesClearedSinceSpeedUp = 0;
+        piecesPlaced = 0;
+        bombPending = false;
+        gameOver = false;
+        resetClock();
+        placeObstacles();
+        listener.onBoardChanged();
+        checkPreview();
+    }
+
+    /**
+     * Places the obstacles of the level.
+     */
+    private void placeObstacles() {
+        // Obstacle Mode: Create a pyramid at the start of a new game
+        if (levelType == GameLevel.LevelType.TYPE_C_OBSTACLES) {
+            board.createPyramidObstacle();
+        }
+    }
+
+    /**
+     * Gets the seed the current game was started from.
+     * Recording it together with the inputs is enough to replay the game.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return board.getBrickGenerator().getSeed();
+    }
+
+    /**
+     * Restarts the clock: the tick count, the gravity progress of the current brick and its lock delay.
+     */
+    public void resetClock() {
+        tickCount = 0;
+        resetGravity();
+    }
+
+    /**
+     * Gives the current brick a full drop interval before its next gravity step, and no lock delay yet.
+     */
+    private void resetGravity() {
+        gravityProgress = 0;
+        grounded = false;
+        lockTicks = 0;
+    }
+
+    /**
+     * Advances the game by one tick.
+     * Gravity moves the brick down one row per drop interval, or several rows per tick when the interval is
+     * shorter than a tick. A brick that gravity cannot move rests for {@link #LOCK_DELAY_TICKS} ticks and is
+     * then locked, unless it was moved off the edge in the meantime, in which case it falls again.
+     * While a bomb explosion is pending, the ticks count down to its aftermath instead.
+     * @return The number of gravity steps taken. Each acts exactly like {@code moveDown(false)},
+     *         so a replay that applies that many automatic down moves reproduces the tick.
+     */
+    public int tick() {
+        if (gameOver) {
+            return 0;
+        }
+        tickCount++;
+        if (bombPending) {
+            if (--aftermathTicks <= 0) {
+                pendingAftermath.run();
+            }
+            return 0;
+        }
+        int steps = 0;
+        long threshold = Math.max(1, (long) (dropInterval * TICKS_PER_SECOND));
+        gravityProgress += NANOS_PER_SECOND;
+        while (gravityProgress >= threshold) {
+            gravityProgress -= threshold;
+            if (!board.moveBrickDown()) {
+                grounded = true;
+                break;
+            }
+            grounded = false;
+            lockTicks = 0;
+            steps++;
+        }
+        if (grounded && ++lockTicks >= LOCK_DELAY_TICKS) {
+            // Locks the brick, or lets it fall if it was slid off the stack since gravity last failed
+            moveDown(false);
+            grounded = false;
+            lockTicks = 0;
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Gets how far the falling brick has moved towards the next row, for drawing it between two ticks.
+     * @param tickFraction The time since the last tick, as a fraction of a tick.
+     * @return The distance in rows, from 0 to 1; 0 if the brick cannot fall.
+     */
+    public double getFallOffset(double tickFraction) {
+        if (!isActive() || grounded || board.getGhostYPosition() <= board.getBrickPosition().y) {
+            return 0;
+        }
+        double progress = (gravityProgress + tickFraction * NANOS_PER_SECOND) / (dropInterval * TICKS_PER_SECOND);
+        return Math.min(progress, 1);
+    }
+
+    /**
+     * Gets how fast the falling brick moves towards the next row, for drawing it between two frames.
+     * @return The speed in rows per second; 0 if the brick cannot fall.
+     */
+    public double getFallSpeed() {
+        if (!isActive() || grounded || board.getGhostYPosition() <= board.getBrickPosition().y) {
+            return 0;
+        }
+        return NANOS_PER_SECOND / dropInterval;
+    }
+
+    /**
+     * Gets the number of ticks since the game started or the clock was last reset.
+     * @return The number of ticks.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Moves the brick down one row, or locks it if it cannot move.
+     * @param userInitiated true for a soft drop by the player, which scores a point per row.
+     * @return The lines cleared by the lock, or null if the brick moved, was a bomb, or nothing can move.
+     */
+    public ClearRow moveDown(boolean userInitiated) {
+        if (!isActive()) {
+            return null;
+        }
+        if (board.moveBrickDown()) {
+            if (userInitiated) {
+                score.add(1);
+            }
+            return null;
+        }
+        return lockBrick();
+    }
+
+    /**
+     * Drops the brick straight down and locks it. Each row dropped scores two points.
+     * @return The lines cleared by the lock, or null if the brick was a bomb or nothing can move.
+     */
+    public ClearRow hardDrop() {
+        if (!isActive()) {
+            return null;
+        }
+        int distance = board.hardDrop();
+        score.add(distance * 2);
+        return lockBrick();
+    }
+
+    /**
+     * Moves the brick one column to the left.
+     * @return true if the brick moved, false otherwise.
+     */
+    public boolean moveLeft() {
+        return isActive() && board.moveBrickLeft();
+    }
+
+    /**
+     * Moves the brick one column to the right.
+     * @return true if the brick moved, false otherwise.
+     */
+    public boolean moveRight() {
+        return isActive() && board.moveBrickRight();
+    }
+
+    /**
+     * Rotates the brick.
+     * @return true if the brick rotated, false otherwise.
+     */
+    public boolean rotate() {
+        return isActive() && board.rotateLeftBrick();
+    }
+
+    /**
+     * Holds the brick or swaps it with the held brick.
+     */
+    public void hold() {
+        if (isActive()) {
+            board.holdBrick();
+            checkPreview();
+        }
+    }
+
+    /**
+     * Checks whether the falling brick can be controlled, which is not the case after game over
+     * or while a bomb explosion waits for its aftermath. Inputs while inactive are ignored.
+     * @return true if the brick can be controlled, false otherwise.
+     */
+    public boolean isActive() {
+        return !gameOver && !bombPending;
+    }
+
+    /**
+     * Locks the current brick, detonating it if it is a bomb, and spawns the next brick.
+     * @return The lines cleared by the lock, or null for a bomb.
+     */
+    private ClearRow lockBrick() {
+        if (board.isCurrentBrickBomb()) {
+            detonateBomb();
+            return null;
+        }
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        if (clearRow.getLinesRemoved() > 0) {
+            score.add(clearRow.getScoreBonus());
+            listener.onLinesCleared(clearRow);
+            linesClearedSinceSpeedUp += clearRow.getLinesRemoved();
+            if (levelType == GameLevel.LevelType.TYPE_C_OBSTACLES) {
+                RandomBrickGenerator generator = board.getBrickGenerator();
+                generator.incrementPowerUpProgress(clearRow.getLinesRemoved());
+                listener.onPowerUpProgress(generator.getPowerUpProgress());
+            }
+            // Speed Curve Mode: Increase speed every few lines
+            if (levelType == GameLevel.LevelType.TYPE_A_SPEED_CURVE && linesClearedSinceSpeedUp >= linesPerSpeedUp) {
+                dropInterval *= 0.75; // 25% faster
+                listener.onSpeedUp();
+                linesClearedSinceSpeedUp = 0;
+            }
+        }
+        spawnBrick();
+        listener.onBoardChanged();
+        return clearRow;
+    }
+
+    /**
+     * Detonates the current bomb brick and hands the aftermath to the listener.
+     */
+    private void detonateBomb() {
+        Point bombCenter = board.getBrickPosition();
+        List<Point> clearedBlocks = board.detonateBomb(bombCenter.x, bombCenter.y);
+        bombPending = true;
+        aftermathTicks = BOMB_AFTERMATH_TICKS;
+        pendingAftermath = () -> finishBomb(clearedBlocks.size());
+        listener.onBombDetonated(bombCenter, clearedBlocks, pendingAftermath);
+    }
+
+    /**
+     * Handles the aftermath of a bomb detonation.
+     * @param destroyedBlocks The number of blocks destroyed by the bomb.
+     */
+    private void finishBomb(int destroyedBlocks) {
+        if (!bombPending) {
+            return;
+        }
+        bombPending = false;
+        pendingAftermath = null;
+        score.add(destroyedBlocks * 50);
+        board.handleGravity();
+        listener.onBoardChanged();
+        ClearRow clearRow = board.clearRows();
+        if (clearRow.getLinesRemoved() > 0) {
+            score.add(clearRow.getScoreBonus());
+            listener.onLinesCleared(clearRow);
+            listener.onBoardChanged();
+        }
+        spawnBrick();
+    }
+
+    /**
+     * Spawns the next brick and ends the game if it does not fit.
+     */
+    private void spawnBrick() {
+        piecesPlaced++;
+        resetGravity();
+        boolean blocked = board.createNewBrick();
+        checkPreview();
+        if (blocked) {
+            gameOver = true;
+            score.updateHighScore();
+            listener.onGameOver();
+        }
+    }
+
+    /**
+     * Copies the whole game, so that {@link #restoreState(GameState)} can continue it later.
+     * @return The game state.
+     * @throws IllegalStateException If a bomb explosion is waiting for its aftermath.
+     */
+    public GameState saveState() {
+        if (bombPending) {
+            throw new IllegalStateException("Cannot save while a bomb explosion is pending");
+        }
+        Brick held = board.getHeldBrick();
+        Point position = board.getBrickPosition();
+        return new GameState(levelType, board.getBoardSnapshot(), board.getCurrentBrick().getPiece().getId(),
+                board.getBrickRotation(), position.x, position.y,
+                held != null ? held.getPiece().getId() : GameState.NO_BRICK, board.canHoldBrick(),
+                board.getBrickGenerator().saveState(), score.getScore(), dropInterval, linesClearedSinceSpeedUp,
+                piecesPlaced, gameOver);
+    }
+
+    /**
+     * Continues a game from a state taken with {@link #saveState()}, dropping any pending bomb aftermath.
+     * The listener is told that the board changed, and the clock is reset.
+     * @param state The game state, of the same level type and board size.
+     */
+    public void restoreState(GameState state) {
+        if (state.getLevelType() != levelType) {
+            throw new IllegalArgumentException("Saved game is " + state.getLevelType() + ", this session plays " + levelType);
+        }
+        board.getBrickGenerator().restoreState(state.getGeneratorState());
+        board.restoreState(state);
+        score.set(state.getScore());
+        dropInterval = state.getDropInterval();
+        linesClearedSinceSpeedUp = state.getLinesClearedSinceSpeedUp();
+        piecesPlaced = state.getPiecesPlaced();
+        gameOver = state.isGameOver();
+        bombPending = false;
+        pendingAftermath = null;
+        resetClock();
+        listener.onBoardChanged();
+        checkPreview();
+    }
+
+    /**
+     * Tells the listener about a preview change, if the generator's preview moved since the last check.
+     */
+    private void checkPreview() {
+        int version = board.getBrickGenerator().getPreviewVersion();
+        if (version != previewVersion) {
+            previewVersion = version;
+            listener.onPreviewChanged();
+        }
+    }
+
+    /**
+     * Sets how many upcoming bricks the preview shows.
+     * @param previewDepth The number of bricks, from 1 to {@link RandomBrickGenerator#PREVIEW_CAPACITY}.
+     */
+    public void setPreviewDepth(int previewDepth) {
+        board.getBrickGenerator().setPreviewDepth(previewDepth);
+        checkPreview();
+    }
+
+    /**
+     * Gets the number of bricks locked so far in this game.
+     * @return The number of bricks.
+     */
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    /**
+     * Gets the data required for the view to render the current game state.
+     * @return A {@link ViewData} object.
+     */
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    /**
+     * Gets the board of this session.
+     * @return The board.
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the size of this session's board.
+     * @return The board size.
+     */
+    public BoardSize getBoardSize() {
+        int[][] matrix = board.getBoardMatrix();
+        return new BoardSize(matrix[0].length, matrix.length);
+    }
+
+    /**
+     * Gets the score of this session.
+     * @return The score.
+     */
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the level type of this session.
+     * @return The level type.
+     */
+    public GameLevel.LevelType getLevelType() {
+        return levelType;
+    }
+
+    /**
+     * Gets the current time between two gravity steps.
+     * @return The drop interval in nanoseconds.
+     */
+    public double getDropInterval() {
+        return dropInterval;
+    }
+
+    /**
+     * Checks whether the game has ended.
+     * @return true if the game is over, false otherwise.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
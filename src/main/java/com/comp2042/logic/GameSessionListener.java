@@ -0,0 +1,66 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.events.ClearRow;
+
+import java.awt.Point;
+import java.util.List;
+
+/**
+ * Receives the events of a {@link GameSession} that a view may want to show.
+ * Every method has an empty default, so a headless caller only overrides what it needs.
+ */
+public interface GameSessionListener {
+
+    /**
+     * Called when the board background changed, after a lock, a line clear, gravity or a new game.
+     */
+    default void onBoardChanged() {
+    }
+
+    /**
+     * Called when the preview of upcoming bricks changed: a brick was drawn from it, the game restarted or was
+     * restored, or the preview depth changed. Moving the falling brick never calls it.
+     */
+    default void onPreviewChanged() {
+    }
+
+    /**
+     * Called when locking a brick cleared lines. The score bonus has already been added.
+     * @param clearRow The cleared lines.
+     */
+    default void onLinesCleared(ClearRow clearRow) {
+    }
+
+    /**
+     * Called when the speed curve made the bricks fall faster.
+     */
+    default void onSpeedUp() {
+    }
+
+    /**
+     * Called when the power-up progress changed.
+     * @param progress The lines cleared towards the next bomb.
+     */
+    default void onPowerUpProgress(int progress) {
+    }
+
+    /**
+     * Called when a bomb exploded. The session waits for {@code aftermath} before it applies gravity,
+     * clears lines and spawns the next brick, so a view can animate the explosion first.
+     * A session driven by {@link GameSession#tick()} runs the aftermath itself after
+     * {@link GameSession#BOMB_AFTERMATH_TICKS} ticks; running it earlier is allowed and it still runs once.
+     * The default runs the aftermath straight away.
+     * @param center The center of the explosion.
+     * @param clearedBlocks The blocks the explosion removed.
+     * @param aftermath The rest of the detonation, to be run exactly once.
+     */
+    default void onBombDetonated(Point center, List<Point> clearedBlocks, Runnable aftermath) {
+        aftermath.run();
+    }
+
+    /**
+     * Called when a new brick could not be placed and the game ended.
+     */
+    default void onGameOver() {
+    }
+}
@@ -0,0 +1,203 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.GeneratorState;
+import com.comp2042.model.GameLevel;
+
+/**
+ * An immutable copy of a whole game at one point in time: the board cells, the falling brick with its
+ * rotation and offset, the held brick, the brick generator and the session's score and speed.
+ * A {@link GameSession} restored from it continues exactly as the original would have,
+ * which is what replay keyframes and saved games are made of.
+ * Bricks are stored as piece ids, see {@link com.comp2042.logic.bricks.PieceCatalog#byId(int)}.
+ */
+public final class GameState {
+
+    /**
+     * The held brick id when no brick is held.
+     */
+    public static final int NO_BRICK = 0;
+
+    private final GameLevel.LevelType levelType;
+    private final BoardSnapshot cells;
+    private final int brickId;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final int heldBrickId;
+    private final boolean canHold;
+    private final GeneratorState generatorState;
+    private final int score;
+    private final double dropInterval;
+    private final int linesClearedSinceSpeedUp;
+    private final int piecesPlaced;
+    private final boolean gameOver;
+
+    /**
+     * Constructs a new GameState.
+     * @param levelType The level type of the game.
+     * @param cells The board cells.
+     * @param brickId The piece id of the falling brick.
+     * @param rotation The rotation index of the falling brick.
+     * @param x The x-coordinate of the falling brick.
+     * @param y The y-coordinate of the falling brick.
+     * @param heldBrickId The piece id of the held brick, or {@link #NO_BRICK}.
+     * @param canHold Whether the falling brick may still be held.
+     * @param generatorState The state of the brick generator.
+     * @param score The score.
+     * @param dropInterval The time between two gravity steps, in nanoseconds.
+     * @param linesClearedSinceSpeedUp The lines cleared since the last speed-up.
+     * @param piecesPlaced The number of bricks locked so far.
+     * @param gameOver Whether the game is over.
+     */
+    GameState(GameLevel.LevelType levelType, BoardSnapshot cells, int brickId, int rotation, int x, int y,
+              int heldBrickId, boolean canHold, GeneratorState generatorState, int score, double dropInterval,
+              int linesClearedSinceSpeedUp, int piecesPlaced, boolean gameOver) {
+        this.levelType = levelType;
+        this.cells = cells;
+        this.brickId = brickId;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.heldBrickId = heldBrickId;
+        this.canHold = canHold;
+        this.generatorState = generatorState;
+        this.score = score;
+        this.dropInterval = dropInterval;
+        this.linesClearedSinceSpeedUp = linesClearedSinceSpeedUp;
+        this.piecesPlaced = piecesPlaced;
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * Gets the level type of the game.
+     * @return The level type.
+     */
+    public GameLevel.LevelType getLevelType() {
+        return levelType;
+    }
+
+    /**
+     * Gets the board cells.
+     * @return The board snapshot.
+     */
+    public BoardSnapshot getCells() {
+        return cells;
+    }
+
+    /**
+     * Gets the piece id of the falling brick.
+     * @return The piece id.
+     */
+    public int getBrickId() {
+        return brickId;
+    }
+
+    /**
+     * Gets the rotation index of the falling brick.
+     * @return The rotation index.
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the x-coordinate of the falling brick.
+     * @return The x-coordinate.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the y-coordinate of the falling brick.
+     * @return The y-coordinate.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the piece id of the held brick.
+     * @return The piece id, or {@link #NO_BRICK} if no brick is held.
+     */
+    public int getHeldBrickId() {
+        return heldBrickId;
+    }
+
+    /**
+     * Checks whether the falling brick may still be held.
+     * @return true if holding is allowed, false otherwise.
+     */
+    public boolean canHold() {
+        return canHold;
+    }
+
+    /**
+     * Gets the state of the brick generator.
+     * @return The generator state.
+     */
+    public GeneratorState getGeneratorState() {
+        return generatorState;
+    }
+
+    /**
+     * Gets the score.
+     * @return The score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the time between two gravity steps.
+     * @return The drop interval in nanoseconds.
+     */
+    public double getDropInterval() {
+        return dropInterval;
+    }
+
+    /**
+     * Gets the lines cleared since the last speed-up.
+     * @return The number of lines.
+     */
+    public int getLinesClearedSinceSpeedUp() {
+        return linesClearedSinceSpeedUp;
+    }
+
+    /**
+     * Gets the number of bricks locked so far.
+     * @return The number of bricks.
+     */
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    /**
+     * Checks whether the game is over.
+     * @return true if the game is over, false otherwise.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GameState other)) {
+            return false;
+        }
+        return levelType == other.levelType && cells.equals(other.cells) && brickId == other.brickId
+                && rotation == other.rotation && x == other.x && y == other.y && heldBrickId == other.heldBrickId
+                && canHold == other.canHold && generatorState.equals(other.generatorState) && score == other.score
+                && Double.compare(dropInterval, other.dropInterval) == 0
+                && linesClearedSinceSpeedUp == other.linesClearedSinceSpeedUp && piecesPlaced == other.piecesPlaced
+                && gameOver == other.gameOver;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * cells.hashCode() + generatorState.hashCode()) + score;
+    }
+}
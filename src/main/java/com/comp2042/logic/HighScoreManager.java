@@ -16,12 +16,29 @@ public class HighScoreManager {
 
     private static final String HIGH_SCORE_FILE = "highscores.properties";
     private final Properties highScores = new Properties();
+    private final boolean persistent;
 
     /**
      * Constructs a new HighScoreManager and loads existing high scores.
      */
     public HighScoreManager() {
-        loadHighScores();
+        this(true);
+    }
+
+    private HighScoreManager(boolean persistent) {
+        this.persistent = persistent;
+        if (persistent) {
+            loadHighScores();
+        }
+    }
+
+    /**
+     * Creates a HighScoreManager that keeps high scores in memory and never touches the high score file.
+     * Headless simulations and tests use it so they neither read nor overwrite the player's records.
+     * @return A new in-memory HighScoreManager.
+     */
+    public static HighScoreManager inMemory() {
+        return new HighScoreManager(false);
     }
 
     private void loadHighScores() {
@@ -49,6 +66,9 @@ public class HighScoreManager {
      */
     public void saveHighScore(GameLevel.LevelType levelType, int score) {
         highScores.setProperty(levelType.name(), String.valueOf(score));
+        if (!persistent) {
+            return;
+        }
         try (FileOutputStream out = new FileOutputStream(HIGH_SCORE_FILE)) {
             highScores.store(out, "Tetris High Scores");
         } catch (IOException e) {
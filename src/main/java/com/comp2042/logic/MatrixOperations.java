@@ -1,5 +1,6 @@
 package com.comp2042.logic;
 
+import com.comp2042.logic.bricks.PieceShape;
 import com.comp2042.logic.events.ClearRow;
 
 import java.util.ArrayDeque;
@@ -10,9 +11,11 @@ import java.util.stream.Collectors;
 
 /**
  * A utility class for performing operations on matrices.
+ * The row and column scans run on the fastest {@link RowKernels} this JVM supports.
  */
 public final class MatrixOperations {
 
+    private static final RowKernels KERNELS = RowKernels.best();
 
     //Private constructor to prevent instantiation of utility class.
     private MatrixOperations() {
@@ -41,6 +44,26 @@ public final class MatrixOperations {
         return false;
     }
 
+    /**
+     * Checks if a precomputed piece shape intersects with the game board at a given position.
+     * Only the filled cells of the shape are visited.
+     * @param matrix The game board matrix.
+     * @param shape The precomputed piece shape.
+     * @param x The x-coordinate of the shape.
+     * @param y The y-coordinate of the shape.
+     * @return true if there is an intersection, false otherwise.
+     */
+    public static boolean intersect(final int[][] matrix, final PieceShape shape, int x, int y) {
+        for (int k = 0; k < shape.getCellCount(); k++) {
+            int targetX = x + shape.getCellColumn(k);
+            int targetY = y + shape.getCellRow(k);
+            if (checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if a given coordinate is outside the bounds of the matrix.
      * @param matrix The matrix to check against.
@@ -73,7 +96,9 @@ public final class MatrixOperations {
     }
 
     /**
-     * Merges a brick into the game board matrix.
+     * Merges a brick into a copy of the game board matrix.
+     * The original matrix is left untouched, which suits boards that are shared with other readers.
+     * Boards that nothing else references should use {@link #mergeInPlace(int[][], PieceShape, int, int)}.
      * @param filledFields The game board matrix.
      * @param brick The brick's shape matrix.
      * @param x The x-coordinate of the brick.
@@ -94,6 +119,20 @@ public final class MatrixOperations {
         return copy;
     }
 
+    /**
+     * Stamps a precomputed piece shape directly into the game board matrix.
+     * Only the filled cells of the shape are written, and nothing is copied or allocated.
+     * @param filledFields The game board matrix, modified in place.
+     * @param shape The precomputed piece shape.
+     * @param x The x-coordinate of the shape.
+     * @param y The y-coordinate of the shape.
+     */
+    public static void mergeInPlace(int[][] filledFields, PieceShape shape, int x, int y) {
+        for (int k = 0; k < shape.getCellCount(); k++) {
+            filledFields[y + shape.getCellRow(k)][x + shape.getCellColumn(k)] = shape.getColor();
+        }
+    }
+
     /**
      * Checks for and removes completed rows from the matrix.
      * @param matrix The game board matrix.
@@ -106,13 +145,8 @@ public final class MatrixOperations {
 
         for (int i = 0; i < matrix.length; i++) {
             int[] tmpRow = new int[matrix[i].length];
-            boolean rowToClear = true;
-            for (int j = 0; j < matrix[0].length; j++) {
-                if (matrix[i][j] == 0) {
-                    rowToClear = false;
-                }
-                tmpRow[j] = matrix[i][j];
-            }
+            System.arraycopy(matrix[i], 0, tmpRow, 0, tmpRow.length);
+            boolean rowToClear = KERNELS.isRowFull(matrix[i]);
             if (rowToClear) {
                 clearedRows.add(i);
             } else {
@@ -128,7 +162,52 @@ public final class MatrixOperations {
             }
         }
         int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
-        return new ClearRow(clearedRows.size(), tmp, scoreBonus);
+        int[] clearedRowIndices = clearedRows.stream().mapToInt(Integer::intValue).toArray();
+        return new ClearRow(clearedRows.size(), tmp, scoreBonus, clearedRowIndices);
+    }
+
+    /**
+     * Checks whether every cell of a row is filled.
+     * @param row The row.
+     * @return true if the row is full, false otherwise.
+     */
+    public static boolean isRowFull(int[] row) {
+        return KERNELS.isRowFull(row);
+    }
+
+    /**
+     * Counts the empty cells that have a filled cell somewhere above them in the same column.
+     * @param matrix The game board matrix.
+     * @return The number of holes.
+     */
+    public static int countHoles(int[][] matrix) {
+        return KERNELS.countHoles(matrix);
+    }
+
+    /**
+     * Lets the filled cells of every column fall to close the gaps below them, keeping their order.
+     * @param matrix The game board matrix, modified in place.
+     */
+    public static void applyGravity(int[][] matrix) {
+        KERNELS.applyGravity(matrix);
+    }
+
+    /**
+     * Sets one bit per filled cell of a row, bit {@code j % 64} of word {@code j / 64} for column {@code j}.
+     * @param row The row.
+     * @param words The words to set the bits in; the bits of empty cells are left as they are.
+     * @param offset The index of the row's first word.
+     */
+    public static void packRow(int[] row, long[] words, int offset) {
+        KERNELS.packRow(row, words, offset);
+    }
+
+    /**
+     * Checks whether the row and column scans use the Vector API.
+     * @return true for the vector kernels, false for the scalar fallback.
+     */
+    public static boolean isVectorized() {
+        return KERNELS != RowKernels.scalar();
     }
 
     /**
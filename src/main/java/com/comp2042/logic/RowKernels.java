@@ -0,0 +1,73 @@
+package com.comp2042.logic;
+
+/**
+ * The scans over a board matrix that the board operations are built on.
+ * Each one walks every cell of a row or a column, so the matrix is processed a strip of columns at a time.
+ * The vector kernels handle a whole strip per instruction; the scalar kernels are the fallback
+ * when the JVM was started without {@code --add-modules jdk.incubator.vector}.
+ * Both give identical results.
+ */
+interface RowKernels {
+
+    /**
+     * Checks whether every cell of a row is filled.
+     * @param row The row.
+     * @return true if the row is full, false otherwise.
+     */
+    boolean isRowFull(int[] row);
+
+    /**
+     * Counts the empty cells that have a filled cell somewhere above them in the same column.
+     * @param matrix The board matrix.
+     * @return The number of holes.
+     */
+    int countHoles(int[][] matrix);
+
+    /**
+     * Lets the filled cells of every column fall down to close the gaps below them, keeping their order.
+     * @param matrix The board matrix, modified in place.
+     */
+    void applyGravity(int[][] matrix);
+
+    /**
+     * Sets one bit per filled cell of a row, bit {@code j % 64} of word {@code j / 64} for column {@code j}.
+     * Bits of empty cells are left as they are.
+     * @param row The row.
+     * @param words The words to set the bits in.
+     * @param offset The index of the row's first word.
+     */
+    void packRow(int[] row, long[] words, int offset);
+
+    /**
+     * Gets the scalar kernels.
+     * @return The scalar kernels.
+     */
+    static RowKernels scalar() {
+        return ScalarRowKernels.INSTANCE;
+    }
+
+    /**
+     * Gets the vector kernels, if this JVM can run them.
+     * The class is loaded reflectively, so nothing links against the incubator module unless it is present.
+     * @return The vector kernels, or null if the Vector API is not available.
+     */
+    static RowKernels vector() {
+        try {
+            return Class.forName("com.comp2042.logic.VectorRowKernels")
+                    .asSubclass(RowKernels.class)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the fastest kernels available. {@code -Dtetris.simd=false} forces the scalar kernels.
+     * @return The kernels.
+     */
+    static RowKernels best() {
+        RowKernels vector = Boolean.parseBoolean(System.getProperty("tetris.simd", "true")) ? vector() : null;
+        return vector != null ? vector : scalar();
+    }
+}
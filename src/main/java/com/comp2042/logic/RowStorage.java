@@ -0,0 +1,258 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.PieceShape;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Stores the cells of a board row by row.
+ * The outer array is an index table that maps each logical row to a physical row array.
+ * Removing cleared rows and inserting rows at the top or bottom only moves row references,
+ * and the physical rows that drop out are wiped and reused, so the cells themselves are never copied.
+ * The storage also keeps the number of filled cells of every row, so full rows are found without a scan,
+ * and the set of rows changed since they were last drained, so a renderer only redraws those rows.
+ * Every change also updates a Zobrist hash of the occupancy, as described in {@link ZobristKeys}.
+ */
+public final class RowStorage {
+
+    private final int width;
+    private final int height;
+    private final int[][] rows;
+    private final int[] fillCounts;
+    private final int[][] spareRows;
+    private final BitSet changedRows;
+    private final ZobristKeys keys;
+    private final long[] contentHashes;
+    private long hash;
+
+    /**
+     * Constructs an empty RowStorage.
+     * @param width The number of cells per row.
+     * @param height The number of rows.
+     */
+    public RowStorage(int width, int height) {
+        this.width = width;
+        this.height = height;
+        rows = new int[height][width];
+        fillCounts = new int[height];
+        spareRows = new int[height][];
+        changedRows = new BitSet(height);
+        keys = ZobristKeys.of(width, height);
+        contentHashes = new long[height];
+    }
+
+    /**
+     * Gets the rows in logical order, top row first.
+     * The array is live: it changes as the storage changes and must only be written through this class.
+     * @return The board matrix.
+     */
+    public int[][] getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the value of a cell.
+     * @param row The row of the cell.
+     * @param column The column of the cell.
+     * @return The value of the cell, 0 if it is empty.
+     */
+    public int get(int row, int column) {
+        return rows[row][column];
+    }
+
+    /**
+     * Sets the value of a cell and keeps the fill count of its row up to date.
+     * @param row The row of the cell.
+     * @param column The column of the cell.
+     * @param value The new value, 0 to empty the cell.
+     */
+    public void set(int row, int column, int value) {
+        int[] cells = rows[row];
+        if (cells[column] == 0 && value != 0) {
+            fillCounts[row]++;
+            toggleHash(row, column);
+        } else if (cells[column] != 0 && value == 0) {
+            fillCounts[row]--;
+            toggleHash(row, column);
+        }
+        cells[column] = value;
+        changedRows.set(row);
+    }
+
+    /**
+     * Stamps a piece shape into the rows in place. The shape must not overlap filled cells.
+     * @param shape The precomputed piece shape.
+     * @param x The x-coordinate of the shape.
+     * @param y The y-coordinate of the shape.
+     */
+    public void merge(PieceShape shape, int x, int y) {
+        MatrixOperations.mergeInPlace(rows, shape, x, y);
+        for (int k = 0; k < shape.getCellCount(); k++) {
+            fillCounts[y + shape.getCellRow(k)]++;
+            toggleHash(y + shape.getCellRow(k), x + shape.getCellColumn(k));
+        }
+        changedRows.set(y + shape.getMinRow(), y + shape.getMaxRow() + 1);
+    }
+
+    /**
+     * Gets the number of filled cells in a row.
+     * @param row The row.
+     * @return The number of filled cells.
+     */
+    public int getFillCount(int row) {
+        return fillCounts[row];
+    }
+
+    /**
+     * Checks whether every cell of a row is filled.
+     * @param row The row.
+     * @return true if the row is full, false otherwise.
+     */
+    public boolean isFull(int row) {
+        return fillCounts[row] == width;
+    }
+
+    /**
+     * Removes the given rows. The rows above them move down and empty rows take their place at the top.
+     * @param removedRows The rows to remove, from top to bottom.
+     */
+    public void removeRows(int[] removedRows) {
+        if (removedRows.length == 0) {
+            return;
+        }
+        int next = removedRows.length - 1;
+        int target = removedRows[next];
+        int lowest = target;
+        for (int i = 0; i <= lowest; i++) {
+            hash ^= keys.rowHash(i, contentHashes[i]);
+        }
+        for (int i = target; i >= 0; i--) {
+            if (next >= 0 && removedRows[next] == i) {
+                spareRows[next] = rows[i];
+                next--;
+                continue;
+            }
+            if (target != i) {
+                rows[target] = rows[i];
+                fillCounts[target] = fillCounts[i];
+                contentHashes[target] = contentHashes[i];
+            }
+            target--;
+        }
+        for (int k = 0; k < removedRows.length; k++) {
+            int[] row = spareRows[k];
+            spareRows[k] = null;
+            Arrays.fill(row, 0);
+            rows[k] = row;
+            fillCounts[k] = 0;
+            contentHashes[k] = 0;
+        }
+        for (int i = 0; i <= lowest; i++) {
+            hash ^= keys.rowHash(i, contentHashes[i]);
+        }
+        changedRows.set(0, lowest + 1);
+    }
+
+    /**
+     * Pushes every row up and opens empty rows at the bottom, for example to fill them with garbage.
+     * The rows pushed off the top are wiped and reused for the new bottom rows.
+     * @param count The number of rows to insert, at most the height of the storage.
+     * @return true if a filled cell was pushed off the top, false otherwise.
+     */
+    public boolean insertRowsAtBottom(int count) {
+        if (count < 0 || count > height) {
+            throw new IllegalArgumentException("Row count must be between 0 and " + height + ": " + count);
+        }
+        boolean overflow = false;
+        for (int k = 0; k < count; k++) {
+            overflow |= fillCounts[k] != 0;
+            spareRows[k] = rows[k];
+        }
+        System.arraycopy(rows, count, rows, 0, height - count);
+        System.arraycopy(fillCounts, count, fillCounts, 0, height - count);
+        System.arraycopy(contentHashes, count, contentHashes, 0, height - count);
+        for (int k = 0; k < count; k++) {
+            int[] row = spareRows[k];
+            spareRows[k] = null;
+            Arrays.fill(row, 0);
+            rows[height - count + k] = row;
+            fillCounts[height - count + k] = 0;
+            contentHashes[height - count + k] = 0;
+        }
+        if (count > 0) {
+            // Every row moved, so every contribution changes
+            hash = 0;
+            for (int i = 0; i < height; i++) {
+                hash ^= keys.rowHash(i, contentHashes[i]);
+            }
+            changedRows.set(0, height);
+        }
+        return overflow;
+    }
+
+    /**
+     * Lets the filled cells of every column fall to close the gaps below them, then recounts every row.
+     */
+    public void applyGravity() {
+        MatrixOperations.applyGravity(rows);
+        hash = 0;
+        for (int i = 0; i < height; i++) {
+            int[] cells = rows[i];
+            int count = 0;
+            long content = 0;
+            for (int j = 0; j < width; j++) {
+                if (cells[j] != 0) {
+                    count++;
+                    content ^= keys.columnKey(j);
+                }
+            }
+            fillCounts[i] = count;
+            contentHashes[i] = content;
+            hash ^= keys.rowHash(i, content);
+        }
+        changedRows.set(0, height);
+    }
+
+    /**
+     * Empties every cell without allocating new rows.
+     */
+    public void clear() {
+        for (int[] row : rows) {
+            Arrays.fill(row, 0);
+        }
+        Arrays.fill(fillCounts, 0);
+        Arrays.fill(contentHashes, 0);
+        hash = 0;
+        changedRows.set(0, height);
+    }
+
+    /**
+     * Gets the Zobrist hash of the occupancy.
+     * @return The board hash, 0 for an empty board.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Updates the hashes for a cell that became filled or empty.
+     * @param row The row of the cell.
+     * @param column The column of the cell.
+     */
+    private void toggleHash(int row, int column) {
+        long content = contentHashes[row];
+        long updated = content ^ keys.columnKey(column);
+        hash ^= keys.rowHash(row, content) ^ keys.rowHash(row, updated);
+        contentHashes[row] = updated;
+    }
+
+    /**
+     * Adds the rows changed since the last call to the given set, then forgets them.
+     * @param target The set that receives the changed row indices.
+     */
+    public void drainChangedRows(BitSet target) {
+        target.or(changedRows);
+        changedRows.clear();
+    }
+}
@@ -0,0 +1,212 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.GeneratorState;
+import com.comp2042.model.GameLevel;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes a {@link GameState} as a small binary file, so a game can be left and resumed later.
+ * <p>
+ * Cells are packed two to a byte, 4 bits each, which holds every color from 0 to {@link SimpleBoard#BOMB_ID};
+ * a standard board takes 125 bytes and the whole file about 250. The file ends with a CRC32 of its content.
+ * A write goes to a temporary file that is then moved over the old one, so a crash leaves either the old
+ * or the new game, never half of one. Encoding and decoding allocate one small array each and take
+ * microseconds, so the game can save after every brick.
+ */
+public final class SavedGame {
+
+    /**
+     * The file the game saves to, next to the high score file.
+     */
+    public static final Path DEFAULT_FILE = Path.of("savegame.dat");
+
+    /**
+     * "TSAV" in ASCII.
+     */
+    private static final int MAGIC = 0x54534156;
+    private static final byte VERSION = 1;
+    private static final int MAX_CELL_VALUE = 15;
+    private static final GameLevel.LevelType[] LEVEL_TYPES = GameLevel.LevelType.values();
+
+    //Private constructor to prevent instantiation of utility class.
+    private SavedGame() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Encodes a game state.
+     * @param state The game state.
+     * @return The encoded bytes.
+     */
+    public static byte[] encode(GameState state) {
+        BoardSnapshot cells = state.getCells();
+        GeneratorState generator = state.getGeneratorState();
+        int[] queue = generator.getQueue();
+        int[] bag = generator.getBag();
+        int cellCount = cells.getWidth() * cells.getHeight();
+        ByteBuffer buffer = ByteBuffer.allocate(4 + 2 + 4 + (cellCount + 1) / 2 + 8 + 4 + 8 + 4 + 4 + 1
+                + 8 + 1 + queue.length + 1 + bag.length + 4 * 8 + 4 + 4);
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.put((byte) state.getLevelType().ordinal());
+        buffer.putShort((short) cells.getWidth());
+        buffer.putShort((short) cells.getHeight());
+        int pending = -1;
+        for (int i = 0; i < cells.getHeight(); i++) {
+            for (int j = 0; j < cells.getWidth(); j++) {
+                int value = cells.get(i, j);
+                if (value < 0 || value > MAX_CELL_VALUE) {
+                    throw new IllegalArgumentException("Cell value does not fit 4 bits: " + value);
+                }
+                if (pending < 0) {
+                    pending = value << 4;
+                } else {
+                    buffer.put((byte) (pending | value));
+                    pending = -1;
+                }
+            }
+        }
+        if (pending >= 0) {
+            buffer.put((byte) pending);
+        }
+        buffer.put((byte) state.getBrickId());
+        buffer.put((byte) state.getRotation());
+        buffer.putShort((short) state.getX());
+        buffer.putShort((short) state.getY());
+        buffer.put((byte) state.getHeldBrickId());
+        buffer.put((byte) (state.canHold() ? 1 : 0));
+        buffer.putInt(state.getScore());
+        buffer.putDouble(state.getDropInterval());
+        buffer.putInt(state.getLinesClearedSinceSpeedUp());
+        buffer.putInt(state.getPiecesPlaced());
+        buffer.put((byte) (state.isGameOver() ? 1 : 0));
+        buffer.putLong(generator.getSeed());
+        putIds(buffer, queue);
+        putIds(buffer, bag);
+        buffer.putLong(generator.getBagRandomState());
+        buffer.putLong(generator.getBagRandomGamma());
+        buffer.putLong(generator.getObstacleRandomState());
+        buffer.putLong(generator.getObstacleRandomGamma());
+        buffer.putInt(generator.getPowerUpProgress());
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a game state written by {@link #encode(GameState)}.
+     * @param data The encoded bytes.
+     * @return The game state.
+     * @throws IllegalArgumentException If the data is not a saved game or is damaged.
+     */
+    public static GameState decode(byte[] data) {
+        if (data.length < 4) {
+            throw new IllegalArgumentException("Not a saved game");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - 4);
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (buffer.getInt(data.length - 4) != (int) crc.getValue()) {
+            throw new IllegalArgumentException("Saved game is damaged: checksum mismatch");
+        }
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a saved game");
+            }
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported saved game version: " + version);
+            }
+            GameLevel.LevelType levelType = LEVEL_TYPES[buffer.get()];
+            int width = buffer.getShort();
+            int height = buffer.getShort();
+            int[][] matrix = new int[height][width];
+            int packed = 0;
+            int index = 0;
+            for (int i = 0; i < height; i++) {
+                for (int j = 0; j < width; j++) {
+                    if ((index++ & 1) == 0) {
+                        packed = buffer.get() & 0xFF;
+                        matrix[i][j] = packed >>> 4;
+                    } else {
+                        matrix[i][j] = packed & 0x0F;
+                    }
+                }
+            }
+            int brickId = buffer.get();
+            int rotation = buffer.get();
+            int x = buffer.getShort();
+            int y = buffer.getShort();
+            int heldBrickId = buffer.get();
+            boolean canHold = buffer.get() != 0;
+            int score = buffer.getInt();
+            double dropInterval = buffer.getDouble();
+            int linesClearedSinceSpeedUp = buffer.getInt();
+            int piecesPlaced = buffer.getInt();
+            boolean gameOver = buffer.get() != 0;
+            long seed = buffer.getLong();
+            int[] queue = getIds(buffer);
+            int[] bag = getIds(buffer);
+            GeneratorState generator = new GeneratorState(seed, queue, bag, buffer.getLong(), buffer.getLong(),
+                    buffer.getLong(), buffer.getLong(), buffer.getInt());
+            return new GameState(levelType, BoardSnapshot.of(matrix), brickId, rotation, x, y, heldBrickId, canHold,
+                    generator, score, dropInterval, linesClearedSinceSpeedUp, piecesPlaced, gameOver);
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Saved game is damaged", e);
+        }
+    }
+
+    /**
+     * Writes a game state to a file atomically: readers see either the old file or the complete new one.
+     * @param state The game state.
+     * @param file The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(GameState state, Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, encode(state));
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a game state from a file.
+     * @param file The file to read.
+     * @return The game state.
+     * @throws IOException If the file cannot be read or is not a valid saved game.
+     */
+    public static GameState read(Path file) throws IOException {
+        try {
+            return decode(Files.readAllBytes(file));
+        } catch (IllegalArgumentException e) {
+            throw new IOException(file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void putIds(ByteBuffer buffer, int[] ids) {
+        buffer.put((byte) ids.length);
+        for (int id : ids) {
+            buffer.put((byte) id);
+        }
+    }
+
+    private static int[] getIds(ByteBuffer buffer) {
+        int[] ids = new int[buffer.get() & 0xFF];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = buffer.get();
+        }
+        return ids;
+    }
+}
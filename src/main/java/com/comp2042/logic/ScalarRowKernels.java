@@ -0,0 +1,84 @@
+package com.comp2042.logic;
+
+/**
+ * The {@link RowKernels} as plain loops, one cell at a time.
+ */
+final class ScalarRowKernels implements RowKernels {
+
+    static final ScalarRowKernels INSTANCE = new ScalarRowKernels();
+
+    private ScalarRowKernels() {
+    }
+
+    @Override
+    public boolean isRowFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int countHoles(int[][] matrix) {
+        return countHoles(matrix, 0, matrix[0].length);
+    }
+
+    @Override
+    public void applyGravity(int[][] matrix) {
+        applyGravity(matrix, 0, matrix[0].length);
+    }
+
+    /**
+     * Counts the holes in a range of columns.
+     * @param matrix The board matrix.
+     * @param fromColumn The first column.
+     * @param toColumn The column after the last one.
+     * @return The number of holes.
+     */
+    static int countHoles(int[][] matrix, int fromColumn, int toColumn) {
+        int holes = 0;
+        for (int j = fromColumn; j < toColumn; j++) {
+            boolean covered = false;
+            for (int[] row : matrix) {
+                if (row[j] != 0) {
+                    covered = true;
+                } else if (covered) {
+                    holes++;
+                }
+            }
+        }
+        return holes;
+    }
+
+    /**
+     * Applies gravity to a range of columns.
+     * @param matrix The board matrix, modified in place.
+     * @param fromColumn The first column.
+     * @param toColumn The column after the last one.
+     */
+    static void applyGravity(int[][] matrix, int fromColumn, int toColumn) {
+        for (int j = fromColumn; j < toColumn; j++) {
+            int emptyRow = -1;
+            for (int i = matrix.length - 1; i >= 0; i--) {
+                if (matrix[i][j] == 0 && emptyRow == -1) {
+                    emptyRow = i;
+                } else if (matrix[i][j] != 0 && emptyRow != -1) {
+                    matrix[emptyRow][j] = matrix[i][j];
+                    matrix[i][j] = 0;
+                    emptyRow--;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void packRow(int[] row, long[] words, int offset) {
+        for (int j = 0; j < row.length; j++) {
+            if (row[j] != 0) {
+                words[offset + (j >>> 6)] |= 1L << j;
+            }
+        }
+    }
+}
@@ -1,68 +1,111 @@
 package com.comp2042.logic;
 
-import com.comp2042.controller.MenuController;
 import com.comp2042.model.GameLevel;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
+
+import java.util.function.IntConsumer;
 
 /**
  * Manages the player's score and high score.
+ * This class is plain Java, so it works without the JavaFX toolkit. A view observes it
+ * by registering callbacks with {@link #setOnScoreChanged(IntConsumer)} and {@link #setOnHighScoreChanged(IntConsumer)}.
  */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
-    private final IntegerProperty highScore = new SimpleIntegerProperty(0);
+    private static final IntConsumer IGNORE = value -> { };
+
     private final HighScoreManager highScoreManager;
     private final GameLevel.LevelType levelType;
+    private int score;
+    private int highScore;
+    private IntConsumer onScoreChanged = IGNORE;
+    private IntConsumer onHighScoreChanged = IGNORE;
+
+    /**
+     * Constructs a new Score object for a level type, with high scores kept in the high score file.
+     * @param levelType The level type the high score belongs to.
+     */
+    public Score(GameLevel.LevelType levelType) {
+        this(levelType, new HighScoreManager());
+    }
 
     /**
      * Constructs a new Score object.
      * Initializes the high score from the high score manager.
+     * @param levelType The level type the high score belongs to.
+     * @param highScoreManager The manager that loads and saves the high score.
      */
-    public Score() {
-        this.highScoreManager = new HighScoreManager();
-        this.levelType = MenuController.getSelectedLevelType();
-        highScore.setValue(highScoreManager.loadHighScore(levelType));
+    public Score(GameLevel.LevelType levelType, HighScoreManager highScoreManager) {
+        this.highScoreManager = highScoreManager;
+        this.levelType = levelType;
+        highScore = highScoreManager.loadHighScore(levelType);
     }
 
     /**
-     * Gets the score property.
-     * @return The score property.
+     * Gets the current score.
+     * @return The current score.
      */
-    public IntegerProperty scoreProperty() {
+    public int getScore() {
         return score;
     }
 
     /**
-     * Gets the high score property.
-     * @return The high score property.
+     * Gets the high score.
+     * @return The high score.
      */
-    public IntegerProperty highScoreProperty() {
+    public int getHighScore() {
         return highScore;
     }
 
+    /**
+     * Sets the callback that receives the new score whenever it changes.
+     * @param onScoreChanged The callback, or null to remove it.
+     */
+    public void setOnScoreChanged(IntConsumer onScoreChanged) {
+        this.onScoreChanged = onScoreChanged != null ? onScoreChanged : IGNORE;
+    }
+
+    /**
+     * Sets the callback that receives the new high score whenever it changes.
+     * @param onHighScoreChanged The callback, or null to remove it.
+     */
+    public void setOnHighScoreChanged(IntConsumer onHighScoreChanged) {
+        this.onHighScoreChanged = onHighScoreChanged != null ? onHighScoreChanged : IGNORE;
+    }
+
     /**
      * Adds a value to the current score.
      * @param value The value to add.
      */
     public void add(int value) {
-        score.setValue(score.getValue() + value);
+        score += value;
+        onScoreChanged.accept(score);
     }
 
     /**
      * Updates the high score if the current score is higher.
      */
     public void updateHighScore() {
-        if (score.getValue() > highScore.getValue()) {
-            highScore.setValue(score.getValue());
-            highScoreManager.saveHighScore(levelType, highScore.getValue());
+        if (score > highScore) {
+            highScore = score;
+            highScoreManager.saveHighScore(levelType, highScore);
+            onHighScoreChanged.accept(highScore);
         }
     }
 
+    /**
+     * Sets the current score, as when a saved game is restored. The high score is not touched.
+     * @param value The new score.
+     */
+    public void set(int value) {
+        score = value;
+        onScoreChanged.accept(score);
+    }
+
     /**
      * Resets the current score to zero.
      */
     public void reset() {
-        score.setValue(0);
+        score = 0;
+        onScoreChanged.accept(score);
     }
 }
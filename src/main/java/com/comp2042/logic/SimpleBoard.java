@@ -2,21 +2,26 @@ package com.comp2042.logic;
 
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.PieceCatalog;
+import com.comp2042.logic.bricks.PieceShape;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
 import com.comp2042.logic.events.ClearRow;
-import com.comp2042.logic.helper.BrickRotator;
-import com.comp2042.model.NextShapeInfo;
 import com.comp2042.view.ViewData;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Random;
 
 /**
  * A simple implementation of the Tetris game board.
  * This class manages the game's state, including the position of the current brick,
- * the game matrix, and the player's score.
+ * and the game matrix.
+ * It also keeps a skyline of the topmost filled row of every column, so the ghost position
+ * and the hard-drop distance come from the piece's bottom profile instead of a downward scan,
+ * and a filled-cell count per row, so line clears only inspect the rows that changed.
+ * The cells live in a {@link RowStorage}, so clearing lines and adding garbage rows move rows instead of copying them.
  */
 public class SimpleBoard implements Board {
 
@@ -25,9 +30,13 @@ public class SimpleBoard implements Board {
     private final int height;
     private final RandomBrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;
-    private Point currentOffset;
-    private final Score score;
+    private final RowStorage storage;
+    private int currentX;
+    private int currentY;
+    private final int[] columnTops;
+    private final int[] clearedScratch;
+    private int dirtyTop;
+    private int dirtyBottom;
     private Brick heldBrick;
     private boolean canHold = true;
 
@@ -37,12 +46,52 @@ public class SimpleBoard implements Board {
      * @param height The height of the board.
      */
     public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new SimpleBoard fed by the given brick generator.
+     * @param width The width of the board.
+     * @param height The height of the board.
+     * @param brickGenerator The generator supplying the bricks.
+     */
+    public SimpleBoard(int width, int height, RandomBrickGenerator brickGenerator) {
         this.width = width;
         this.height = height;
-        currentGameMatrix = new int[height][width];
-        brickGenerator = new RandomBrickGenerator();
+        storage = new RowStorage(width, height);
+        columnTops = new int[width];
+        Arrays.fill(columnTops, height);
+        clearedScratch = new int[height];
+        clearDirtyRows();
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
-        score = new Score();
+    }
+
+    /**
+     * Checks whether the current brick fits at the given position and rotation.
+     * The test runs directly against the board, so it neither copies the board nor allocates.
+     * @param x The x-coordinate to test.
+     * @param y The y-coordinate to test.
+     * @param rotation The rotation index to test.
+     * @return true if the brick fits, false if it would collide or leave the board.
+     */
+    public boolean canPlace(int x, int y, int rotation) {
+        return !MatrixOperations.intersect(storage.getRows(), brickRotator.getPieceShape(rotation), x, y);
+    }
+
+    /**
+     * Moves the current brick by the given offset if the target position is free.
+     * @param dx The horizontal offset.
+     * @param dy The vertical offset.
+     * @return true if the brick moved, false if the target position collides.
+     */
+    public boolean tryMove(int dx, int dy) {
+        if (!canPlace(currentX + dx, currentY + dy, brickRotator.getCurrentShapeIndex())) {
+            return false;
+        }
+        currentX += dx;
+        currentY += dy;
+        return true;
     }
 
     /**
@@ -51,17 +100,10 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            canHold = true;
+        if (!tryMove(0, 1)) {
             return false;
-        } else {
-            currentOffset = p;
-            return true;
         }
+        return true;
     }
 
     /**
@@ -70,16 +112,7 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(-1, 0);
     }
 
     /**
@@ -88,16 +121,7 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(1, 0);
     }
 
     /**
@@ -106,42 +130,58 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
-        if (conflict) {
+        int nextShape = brickRotator.getNextShapeIndex();
+        if (!canPlace(currentX, currentY, nextShape)) {
             return false;
-        } else {
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
         }
+        brickRotator.setCurrentShape(nextShape);
+        return true;
     }
 
     /**
-     * Creates a new brick at the top of the board.
+     * Creates a new brick at the top of the board. A new brick may always be held.
      * @return true if the new brick overlaps with existing blocks (game over), false otherwise.
      */
     @Override
     public boolean createNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
-        currentOffset = new Point((width - currentBrick.getShapeMatrix().get(0)[0].length) / 2, 0);
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        currentX = (width - brickRotator.getPieceShape(0).getColumns()) / 2;
+        currentY = 0;
+        canHold = true;
+        return !canPlace(currentX, currentY, 0);
     }
 
     @Override
     public int[][] getBoardMatrix() {
-        return currentGameMatrix;
+        return storage.getRows();
+    }
+
+    /**
+     * Gets the Zobrist hash of the board's occupancy.
+     * It is kept up to date by every merge, line clear, garbage row, bomb detonation and gravity step,
+     * and equals the hash of a {@link com.comp2042.ai.SearchBoard} with the same filled cells.
+     * @return The board hash, 0 for an empty board.
+     */
+    public long getZobristHash() {
+        return storage.getHash();
+    }
+
+    @Override
+    public BoardSnapshot getBoardSnapshot() {
+        return BoardSnapshot.of(storage.getRows());
+    }
+
+    @Override
+    public void drainChangedRows(BitSet changedRows) {
+        storage.drainChangedRows(changedRows);
     }
 
     @Override
     public ViewData getViewData() {
-        List<int[][]> nextThreeBricks = new ArrayList<>();
-        for (Brick brick : brickGenerator.getNextBricks(3)) {
-            nextThreeBricks.add(brick.getShapeMatrix().get(0));
-        }
-        int[][] holdBrickData = heldBrick != null ? heldBrick.getShapeMatrix().get(0) : null;
-        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY(), nextThreeBricks, getGhostYPosition(), holdBrickData);
+        int[][] holdBrickData = heldBrick != null ? heldBrick.getPiece().getShape(0).getMatrix() : null;
+        return new ViewData(brickRotator.getCurrentShape(), currentX, currentY, brickGenerator.getPreviewShapes(),
+                getGhostYPosition(), holdBrickData);
     }
 
     /**
@@ -153,21 +193,113 @@ public class SimpleBoard implements Board {
             Point bombCenter = getBombCenter();
             detonateBomb((int) bombCenter.getX(), (int) bombCenter.getY());
         } else {
-            currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+            PieceShape shape = brickRotator.getPieceShape(brickRotator.getCurrentShapeIndex());
+            storage.merge(shape, currentX, currentY);
+            for (int k = 0; k < shape.getCellCount(); k++) {
+                int column = currentX + shape.getCellColumn(k);
+                columnTops[column] = Math.min(columnTops[column], currentY + shape.getCellRow(k));
+            }
+            markDirtyRows(currentY + shape.getMinRow(), currentY + shape.getMaxRow());
         }
     }
 
+    /**
+     * Clears completed rows. Only the rows changed since the last call are inspected,
+     * and the rows above move down by reference without allocating a new board.
+     * @return A {@link ClearRow} object with the number and indices of the cleared rows.
+     */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
-        return clearRow;
+        int linesRemoved = 0;
+        for (int i = dirtyTop; i <= dirtyBottom; i++) {
+            if (storage.isFull(i)) {
+                clearedScratch[linesRemoved++] = i;
+            }
+        }
+        clearDirtyRows();
+        if (linesRemoved == 0) {
+            return new ClearRow(0, storage.getRows(), 0, new int[0]);
+        }
+        int[] clearedRows = Arrays.copyOf(clearedScratch, linesRemoved);
+        storage.removeRows(clearedRows);
+        refreshColumnTops(0, width - 1);
+        int scoreBonus = 50 * linesRemoved * linesRemoved;
+        return new ClearRow(linesRemoved, storage.getRows(), scoreBonus, clearedRows);
+    }
+
+    /**
+     * Pushes the stack up and adds garbage rows at the bottom, each filled except for one hole.
+     * The falling brick is lifted if the rising stack would overlap it, but never above the top row.
+     * @param count The number of garbage rows, at most the height of the board.
+     * @param holeColumn The column left empty in every garbage row.
+     * @param color The color index of the garbage cells.
+     * @return true if filled cells were pushed off the top of the board, false otherwise.
+     */
+    public boolean addGarbageRows(int count, int holeColumn, int color) {
+        boolean overflow = storage.insertRowsAtBottom(count);
+        for (int i = height - count; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                if (j != holeColumn) {
+                    storage.set(i, j, color);
+                }
+            }
+        }
+        for (int j = 0; j < width; j++) {
+            int top = columnTops[j] < height ? Math.max(columnTops[j] - count, 0) : height;
+            columnTops[j] = j != holeColumn && count > 0 ? Math.min(top, height - count) : top;
+        }
+        if (overflow) {
+            // A column that lost its top cells may be empty further down; the clamped tops are above the real ones
+            refreshColumnTops(0, width - 1);
+        }
+        if (dirtyBottom >= 0) {
+            dirtyTop = Math.max(dirtyTop - count, 0);
+            dirtyBottom -= count;
+            if (dirtyBottom < dirtyTop) {
+                clearDirtyRows();
+            }
+        }
+        int rotation = brickRotator.getCurrentShapeIndex();
+        int minRow = brickRotator.getPieceShape(rotation).getMinRow();
+        // The brick is lifted at most to the top row; if it still overlaps there, the stack has topped out
+        for (int lift = 0; lift < count && currentY + minRow > 0 && !canPlace(currentX, currentY, rotation); lift++) {
+            currentY--;
+        }
+        return overflow;
+    }
 
+    /**
+     * Widens the range of rows that the next {@link #clearRows()} has to inspect.
+     * @param fromRow The first changed row.
+     * @param toRow The last changed row, inclusive.
+     */
+    private void markDirtyRows(int fromRow, int toRow) {
+        dirtyTop = Math.min(dirtyTop, Math.max(fromRow, 0));
+        dirtyBottom = Math.max(dirtyBottom, Math.min(toRow, height - 1));
     }
 
-    @Override
-    public Score getScore() {
-        return score;
+    /**
+     * Marks every row as unchanged.
+     */
+    private void clearDirtyRows() {
+        dirtyTop = height;
+        dirtyBottom = -1;
+    }
+
+    /**
+     * Re-reads the skyline of a range of columns after cells were removed or moved down.
+     * Those operations only ever lower a column, so each scan starts at the previous top.
+     * @param fromColumn The first column to refresh.
+     * @param toColumn The last column to refresh, inclusive.
+     */
+    private void refreshColumnTops(int fromColumn, int toColumn) {
+        for (int j = fromColumn; j <= toColumn; j++) {
+            int top = columnTops[j];
+            while (top < height && storage.get(top, j) == 0) {
+                top++;
+            }
+            columnTops[j] = top;
+        }
     }
 
     /**
@@ -175,23 +307,54 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void newGame() {
-        currentGameMatrix = new int[height][width];
-        score.reset();
+        storage.clear();
+        Arrays.fill(columnTops, height);
+        clearDirtyRows();
         heldBrick = null;
         canHold = true;
         brickGenerator.resetPowerUpProgress();
         createNewBrick();
     }
 
+    /**
+     * Finds the y-coordinate where the current brick would land.
+     * Everything above a column's top is empty, so the landing row follows from the skyline
+     * and the brick's bottom profile. Only a brick tucked under an overhang falls back to scanning.
+     * @return The y-position of the ghost piece.
+     */
     @Override
     public int getGhostYPosition() {
-        int ghostY = (int) currentOffset.getY();
-        while (!MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), ghostY + 1)) {
+        int rotation = brickRotator.getCurrentShapeIndex();
+        PieceShape shape = brickRotator.getPieceShape(rotation);
+        int landingY = Integer.MAX_VALUE;
+        for (int c = shape.getMinColumn(); c <= shape.getMaxColumn(); c++) {
+            int bottom = shape.getColumnBottom(c);
+            if (bottom >= 0) {
+                landingY = Math.min(landingY, columnTops[currentX + c] - 1 - bottom);
+            }
+        }
+        if (landingY >= currentY) {
+            return landingY;
+        }
+        int ghostY = currentY;
+        while (canPlace(currentX, ghostY + 1, rotation)) {
             ghostY++;
         }
         return ghostY;
     }
 
+    /**
+     * Drops the current brick straight to its ghost position.
+     * @return The number of rows the brick dropped.
+     */
+    @Override
+    public int hardDrop() {
+        int ghostY = getGhostYPosition();
+        int distance = ghostY - currentY;
+        currentY = ghostY;
+        return distance;
+    }
+
     /**
      * Holds the current brick or swaps with the held brick.
      */
@@ -207,34 +370,49 @@ public class SimpleBoard implements Board {
             Brick tmp = brickRotator.getBrick();
             brickRotator.setBrick(heldBrick);
             heldBrick = tmp;
-            currentOffset = new Point(4, 0);
+            currentX = width / 2 - 1;
+            currentY = 0;
         }
         canHold = false;
     }
 
     /**
-     * Creates a pyramid-shaped obstacle at the bottom of the board.
+     * Gets the height of the obstacle pyramid for a board size: its base spans about 70% of the width,
+     * but it never takes more than a sixth of the height. A standard 10x25 board gets 4 rows.
+     * @param width The width of the board.
+     * @param height The height of the board.
+     * @return The number of pyramid rows, at least 1.
+     */
+    static int pyramidHeight(int width, int height) {
+        return Math.max(1, Math.min((width * 7 / 10 + 1) / 2, height / 6));
+    }
+
+    /**
+     * Creates a pyramid-shaped obstacle at the bottom of the board, scaled to the board size.
      */
     @Override
     public void createPyramidObstacle() {
-        int pyramidHeight = 4;
-        Random random = new Random();
+        int pyramidHeight = pyramidHeight(width, height);
+        GameRandom random = brickGenerator.getObstacleRandom();
         for (int i = 0; i < pyramidHeight; i++) {
             for (int j = 0; j < i * 2 + 1; j++) {
                 int x = (width / 2) - i + j - 1;
                 int y = height - pyramidHeight + i;
                 if (x >= 0 && x < width) {
                     // Assign a random color (1-7) to each block
-                    currentGameMatrix[y][x] = random.nextInt(7) + 1;
+                    storage.set(y, x, random.nextInt(7) + 1);
+                    columnTops[x] = Math.min(columnTops[x], y);
                 }
             }
         }
+        markDirtyRows(height - pyramidHeight, height - 1);
     }
 
     /**
      * Checks if the current brick is a bomb.
      * @return true if the current brick is a bomb, false otherwise.
      */
+    @Override
     public boolean isCurrentBrickBomb() {
         return brickRotator.getBrick().isBomb();
     }
@@ -243,8 +421,76 @@ public class SimpleBoard implements Board {
      * Gets the position of the current brick.
      * @return The current brick's position.
      */
+    @Override
     public Point getBrickPosition() {
-        return currentOffset;
+        return new Point(currentX, currentY);
+    }
+
+    /**
+     * Gets the rotation index of the current brick.
+     * @return The current rotation index.
+     */
+    @Override
+    public int getBrickRotation() {
+        return brickRotator.getCurrentShapeIndex();
+    }
+
+    /**
+     * Gets the brick that is currently falling.
+     * @return The current brick.
+     */
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.getBrick();
+    }
+
+    /**
+     * Gets the brick that is being held.
+     * @return The held brick, or null if no brick is held.
+     */
+    @Override
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    /**
+     * Checks whether the current brick may still be held.
+     * @return true if holding is allowed, false after a hold until the next brick locks.
+     */
+    @Override
+    public boolean canHoldBrick() {
+        return canHold;
+    }
+
+    /**
+     * Replaces the cells, the falling brick and the held brick with those of a saved game.
+     * @param state The saved game, taken on a board of the same size.
+     */
+    @Override
+    public void restoreState(GameState state) {
+        BoardSnapshot cells = state.getCells();
+        if (cells.getWidth() != width || cells.getHeight() != height) {
+            throw new IllegalArgumentException("Saved board is " + cells.getWidth() + "x" + cells.getHeight()
+                    + ", this board is " + width + "x" + height);
+        }
+        storage.clear();
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                int value = cells.get(i, j);
+                if (value != 0) {
+                    storage.set(i, j, value);
+                }
+            }
+        }
+        Arrays.fill(columnTops, 0);
+        refreshColumnTops(0, width - 1);
+        clearDirtyRows();
+        brickRotator.setBrick(PieceCatalog.byId(state.getBrickId()));
+        brickRotator.setCurrentShape(state.getRotation());
+        currentX = state.getX();
+        currentY = state.getY();
+        heldBrick = state.getHeldBrickId() != GameState.NO_BRICK ? PieceCatalog.byId(state.getHeldBrickId()) : null;
+        canHold = state.canHold();
     }
 
     /**
@@ -253,6 +499,7 @@ public class SimpleBoard implements Board {
      * @param centerY The y-coordinate of the bomb's center.
      * @return A list of points representing the cleared blocks.
      */
+    @Override
     public List<Point> detonateBomb(int centerX, int centerY) {
         List<Point> clearedBlocks = new ArrayList<>();
         for (int i = -1; i <= 1; i++) {
@@ -261,13 +508,14 @@ public class SimpleBoard implements Board {
                 int y = centerY + i;
 
                 if (y >= 0 && y < height && x >= 0 && x < width) {
-                    if (currentGameMatrix[y][x] != 0) {
+                    if (storage.get(y, x) != 0) {
                         clearedBlocks.add(new Point(x, y));
                     }
-                    currentGameMatrix[y][x] = 0;
+                    storage.set(y, x, 0);
                 }
             }
         }
+        refreshColumnTops(Math.max(centerX - 1, 0), Math.min(centerX + 1, width - 1));
         return clearedBlocks;
     }
 
@@ -280,11 +528,11 @@ public class SimpleBoard implements Board {
         for (int i = 0; i < shape.length; i++) {
             for (int j = 0; j < shape[i].length; j++) {
                 if (shape[i][j] == BOMB_ID) {
-                    return new Point(currentOffset.x + j, currentOffset.y + i);
+                    return new Point(currentX + j, currentY + i);
                 }
             }
         }
-        return currentOffset; // Fallback
+        return getBrickPosition(); // Fallback
     }
 
     /**
@@ -292,24 +540,16 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void handleGravity() {
-        for (int j = 0; j < width; j++) {
-            int emptyRow = -1;
-            for (int i = height - 1; i >= 0; i--) {
-                if (currentGameMatrix[i][j] == 0 && emptyRow == -1) {
-                    emptyRow = i;
-                } else if (currentGameMatrix[i][j] != 0 && emptyRow != -1) {
-                    currentGameMatrix[emptyRow][j] = currentGameMatrix[i][j];
-                    currentGameMatrix[i][j] = 0;
-                    emptyRow--;
-                }
-            }
-        }
+        storage.applyGravity();
+        refreshColumnTops(0, width - 1);
+        markDirtyRows(0, height - 1);
     }
 
     /**
      * Gets the brick generator.
      * @return The brick generator.
      */
+    @Override
     public RandomBrickGenerator getBrickGenerator() {
         return brickGenerator;
     }
@@ -0,0 +1,101 @@
+package com.comp2042.logic;
+
+import java.util.SplittableRandom;
+
+/**
+ * The random keys behind the board hashes.
+ * Hashing is two-level so that clearing lines stays cheap. Each filled cell contributes the Zobrist key
+ * of its column to the content hash of its row, and that content hash travels with the row when rows move.
+ * The board hash is the XOR of every non-empty row's content hash mixed with the key of the row's position,
+ * so moving a row costs one update, not one per cell.
+ * Only occupancy is hashed: two boards that differ in colors alone play the same.
+ * The keys come from a fixed seed, so equal boards hash equally across runs and across board classes.
+ */
+public final class ZobristKeys {
+
+    private static final long SEED = 0x2042_7E7215L;
+    private static volatile ZobristKeys cached;
+
+    private final int width;
+    private final int height;
+    private final long[] columnKeys;
+    private final long[] rowKeys;
+    private final long[][] byteTables;
+
+    private ZobristKeys(int width, int height) {
+        this.width = width;
+        this.height = height;
+        SplittableRandom random = new SplittableRandom(SEED);
+        columnKeys = new long[width];
+        for (int j = 0; j < width; j++) {
+            columnKeys[j] = random.nextLong();
+        }
+        rowKeys = new long[height];
+        for (int i = 0; i < height; i++) {
+            rowKeys[i] = random.nextLong();
+        }
+        // Content hashes of 64-bit row masks, looked up eight columns at a time
+        byteTables = new long[(Math.min(width, Long.SIZE) + 7) / 8][256];
+        for (int b = 0; b < byteTables.length; b++) {
+            for (int bits = 1; bits < 256; bits++) {
+                int column = b * 8 + Integer.numberOfTrailingZeros(bits);
+                long key = column < width ? columnKeys[column] : 0;
+                byteTables[b][bits] = byteTables[b][bits & (bits - 1)] ^ key;
+            }
+        }
+    }
+
+    /**
+     * Gets the keys for a board size. The most recently used size is cached, so boards of one game share keys.
+     * @param width The width of the board.
+     * @param height The height of the board.
+     * @return The keys.
+     */
+    public static ZobristKeys of(int width, int height) {
+        ZobristKeys keys = cached;
+        if (keys == null || keys.width != width || keys.height != height) {
+            keys = new ZobristKeys(width, height);
+            cached = keys;
+        }
+        return keys;
+    }
+
+    /**
+     * Gets the key a filled cell of a column adds to its row's content hash.
+     * @param column The column.
+     * @return The column key.
+     */
+    public long columnKey(int column) {
+        return columnKeys[column];
+    }
+
+    /**
+     * Gets the content hash of a row given as a bitmask, with bit {@code j} set when column {@code j} is filled.
+     * @param mask The row mask, covering at most the first 64 columns.
+     * @return The XOR of the column keys of the filled cells.
+     */
+    public long contentHash(long mask) {
+        long hash = 0;
+        for (int b = 0; mask != 0; b++, mask >>>= 8) {
+            hash ^= byteTables[b][(int) mask & 0xFF];
+        }
+        return hash;
+    }
+
+    /**
+     * Gets what a row contributes to the board hash at a position.
+     * @param row The position of the row.
+     * @param contentHash The content hash of the row.
+     * @return The contribution, 0 for an empty row.
+     */
+    public long rowHash(int row, long contentHash) {
+        if (contentHash == 0) {
+            return 0;
+        }
+        // SplitMix64 finalizer, so the contribution depends on every bit of the row key and content
+        long z = contentHash ^ rowKeys[row];
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
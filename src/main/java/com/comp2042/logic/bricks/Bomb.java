@@ -2,7 +2,6 @@ package com.comp2042.logic.bricks;
 
 import com.comp2042.logic.SimpleBoard;
 
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -11,22 +10,27 @@ import java.util.List;
  */
 public class Bomb implements Brick {
 
-    private final List<int[][]> shape;
-
     /**
-     * Constructs a new Bomb brick.
+     * The shared, precomputed shape of the bomb.
      */
-    public Bomb() {
-        this.shape = Collections.singletonList(new int[][]{{SimpleBoard.BOMB_ID}});
-    }
+    static final Piece PIECE = new Piece(SimpleBoard.BOMB_ID, new int[][]{{SimpleBoard.BOMB_ID}});
 
     /**
      * Gets the shape matrix of the bomb.
-     * @return A list containing the bomb's shape matrix.
+     * @return A list containing a copy of the bomb's shape matrix.
      */
     @Override
     public List<int[][]> getShapeMatrix() {
-        return shape;
+        return PIECE.copyShapes();
+    }
+
+    /**
+     * Gets the shared, precomputed shape of the bomb.
+     * @return The piece of the bomb.
+     */
+    @Override
+    public Piece getPiece() {
+        return PIECE;
     }
 
     /**
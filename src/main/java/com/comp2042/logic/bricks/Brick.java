@@ -15,6 +15,13 @@ public interface Brick {
      */
     List<int[][]> getShapeMatrix();
 
+    /**
+     * Gets the shared, precomputed piece describing all rotations of the brick.
+     * Unlike {@link #getShapeMatrix()}, this never copies and is meant for the hot path.
+     * @return The piece of this brick.
+     */
+    Piece getPiece();
+
     /**
      * Checks if the brick is a bomb.
      * @return true if the brick is a bomb, false otherwise.
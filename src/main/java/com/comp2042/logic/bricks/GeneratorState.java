@@ -0,0 +1,126 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Arrays;
+
+/**
+ * An immutable copy of everything a {@link RandomBrickGenerator} needs to continue its sequence:
+ * the seed, the preview queue, the rest of the current bag, both random streams and the power-up progress.
+ * Bricks are stored as piece ids, see {@link PieceCatalog#byId(int)}.
+ */
+public final class GeneratorState {
+
+    private final long seed;
+    private final int[] queue;
+    private final int[] bag;
+    private final long bagRandomState;
+    private final long bagRandomGamma;
+    private final long obstacleRandomState;
+    private final long obstacleRandomGamma;
+    private final int powerUpProgress;
+
+    /**
+     * Constructs a new GeneratorState.
+     * @param seed The seed the game was started from.
+     * @param queue The piece ids of the preview queue, next brick first.
+     * @param bag The piece ids left in the current bag, in the order they will be drawn.
+     * @param bagRandomState The state of the bag-shuffle stream.
+     * @param bagRandomGamma The gamma of the bag-shuffle stream.
+     * @param obstacleRandomState The state of the obstacle-color stream.
+     * @param obstacleRandomGamma The gamma of the obstacle-color stream.
+     * @param powerUpProgress The lines cleared towards the next bomb.
+     */
+    public GeneratorState(long seed, int[] queue, int[] bag, long bagRandomState, long bagRandomGamma,
+                          long obstacleRandomState, long obstacleRandomGamma, int powerUpProgress) {
+        this.seed = seed;
+        this.queue = queue.clone();
+        this.bag = bag.clone();
+        this.bagRandomState = bagRandomState;
+        this.bagRandomGamma = bagRandomGamma;
+        this.obstacleRandomState = obstacleRandomState;
+        this.obstacleRandomGamma = obstacleRandomGamma;
+        this.powerUpProgress = powerUpProgress;
+    }
+
+    /**
+     * Gets the seed the game was started from.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the piece ids of the preview queue, next brick first.
+     * @return A copy of the queue.
+     */
+    public int[] getQueue() {
+        return queue.clone();
+    }
+
+    /**
+     * Gets the piece ids left in the current bag, in drawing order.
+     * @return A copy of the bag.
+     */
+    public int[] getBag() {
+        return bag.clone();
+    }
+
+    /**
+     * Gets the state of the bag-shuffle stream.
+     * @return The state.
+     */
+    public long getBagRandomState() {
+        return bagRandomState;
+    }
+
+    /**
+     * Gets the gamma of the bag-shuffle stream.
+     * @return The gamma.
+     */
+    public long getBagRandomGamma() {
+        return bagRandomGamma;
+    }
+
+    /**
+     * Gets the state of the obstacle-color stream.
+     * @return The state.
+     */
+    public long getObstacleRandomState() {
+        return obstacleRandomState;
+    }
+
+    /**
+     * Gets the gamma of the obstacle-color stream.
+     * @return The gamma.
+     */
+    public long getObstacleRandomGamma() {
+        return obstacleRandomGamma;
+    }
+
+    /**
+     * Gets the lines cleared towards the next bomb.
+     * @return The power-up progress.
+     */
+    public int getPowerUpProgress() {
+        return powerUpProgress;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GeneratorState other)) {
+            return false;
+        }
+        return seed == other.seed && Arrays.equals(queue, other.queue) && Arrays.equals(bag, other.bag)
+                && bagRandomState == other.bagRandomState && bagRandomGamma == other.bagRandomGamma
+                && obstacleRandomState == other.obstacleRandomState && obstacleRandomGamma == other.obstacleRandomGamma
+                && powerUpProgress == other.powerUpProgress;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(seed ^ bagRandomState) + Arrays.hashCode(queue);
+    }
+}
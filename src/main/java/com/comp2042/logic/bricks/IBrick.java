@@ -1,8 +1,5 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.logic.helper.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -10,33 +7,38 @@ import java.util.List;
  */
 final class IBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
     /**
-     * Constructs a new IBrick.
+     * The shared, precomputed rotations of the I-brick.
      */
-    public IBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {1, 1, 1, 1},
-                {0, 0, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0}
-        });
-    }
+    static final Piece PIECE = new Piece(1,
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {1, 1, 1, 1},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0}
+            });
 
     /**
      * Gets the shape matrix of the I-brick.
-     * @return A list containing all possible rotations of the I-brick.
+     * @return A list containing copies of all possible rotations of the I-brick.
      */
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return PIECE.copyShapes();
     }
 
+    /**
+     * Gets the shared, precomputed rotations of the I-brick.
+     * @return The piece of the I-brick.
+     */
+    @Override
+    public Piece getPiece() {
+        return PIECE;
+    }
 }
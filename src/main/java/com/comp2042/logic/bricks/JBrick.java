@@ -1,8 +1,5 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.logic.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -10,44 +7,50 @@ import java.util.List;
  */
 final class JBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
     /**
-     * Constructs a new JBrick.
+     * The shared, precomputed rotations of the J-brick.
      */
-    public JBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {2, 2, 2, 0},
-                {0, 0, 2, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 2, 2, 0},
-                {0, 2, 0, 0},
-                {0, 2, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 2, 0, 0},
-                {0, 2, 2, 2},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 2, 0},
-                {0, 0, 2, 0},
-                {0, 2, 2, 0},
-                {0, 0, 0, 0}
-        });
-    }
+    static final Piece PIECE = new Piece(2,
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {2, 2, 2, 0},
+                    {0, 0, 2, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 2, 2, 0},
+                    {0, 2, 0, 0},
+                    {0, 2, 0, 0}
+            },
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 2, 0, 0},
+                    {0, 2, 2, 2},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 0, 2, 0},
+                    {0, 0, 2, 0},
+                    {0, 2, 2, 0},
+                    {0, 0, 0, 0}
+            });
 
     /**
      * Gets the shape matrix of the J-brick.
-     * @return A list containing all possible rotations of the J-brick.
+     * @return A list containing copies of all possible rotations of the J-brick.
      */
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return PIECE.copyShapes();
+    }
+
+    /**
+     * Gets the shared, precomputed rotations of the J-brick.
+     * @return The piece of the J-brick.
+     */
+    @Override
+    public Piece getPiece() {
+        return PIECE;
     }
 }
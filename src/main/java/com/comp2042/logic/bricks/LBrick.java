@@ -1,8 +1,5 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.logic.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -10,44 +7,50 @@ import java.util.List;
  */
 final class LBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
     /**
-     * Constructs a new LBrick.
+     * The shared, precomputed rotations of the L-brick.
      */
-    public LBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 3, 3, 3},
-                {0, 3, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 3, 3, 0},
-                {0, 0, 3, 0},
-                {0, 0, 3, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 0, 3, 0},
-                {3, 3, 3, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 3, 0, 0},
-                {0, 3, 0, 0},
-                {0, 3, 3, 0},
-                {0, 0, 0, 0}
-        });
-    }
+    static final Piece PIECE = new Piece(3,
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 3, 3, 3},
+                    {0, 3, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 3, 3, 0},
+                    {0, 0, 3, 0},
+                    {0, 0, 3, 0}
+            },
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 0, 3, 0},
+                    {3, 3, 3, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 3, 0, 0},
+                    {0, 3, 0, 0},
+                    {0, 3, 3, 0},
+                    {0, 0, 0, 0}
+            });
 
     /**
      * Gets the shape matrix of the L-brick.
-     * @return A list containing all possible rotations of the L-brick.
+     * @return A list containing copies of all possible rotations of the L-brick.
      */
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return PIECE.copyShapes();
+    }
+
+    /**
+     * Gets the shared, precomputed rotations of the L-brick.
+     * @return The piece of the L-brick.
+     */
+    @Override
+    public Piece getPiece() {
+        return PIECE;
     }
 }
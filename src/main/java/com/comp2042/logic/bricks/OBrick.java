@@ -1,8 +1,5 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.logic.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -10,27 +7,32 @@ import java.util.List;
  */
 final class OBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
     /**
-     * Constructs a new OBrick.
+     * The shared, precomputed rotations of the O-brick.
      */
-    public OBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 4, 4, 0},
-                {0, 4, 4, 0},
-                {0, 0, 0, 0}
-        });
-    }
+    static final Piece PIECE = new Piece(4,
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 4, 4, 0},
+                    {0, 4, 4, 0},
+                    {0, 0, 0, 0}
+            });
 
     /**
      * Gets the shape matrix of the O-brick.
-     * @return A list containing all possible rotations of the O-brick.
+     * @return A list containing copies of all possible rotations of the O-brick.
      */
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return PIECE.copyShapes();
     }
 
+    /**
+     * Gets the shared, precomputed rotations of the O-brick.
+     * @return The piece of the O-brick.
+     */
+    @Override
+    public Piece getPiece() {
+        return PIECE;
+    }
 }
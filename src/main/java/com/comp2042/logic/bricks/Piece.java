@@ -0,0 +1,66 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.logic.MatrixOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The immutable, precomputed description of a piece and all of its rotations.
+ * One instance exists per piece type and is shared by every brick of that type.
+ */
+public final class Piece {
+
+    private final int id;
+    private final PieceShape[] rotations;
+
+    /**
+     * Constructs a new Piece.
+     * @param id The piece id, which is also the color index of its cells.
+     * @param rotations The shape matrices of all rotations, in rotation order.
+     */
+    Piece(int id, int[][]... rotations) {
+        this.id = id;
+        this.rotations = new PieceShape[rotations.length];
+        for (int i = 0; i < rotations.length; i++) {
+            this.rotations[i] = new PieceShape(rotations[i]);
+        }
+    }
+
+    /**
+     * Gets the piece id.
+     * @return The piece id.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the number of rotations.
+     * @return The number of rotations.
+     */
+    public int getRotationCount() {
+        return rotations.length;
+    }
+
+    /**
+     * Gets one rotation of the piece.
+     * @param rotation The rotation index.
+     * @return The shape of that rotation.
+     */
+    public PieceShape getShape(int rotation) {
+        return rotations[rotation];
+    }
+
+    /**
+     * Creates deep copies of all rotation matrices, for callers that need their own mutable copies.
+     * @return A list of copied shape matrices.
+     */
+    List<int[][]> copyShapes() {
+        List<int[][]> shapes = new ArrayList<>(rotations.length);
+        for (PieceShape rotation : rotations) {
+            shapes.add(MatrixOperations.copy(rotation.getMatrix()));
+        }
+        return shapes;
+    }
+}
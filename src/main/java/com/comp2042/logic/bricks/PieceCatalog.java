@@ -0,0 +1,47 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+
+/**
+ * The catalog of all pieces, built once when the class is loaded.
+ * It hands out shared flyweight bricks, so generating a bag never constructs new brick objects.
+ */
+public final class PieceCatalog {
+
+    public static final Brick I = new IBrick();
+    public static final Brick J = new JBrick();
+    public static final Brick L = new LBrick();
+    public static final Brick O = new OBrick();
+    public static final Brick S = new SBrick();
+    public static final Brick T = new TBrick();
+    public static final Brick Z = new ZBrick();
+    public static final Brick BOMB = new Bomb();
+
+    private static final List<Brick> STANDARD_BRICKS = List.of(I, J, L, O, S, T, Z);
+    private static final Brick[] BY_ID = {null, I, J, L, O, S, T, Z, BOMB};
+
+    //Private constructor to prevent instantiation of utility class.
+    private PieceCatalog() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Gets the seven standard bricks that make up one bag.
+     * @return An unmodifiable list of the standard bricks.
+     */
+    public static List<Brick> standardBricks() {
+        return STANDARD_BRICKS;
+    }
+
+    /**
+     * Gets the shared brick with the given piece id.
+     * @param id The piece id, from 1 to {@link com.comp2042.logic.SimpleBoard#BOMB_ID}.
+     * @return The brick with that id.
+     */
+    public static Brick byId(int id) {
+        if (id <= 0 || id >= BY_ID.length) {
+            throw new IllegalArgumentException("Unknown piece id: " + id);
+        }
+        return BY_ID[id];
+    }
+}
@@ -0,0 +1,182 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.logic.MatrixOperations;
+
+import java.util.Arrays;
+
+/**
+ * One immutable rotation of a piece.
+ * Besides the shape matrix it holds the bounding box of the filled cells, the list of filled cells,
+ * one bitmask per shape row and the bottom profile per column, so boards can test and stamp the shape
+ * without walking the matrix.
+ */
+public final class PieceShape {
+
+    private final int[][] matrix;
+    private final int[] cellRows;
+    private final int[] cellColumns;
+    private final long[] rowMasks;
+    private final int[] columnBottoms;
+    private final int minRow;
+    private final int maxRow;
+    private final int minColumn;
+    private final int maxColumn;
+    private final int color;
+
+    /**
+     * Constructs a new PieceShape from a shape matrix.
+     * @param matrix The shape matrix, copied so later changes to it have no effect.
+     */
+    PieceShape(int[][] matrix) {
+        this.matrix = MatrixOperations.copy(matrix);
+        int count = 0;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    count++;
+                }
+            }
+        }
+        cellRows = new int[count];
+        cellColumns = new int[count];
+        rowMasks = new long[matrix.length];
+        columnBottoms = new int[matrix[0].length];
+        Arrays.fill(columnBottoms, -1);
+        int top = Integer.MAX_VALUE;
+        int bottom = Integer.MIN_VALUE;
+        int left = Integer.MAX_VALUE;
+        int right = Integer.MIN_VALUE;
+        int value = 0;
+        int k = 0;
+        for (int i = 0; i < matrix.length; i++) {
+            for (int j = 0; j < matrix[i].length; j++) {
+                if (matrix[i][j] != 0) {
+                    cellRows[k] = i;
+                    cellColumns[k] = j;
+                    k++;
+                    rowMasks[i] |= 1L << j;
+                    columnBottoms[j] = i;
+                    top = Math.min(top, i);
+                    bottom = Math.max(bottom, i);
+                    left = Math.min(left, j);
+                    right = Math.max(right, j);
+                    value = matrix[i][j];
+                }
+            }
+        }
+        minRow = top;
+        maxRow = bottom;
+        minColumn = left;
+        maxColumn = right;
+        color = value;
+    }
+
+    /**
+     * Gets the shape matrix.
+     * The returned array is shared by every user of the catalog and must not be modified.
+     * @return A 2D array representing the shape.
+     */
+    public int[][] getMatrix() {
+        return matrix;
+    }
+
+    /**
+     * Gets the number of filled cells.
+     * @return The number of filled cells.
+     */
+    public int getCellCount() {
+        return cellRows.length;
+    }
+
+    /**
+     * Gets the row of a filled cell within the shape matrix.
+     * @param index The index of the cell.
+     * @return The row of the cell.
+     */
+    public int getCellRow(int index) {
+        return cellRows[index];
+    }
+
+    /**
+     * Gets the column of a filled cell within the shape matrix.
+     * @param index The index of the cell.
+     * @return The column of the cell.
+     */
+    public int getCellColumn(int index) {
+        return cellColumns[index];
+    }
+
+    /**
+     * Gets the bitmask of a shape row, with bit {@code j} set when column {@code j} is filled.
+     * @param row The row within the shape matrix.
+     * @return The row bitmask.
+     */
+    public long getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Gets the lowest filled row of a shape column, which is where the shape touches down when dropped.
+     * @param column The column within the shape matrix.
+     * @return The lowest filled row of the column, or -1 if the column is empty.
+     */
+    public int getColumnBottom(int column) {
+        return columnBottoms[column];
+    }
+
+    /**
+     * Gets the number of rows of the shape matrix.
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return matrix.length;
+    }
+
+    /**
+     * Gets the number of columns of the shape matrix.
+     * @return The number of columns.
+     */
+    public int getColumns() {
+        return matrix[0].length;
+    }
+
+    /**
+     * Gets the topmost filled row of the bounding box.
+     * @return The top row.
+     */
+    public int getMinRow() {
+        return minRow;
+    }
+
+    /**
+     * Gets the bottommost filled row of the bounding box.
+     * @return The bottom row.
+     */
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    /**
+     * Gets the leftmost filled column of the bounding box.
+     * @return The left column.
+     */
+    public int getMinColumn() {
+        return minColumn;
+    }
+
+    /**
+     * Gets the rightmost filled column of the bounding box.
+     * @return The right column.
+     */
+    public int getMaxColumn() {
+        return maxColumn;
+    }
+
+    /**
+     * Gets the color index of the filled cells.
+     * @return The color index.
+     */
+    public int getColor() {
+        return color;
+    }
+}
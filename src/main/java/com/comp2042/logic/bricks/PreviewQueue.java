@@ -0,0 +1,222 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.logic.GameRandom;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A fixed-size ring buffer of upcoming piece ids, filled one shuffled bag at a time ahead of the game.
+ * <p>
+ * The game thread is the only consumer: it takes ids and peeks at the preview without locking or allocating.
+ * Refills run on the prefetcher executor, which may be a background thread. The producer writes a whole bag
+ * and then publishes it by advancing {@code tail} with release semantics; the consumer advances {@code head}
+ * the same way to hand slots back. Refills are serialized by the queue's monitor, and if the prefetcher ever
+ * falls behind, the game thread refills under the monitor itself rather than wait. Resetting and restoring
+ * take the monitor too, so they never race a refill.
+ * <p>
+ * The sequence depends only on the shuffle stream, never on which thread shuffled a bag or how far ahead it ran.
+ * For each bag the queue keeps the stream's state after the shuffle, so {@link #getBagRandomState()} can
+ * describe the queue as if it held exactly {@link RandomBrickGenerator#PREVIEW_CAPACITY} bricks.
+ */
+final class PreviewQueue {
+
+    /**
+     * The number of ids the ring holds, a power of two with room for four bags beyond the preview.
+     */
+    static final int CAPACITY = 32;
+
+    private static final int MASK = CAPACITY - 1;
+    private static final int PREVIEW = RandomBrickGenerator.PREVIEW_CAPACITY;
+    // Enough slots for every bag that can be in the ring at once
+    private static final int BAG_SLOTS = 8;
+
+    private final int[] ids = new int[CAPACITY];
+    private final long[] bagStates = new long[BAG_SLOTS];
+    private final int[] standardIds;
+    private final int bagSize;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+    private final Runnable refill = this::refill;
+    private Executor prefetcher;
+    private GameRandom bagRandom;
+
+    /**
+     * Constructs a new PreviewQueue. It holds nothing until {@link #reset(GameRandom)} or a restore.
+     * @param prefetcher The executor that runs the refills.
+     */
+    PreviewQueue(Executor prefetcher) {
+        List<Brick> standardBricks = PieceCatalog.standardBricks();
+        standardIds = new int[standardBricks.size()];
+        for (int i = 0; i < standardIds.length; i++) {
+            standardIds[i] = standardBricks.get(i).getPiece().getId();
+        }
+        bagSize = standardIds.length;
+        this.prefetcher = prefetcher;
+    }
+
+    /**
+     * Sets the executor that runs the refills from the next refill on.
+     * @param prefetcher The executor.
+     */
+    void setPrefetcher(Executor prefetcher) {
+        this.prefetcher = prefetcher;
+    }
+
+    /**
+     * Empties the queue and fills it from a new shuffle stream.
+     * @param bagRandom The stream for the bag shuffles, used by the producer from now on.
+     */
+    synchronized void reset(GameRandom bagRandom) {
+        this.bagRandom = bagRandom;
+        head.set(0);
+        tail.set(0);
+        fill();
+    }
+
+    /**
+     * Refills the queue with the preview and the rest of the bag saved earlier, then continues from the stream.
+     * @param queue The piece ids of the preview, exactly {@link RandomBrickGenerator#PREVIEW_CAPACITY} of them.
+     * @param bag The piece ids left in the bag of the last preview brick, fewer than a whole bag.
+     * @param bagRandom The shuffle stream as it was after shuffling that bag.
+     */
+    synchronized void restore(int[] queue, int[] bag, GameRandom bagRandom) {
+        if (queue.length != PREVIEW || bag.length >= bagSize) {
+            throw new IllegalArgumentException("Saved preview does not fit the queue: " + queue.length
+                    + " bricks with " + bag.length + " left in the bag");
+        }
+        // Line the ids up so the restored bag ends on a bag boundary, like every bag the producer writes
+        long start = (bagSize - bag.length % bagSize) % bagSize;
+        long end = start;
+        for (int id : queue) {
+            ids[(int) end++ & MASK] = checkId(id);
+        }
+        for (int id : bag) {
+            ids[(int) end++ & MASK] = checkId(id);
+        }
+        bagStates[bagSlot(end - 1)] = bagRandom.getState();
+        this.bagRandom = bagRandom;
+        head.set(start);
+        tail.set(end);
+        fill();
+    }
+
+    /**
+     * Takes the next piece id. Runs on the game thread.
+     * @return The piece id.
+     */
+    int take() {
+        long h = head.get();
+        if (tail.getAcquire() - h <= PREVIEW) {
+            // The prefetcher fell behind; refill here so the preview stays full
+            synchronized (this) {
+                fill();
+            }
+        }
+        int id = ids[(int) h & MASK];
+        head.setRelease(h + 1);
+        if (CAPACITY - (tail.getAcquire() - h - 1) >= bagSize && refillScheduled.compareAndSet(false, true)) {
+            prefetcher.execute(refill);
+        }
+        return id;
+    }
+
+    /**
+     * Gets a piece id of the preview without taking it. Runs on the game thread.
+     * @param index The position in the preview, 0 for the next brick.
+     * @return The piece id.
+     */
+    int peek(int index) {
+        if (index < 0 || index >= PREVIEW) {
+            throw new IndexOutOfBoundsException("Preview index out of range: " + index);
+        }
+        return ids[(int) (head.get() + index) & MASK];
+    }
+
+    /**
+     * Gets the ids of the bag of the last preview brick that come after it.
+     * @return The piece ids, in the order they will be drawn.
+     */
+    int[] getBagRemainder() {
+        long last = head.get() + PREVIEW - 1;
+        long bagEnd = (last / bagSize + 1) * bagSize;
+        int[] remainder = new int[(int) (bagEnd - last - 1)];
+        for (int i = 0; i < remainder.length; i++) {
+            remainder[i] = ids[(int) (last + 1 + i) & MASK];
+        }
+        return remainder;
+    }
+
+    /**
+     * Gets the state of the shuffle stream right after the bag of the last preview brick was shuffled.
+     * @return The stream state.
+     */
+    long getBagRandomState() {
+        return bagStates[bagSlot(head.get() + PREVIEW - 1)];
+    }
+
+    /**
+     * Gets the gamma of the shuffle stream, which does not change as it advances.
+     * @return The stream gamma.
+     */
+    long getBagRandomGamma() {
+        return bagRandom.getGamma();
+    }
+
+    /**
+     * Gets the number of ids produced but not yet taken.
+     * @return The number of ids.
+     */
+    int size() {
+        return (int) (tail.getAcquire() - head.get());
+    }
+
+    /**
+     * Fills the queue on the prefetcher.
+     */
+    private void refill() {
+        synchronized (this) {
+            fill();
+        }
+        refillScheduled.set(false);
+    }
+
+    /**
+     * Adds shuffled bags while a whole bag fits. The caller holds the monitor.
+     */
+    private void fill() {
+        long t = tail.get();
+        while (CAPACITY - (t - head.getAcquire()) >= bagSize) {
+            int base = (int) t;
+            for (int i = 0; i < bagSize; i++) {
+                ids[(base + i) & MASK] = standardIds[i];
+            }
+            // Fisher-Yates, in the same order as the original bag list shuffle, so seeds keep their games
+            for (int i = bagSize - 1; i > 0; i--) {
+                int j = bagRandom.nextInt(i + 1);
+                int swap = ids[(base + i) & MASK];
+                ids[(base + i) & MASK] = ids[(base + j) & MASK];
+                ids[(base + j) & MASK] = swap;
+            }
+            bagStates[bagSlot(t)] = bagRandom.getState();
+            t += bagSize;
+            tail.setRelease(t);
+        }
+    }
+
+    private int bagSlot(long position) {
+        return (int) (position / bagSize) & (BAG_SLOTS - 1);
+    }
+
+    private int checkId(int id) {
+        for (int standardId : standardIds) {
+            if (standardId == id) {
+                return id;
+            }
+        }
+        throw new IllegalArgumentException("Not a standard piece id: " + id);
+    }
+}
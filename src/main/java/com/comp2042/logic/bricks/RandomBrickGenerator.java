@@ -1,58 +1,148 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.controller.MenuController;
+import com.comp2042.logic.GameRandom;
 import com.comp2042.model.GameLevel;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 /**
  * A brick generator that creates a random sequence of bricks using a 7-bag system.
  * It also manages the logic for power-ups like the bomb.
+ * <p>
+ * The generator owns all of a game's randomness. A single seed is split into one stream for the bag
+ * shuffles and one for the obstacle colors, so the same seed always gives the same brick sequence and
+ * the same obstacles, whatever the other stream was asked for. Bombs are not random: they follow
+ * from the cleared lines, so an identical game gets them at identical points.
+ * <p>
+ * Upcoming bricks wait in a ring buffer of piece ids that is refilled a bag at a time by a prefetcher.
+ * By default the refill runs inline when the game draws a brick; a live game can move it off the game
+ * thread with {@link #setPrefetcher(Executor)} and {@link #BACKGROUND_PREFETCHER}. Either way the game
+ * thread reads the preview without locking or allocating, and the sequence is the same.
  */
 public class RandomBrickGenerator implements BrickGenerator {
 
-    private final Deque<Brick> nextBricks = new ArrayDeque<>();
-    private final List<Brick> currentBag = new ArrayList<>();
+    /**
+     * The number of cleared lines that charges a bomb in obstacle mode.
+     */
+    public static final int POWER_UP_THRESHOLD = 5;
+
+    /**
+     * The number of bricks the preview queue always holds. Keeping it full, rather than filling it on demand,
+     * makes the generator's state depend only on how many bricks were drawn, not on how far anyone peeked.
+     */
+    public static final int PREVIEW_CAPACITY = 7;
+
+    /**
+     * The number of preview bricks shown unless {@link #setPreviewDepth(int)} picks another.
+     */
+    public static final int DEFAULT_PREVIEW_DEPTH = 3;
+
+    /**
+     * Refills preview queues on one shared background daemon thread, for generators that feed a live game.
+     * Headless runs keep the inline default, so thousands of games do not queue up behind one thread.
+     */
+    public static final Executor BACKGROUND_PREFETCHER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "brick-prefetcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final PreviewQueue nextBricks = new PreviewQueue(Runnable::run);
+    private final boolean powerUpsEnabled;
+    private int previewDepth = DEFAULT_PREVIEW_DEPTH;
+    private int previewVersion;
+    private List<int[][]> previewShapes = List.of();
+    private int previewShapesVersion;
+    private long seed;
+    private GameRandom obstacleRandom;
     private int powerUpProgress = 0;
 
     /**
-     * Constructs a new RandomBrickGenerator.
+     * Constructs a new RandomBrickGenerator for the normal mode, which has no power-ups.
      */
     public RandomBrickGenerator() {
-        fillBag();
-        ensureQueueHasEnoughBricks(2);
+        this(GameLevel.LevelType.TYPE_B_NORMAL);
     }
 
     /**
-     * Fills the bag with a new set of 7 shuffled bricks.
+     * Constructs a new RandomBrickGenerator for a level type.
+     * Only {@link GameLevel.LevelType#TYPE_C_OBSTACLES} hands out bombs.
+     * @param levelType The level type being played.
      */
-    private void fillBag() {
-        currentBag.clear();
-        currentBag.add(new IBrick());
-        currentBag.add(new JBrick());
-        currentBag.add(new LBrick());
-        currentBag.add(new OBrick());
-        currentBag.add(new SBrick());
-        currentBag.add(new TBrick());
-        currentBag.add(new ZBrick());
-        Collections.shuffle(currentBag);
+    public RandomBrickGenerator(GameLevel.LevelType levelType) {
+        this(levelType, GameRandom.newSeed());
     }
 
     /**
-     * Ensures that the queue of next bricks has at least a minimum number of bricks.
-     * @param minCount The minimum number of bricks required in the queue.
+     * Constructs a new RandomBrickGenerator whose randomness all derives from a seed.
+     * @param levelType The level type being played.
+     * @param seed The seed; the same seed always produces the same game.
      */
-    private void ensureQueueHasEnoughBricks(int minCount) {
-        while (nextBricks.size() < minCount) {
-            if (currentBag.isEmpty()) {
-                fillBag();
-            }
-            nextBricks.add(currentBag.remove(0));
+    public RandomBrickGenerator(GameLevel.LevelType levelType, long seed) {
+        this.powerUpsEnabled = levelType == GameLevel.LevelType.TYPE_C_OBSTACLES;
+        seedWith(seed);
+    }
+
+    /**
+     * Sets the executor that refills the preview queue, such as {@link #BACKGROUND_PREFETCHER}.
+     * @param prefetcher The executor, or null to refill inline on the thread that draws the bricks.
+     */
+    public void setPrefetcher(Executor prefetcher) {
+        nextBricks.setPrefetcher(prefetcher != null ? prefetcher : Runnable::run);
+    }
+
+    /**
+     * Restarts the generator from a seed, as if it had just been constructed with it.
+     * The preview queue, the current bag and the power-up progress are discarded.
+     * @param seed The new seed.
+     */
+    public void reseed(long seed) {
+        seedWith(seed);
+    }
+
+    /**
+     * Restarts the generator from a seed; private, so the constructor can call it.
+     * @param seed The new seed.
+     */
+    private void seedWith(long seed) {
+        GameRandom root = new GameRandom(seed);
+        this.seed = seed;
+        GameRandom bagRandom = root.split();
+        this.obstacleRandom = root.split();
+        nextBricks.reset(bagRandom);
+        powerUpProgress = 0;
+        previewVersion++;
+    }
+
+    /**
+     * Copies the state of the generator, so that {@link #restoreState(GeneratorState)} can continue
+     * the exact same sequence later.
+     * @return The generator state.
+     */
+    public GeneratorState saveState() {
+        int[] queue = new int[PREVIEW_CAPACITY];
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = nextBricks.peek(i);
         }
+        return new GeneratorState(seed, queue, nextBricks.getBagRemainder(),
+                nextBricks.getBagRandomState(), nextBricks.getBagRandomGamma(),
+                obstacleRandom.getState(), obstacleRandom.getGamma(), powerUpProgress);
+    }
+
+    /**
+     * Continues from a state taken with {@link #saveState()}, on this or another generator of the same level type.
+     * @param state The generator state.
+     */
+    public void restoreState(GeneratorState state) {
+        seed = state.getSeed();
+        GameRandom bagRandom = GameRandom.restore(state.getBagRandomState(), state.getBagRandomGamma());
+        obstacleRandom = GameRandom.restore(state.getObstacleRandomState(), state.getObstacleRandomGamma());
+        nextBricks.restore(state.getQueue(), state.getBag(), bagRandom);
+        powerUpProgress = state.getPowerUpProgress();
+        previewVersion++;
     }
 
     /**
@@ -61,12 +151,12 @@ public class RandomBrickGenerator implements BrickGenerator {
      */
     @Override
     public Brick getBrick() {
-        if (MenuController.getSelectedLevelType() == GameLevel.LevelType.TYPE_C_OBSTACLES && powerUpProgress >= 5) {
+        if (powerUpsEnabled && powerUpProgress >= POWER_UP_THRESHOLD) {
             powerUpProgress = 0;
-            return new Bomb();
+            return PieceCatalog.BOMB;
         }
-        ensureQueueHasEnoughBricks(1);
-        return nextBricks.poll();
+        previewVersion++;
+        return PieceCatalog.byId(nextBricks.take());
     }
 
     /**
@@ -75,28 +165,81 @@ public class RandomBrickGenerator implements BrickGenerator {
      */
     @Override
     public Brick getNextBrick() {
-        ensureQueueHasEnoughBricks(1);
-        return nextBricks.peek();
+        return PieceCatalog.byId(nextBricks.peek(0));
     }
 
     /**
      * Gets a list of the next bricks in the sequence.
-     * @param count The number of bricks to retrieve.
+     * @param count The number of bricks to retrieve; at most {@link #PREVIEW_CAPACITY} are returned.
      * @return A list of the next bricks.
      */
     @Override
     public List<Brick> getNextBricks(int count) {
-        ensureQueueHasEnoughBricks(count);
-        List<Brick> result = new ArrayList<>();
-        int i = 0;
-        for (Brick brick : nextBricks) {
-            if (i >= count) break;
-            result.add(brick);
-            i++;
+        int size = Math.min(count, PREVIEW_CAPACITY);
+        List<Brick> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(PieceCatalog.byId(nextBricks.peek(i)));
         }
         return result;
     }
 
+    /**
+     * Gets the piece id of a preview brick without allocating.
+     * @param index The position in the preview, 0 for the next brick, below {@link #PREVIEW_CAPACITY}.
+     * @return The piece id, see {@link PieceCatalog#byId(int)}.
+     */
+    public int getPreviewId(int index) {
+        return nextBricks.peek(index);
+    }
+
+    /**
+     * Sets how many preview bricks the view shows.
+     * @param previewDepth The number of bricks, from 1 to {@link #PREVIEW_CAPACITY}.
+     */
+    public void setPreviewDepth(int previewDepth) {
+        if (previewDepth < 1 || previewDepth > PREVIEW_CAPACITY) {
+            throw new IllegalArgumentException("Preview depth must be between 1 and " + PREVIEW_CAPACITY + ": " + previewDepth);
+        }
+        if (previewDepth != this.previewDepth) {
+            this.previewDepth = previewDepth;
+            previewVersion++;
+        }
+    }
+
+    /**
+     * Gets how many preview bricks the view shows.
+     * @return The preview depth.
+     */
+    public int getPreviewDepth() {
+        return previewDepth;
+    }
+
+    /**
+     * Gets the shapes of the shown preview bricks, next brick first. The list is immutable and is only rebuilt
+     * when the preview changed, so asking for it on every frame does not allocate.
+     * @return The matrices of the preview bricks, {@link #getPreviewDepth()} of them.
+     */
+    public List<int[][]> getPreviewShapes() {
+        if (previewShapesVersion != previewVersion) {
+            int[][][] shapes = new int[previewDepth][][];
+            for (int i = 0; i < shapes.length; i++) {
+                shapes[i] = PieceCatalog.byId(nextBricks.peek(i)).getPiece().getShape(0).getMatrix();
+            }
+            previewShapes = List.of(shapes);
+            previewShapesVersion = previewVersion;
+        }
+        return previewShapes;
+    }
+
+    /**
+     * Gets a number that changes whenever the shown preview may have changed: when a brick is drawn from the
+     * queue, on a reseed or restore, and when the preview depth changes. Bombs leave the queue alone.
+     * @return The preview version.
+     */
+    public int getPreviewVersion() {
+        return previewVersion;
+    }
+
     /**
      * Increments the power-up progress.
      * @param linesCleared The number of lines cleared.
@@ -119,4 +262,20 @@ public class RandomBrickGenerator implements BrickGenerator {
     public void resetPowerUpProgress() {
         powerUpProgress = 0;
     }
+
+    /**
+     * Gets the seed the current game was started from.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the stream for obstacle colors, split from the seed apart from the bag shuffles.
+     * @return The obstacle stream.
+     */
+    public GameRandom getObstacleRandom() {
+        return obstacleRandom;
+    }
 }
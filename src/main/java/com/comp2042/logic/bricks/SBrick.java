@@ -1,7 +1,5 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.logic.MatrixOperations;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -9,32 +7,38 @@ import java.util.List;
  */
 final class SBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
     /**
-     * Constructs a new SBrick.
+     * The shared, precomputed rotations of the S-brick.
      */
-    public SBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 5, 5, 0},
-                {5, 5, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {5, 0, 0, 0},
-                {5, 5, 0, 0},
-                {0, 5, 0, 0},
-                {0, 0, 0, 0}
-        });
-    }
+    static final Piece PIECE = new Piece(5,
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 5, 5, 0},
+                    {5, 5, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {5, 0, 0, 0},
+                    {5, 5, 0, 0},
+                    {0, 5, 0, 0},
+                    {0, 0, 0, 0}
+            });
 
     /**
      * Gets the shape matrix of the S-brick.
-     * @return A list containing all possible rotations of the S-brick.
+     * @return A list containing copies of all possible rotations of the S-brick.
      */
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return PIECE.copyShapes();
+    }
+
+    /**
+     * Gets the shared, precomputed rotations of the S-brick.
+     * @return The piece of the S-brick.
+     */
+    @Override
+    public Piece getPiece() {
+        return PIECE;
     }
 }
@@ -10,6 +10,7 @@ public final class ClearRow {
     private final int linesRemoved;
     private final int[][] newMatrix;
     private final int scoreBonus;
+    private final int[] clearedRows;
 
     /**
      * Creates a new ClearRow event.
@@ -18,9 +19,21 @@ public final class ClearRow {
      * @param scoreBonus The score bonus awarded.
      */
     public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this(linesRemoved, newMatrix, scoreBonus, new int[0]);
+    }
+
+    /**
+     * Creates a new ClearRow event that also reports which rows were cleared.
+     * @param linesRemoved The number of lines cleared.
+     * @param newMatrix The new game board state.
+     * @param scoreBonus The score bonus awarded.
+     * @param clearedRows The indices of the cleared rows, as they were before clearing, from top to bottom.
+     */
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, int[] clearedRows) {
         this.linesRemoved = linesRemoved;
         this.newMatrix = newMatrix;
         this.scoreBonus = scoreBonus;
+        this.clearedRows = clearedRows;
     }
 
     /**
@@ -33,12 +46,21 @@ public final class ClearRow {
 
     /**
      * Returns the new game board after clearing rows.
+     * Boards clear in place, so the copy is taken from the board as it is when this method is called.
      * @return A copy of the new matrix.
      */
     public int[][] getNewMatrix() {
         return MatrixOperations.copy(newMatrix);
     }
 
+    /**
+     * Returns the indices of the cleared rows, as they were before clearing, from top to bottom.
+     * @return A copy of the cleared row indices.
+     */
+    public int[] getClearedRows() {
+        return clearedRows.clone();
+    }
+
     /**
      * Returns the score bonus for this event.
      * @return The score bonus.
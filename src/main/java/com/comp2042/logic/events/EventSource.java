@@ -11,5 +11,9 @@ public enum EventSource {
     /**
      * The event was triggered by an automated thread (e.g., gravity).
      */
-    THREAD
+    THREAD,
+    /**
+     * The event was triggered by the built-in bot.
+     */
+    BOT
 }
@@ -6,6 +6,7 @@ package com.comp2042.logic.events;
 public final class MoveEvent {
     private final EventType eventType;
     private final EventSource eventSource;
+    private final long timestamp;
 
     /**
      * Constructs a new MoveEvent.
@@ -13,8 +14,19 @@ public final class MoveEvent {
      * @param eventSource The source of the event (e.g., a specific player).
      */
     public MoveEvent(EventType eventType, EventSource eventSource) {
+        this(eventType, eventSource, 0);
+    }
+
+    /**
+     * Constructs a new MoveEvent stamped with the time of the input, so its latency can be measured.
+     * @param eventType The type of move (e.g., DOWN, LEFT, RIGHT).
+     * @param eventSource The source of the event (e.g., a specific player).
+     * @param timestamp The time of the input, from {@link System#nanoTime()}.
+     */
+    public MoveEvent(EventType eventType, EventSource eventSource, long timestamp) {
         this.eventType = eventType;
         this.eventSource = eventSource;
+        this.timestamp = timestamp;
     }
 
     /**
@@ -32,4 +44,12 @@ public final class MoveEvent {
     public EventSource getEventSource() {
         return eventSource;
     }
+
+    /**
+     * Gets the time of the input.
+     * @return The time from {@link System#nanoTime()}, or 0 if the event is not stamped.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
 }
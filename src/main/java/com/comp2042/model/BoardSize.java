@@ -0,0 +1,128 @@
+package com.comp2042.model;
+
+/**
+ * The dimensions of a game board, including the two hidden rows at the top.
+ * Each level type has a default size; the system property {@code tetris.boardSize.<LEVEL_TYPE>},
+ * or {@code tetris.boardSize} for every level type, overrides it with a size such as {@code 256x1000}.
+ */
+public final class BoardSize {
+
+    /**
+     * The standard 10x25 board.
+     */
+    public static final BoardSize STANDARD = new BoardSize(10, 25);
+
+    /**
+     * The narrowest board, which still fits every brick lying flat.
+     */
+    public static final int MIN_WIDTH = 4;
+
+    /**
+     * The widest board, four 64-bit words per row.
+     */
+    public static final int MAX_WIDTH = 256;
+
+    /**
+     * The lowest board: the hidden rows and room for a brick to spawn and fall.
+     */
+    public static final int MIN_HEIGHT = 8;
+
+    /**
+     * The tallest board.
+     */
+    public static final int MAX_HEIGHT = 1000;
+
+    private final int width;
+    private final int height;
+
+    /**
+     * Constructs a new BoardSize.
+     * @param width The number of columns, from {@link #MIN_WIDTH} to {@link #MAX_WIDTH}.
+     * @param height The number of rows including the two hidden ones, from {@link #MIN_HEIGHT} to {@link #MAX_HEIGHT}.
+     */
+    public BoardSize(int width, int height) {
+        if (width < MIN_WIDTH || width > MAX_WIDTH) {
+            throw new IllegalArgumentException("Board width must be between " + MIN_WIDTH + " and " + MAX_WIDTH + ": " + width);
+        }
+        if (height < MIN_HEIGHT || height > MAX_HEIGHT) {
+            throw new IllegalArgumentException("Board height must be between " + MIN_HEIGHT + " and " + MAX_HEIGHT + ": " + height);
+        }
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Parses a size written as {@code <width>x<height>}, such as {@code 256x1000}.
+     * @param text The size.
+     * @return The board size.
+     * @throws IllegalArgumentException If the text is not a valid size.
+     */
+    public static BoardSize parse(String text) {
+        int separator = text.indexOf('x');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Board size must look like 10x25: " + text);
+        }
+        try {
+            return new BoardSize(Integer.parseInt(text.substring(0, separator).trim()),
+                    Integer.parseInt(text.substring(separator + 1).trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Board size must look like 10x25: " + text, e);
+        }
+    }
+
+    /**
+     * Gets the board size to play a level type on, taking the system property overrides into account.
+     * @param levelType The level type.
+     * @return The board size.
+     */
+    public static BoardSize forLevel(GameLevel.LevelType levelType) {
+        String size = System.getProperty("tetris.boardSize." + levelType.name(), System.getProperty("tetris.boardSize"));
+        return size != null ? parse(size) : levelType.getDefaultBoardSize();
+    }
+
+    /**
+     * Gets the number of columns.
+     * @return The width.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the number of rows, including the two hidden ones.
+     * @return The height.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Checks whether this is the standard 10x25 board.
+     * @return true for the standard board, false otherwise.
+     */
+    public boolean isStandard() {
+        return equals(STANDARD);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BoardSize)) {
+            return false;
+        }
+        BoardSize other = (BoardSize) o;
+        return width == other.width && height == other.height;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * width + height;
+    }
+
+    @Override
+    public String toString() {
+        return width + "x" + height;
+    }
+}
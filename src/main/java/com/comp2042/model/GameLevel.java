@@ -2,8 +2,22 @@ package com.comp2042.model;
 
 public class GameLevel {
     public enum LevelType {
-        TYPE_A_SPEED_CURVE,
-        TYPE_B_NORMAL,
-        TYPE_C_OBSTACLES
+        TYPE_A_SPEED_CURVE(BoardSize.STANDARD),
+        TYPE_B_NORMAL(BoardSize.STANDARD),
+        TYPE_C_OBSTACLES(BoardSize.STANDARD);
+
+        private final BoardSize defaultBoardSize;
+
+        LevelType(BoardSize defaultBoardSize) {
+            this.defaultBoardSize = defaultBoardSize;
+        }
+
+        /**
+         * Gets the board size this level type is played on unless {@link BoardSize#forLevel(LevelType)} overrides it.
+         * @return The default board size.
+         */
+        public BoardSize getDefaultBoardSize() {
+            return defaultBoardSize;
+        }
     }
 }
@@ -0,0 +1,97 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.events.EventSource;
+import com.comp2042.logic.events.EventType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The binary layout of a replay file.
+ * <p>
+ * A file starts with an 18-byte header: the magic number, the format version, the level type ordinal,
+ * the board width and height as shorts, and the seed of the game. Version 1 files have no board size,
+ * a 14-byte header, and were always played on the standard board. Every event that follows is a single unsigned LEB128 varint holding
+ * {@code tickDelta << 5 | eventType << 2 | eventSource}, where a tick is one millisecond since the previous
+ * event. Inputs a few hundred milliseconds apart therefore cost two bytes each. A truncated last event,
+ * left by a crash, is ignored when reading.
+ */
+final class ReplayFormat {
+
+    /**
+     * "TRPL" in ASCII.
+     */
+    static final int MAGIC = 0x5452504C;
+    static final byte VERSION = 2;
+    static final byte VERSION_STANDARD_BOARD = 1;
+    static final int HEADER_SIZE = 18;
+    static final int HEADER_SIZE_STANDARD_BOARD = 14;
+    static final long TICK_NANOS = 1_000_000;
+
+    /**
+     * The longest encoding of one event: a 64-bit varint.
+     */
+    static final int MAX_EVENT_SIZE = 10;
+
+    private static final int TYPE_BITS = 3;
+    private static final int SOURCE_BITS = 2;
+    private static final EventType[] TYPES = EventType.values();
+    private static final EventSource[] SOURCES = EventSource.values();
+
+    static {
+        if (TYPES.length > 1 << TYPE_BITS || SOURCES.length > 1 << SOURCE_BITS) {
+            throw new IllegalStateException("Event types or sources no longer fit the replay format");
+        }
+    }
+
+    private ReplayFormat() {
+    }
+
+    /**
+     * Packs an event and its tick delta into the value written as a varint.
+     */
+    static long pack(long tickDelta, EventType type, EventSource source) {
+        return tickDelta << (TYPE_BITS + SOURCE_BITS) | (long) type.ordinal() << SOURCE_BITS | source.ordinal();
+    }
+
+    static long unpackTickDelta(long packed) {
+        return packed >>> (TYPE_BITS + SOURCE_BITS);
+    }
+
+    static EventType unpackType(long packed) {
+        return TYPES[(int) (packed >>> SOURCE_BITS) & ((1 << TYPE_BITS) - 1)];
+    }
+
+    static EventSource unpackSource(long packed) {
+        return SOURCES[(int) packed & ((1 << SOURCE_BITS) - 1)];
+    }
+
+    /**
+     * Writes an unsigned LEB128 varint.
+     */
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint.
+     * @return The value, or -1 if the buffer ends inside it.
+     */
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint at position " + buffer.position());
+    }
+}
@@ -0,0 +1,281 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.GameSession;
+import com.comp2042.logic.GameSessionListener;
+import com.comp2042.logic.GameState;
+import com.comp2042.logic.HighScoreManager;
+import com.comp2042.logic.Score;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.events.EventSource;
+import com.comp2042.logic.events.EventType;
+import com.comp2042.view.GameView;
+
+import java.awt.Point;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Plays a recorded game again by feeding its inputs into a fresh {@link GameSession} started from the recorded seed.
+ * <p>
+ * The replay file is memory-mapped and read in place. Playback runs headless at full speed; bomb explosions
+ * finish at once, which is safe because the recorder leaves out the inputs the game ignored while one was pending.
+ * Every {@code keyframeInterval} bricks the player keeps a {@link GameState} together with the file offset,
+ * so {@link #seek(long)} restores the nearest keyframe at or before the target and only simulates the rest.
+ * The keyframe index is built as the game is played; {@link #open(Path, int)} builds it in one fast-forward pass.
+ * <p>
+ * With a {@link GameView} attached, the player draws on it through {@code refreshBrick} and {@code refreshGameBackground}:
+ * after every {@link #step()}, and once at the end of {@link #advanceTo(long)} and {@link #seek(long)}.
+ */
+public final class ReplayPlayer {
+
+    /**
+     * The default number of bricks between two keyframes.
+     */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 50;
+
+    /**
+     * A game state and the place in the replay it belongs to.
+     */
+    private static final class Keyframe {
+        final int position;
+        final long tick;
+        final long eventIndex;
+        final GameState state;
+
+        Keyframe(int position, long tick, long eventIndex, GameState state) {
+            this.position = position;
+            this.tick = tick;
+            this.eventIndex = eventIndex;
+            this.state = state;
+        }
+    }
+
+    private final ReplayReader reader;
+    private final GameSession session;
+    private final int keyframeInterval;
+    private final List<Keyframe> keyframes = new ArrayList<>();
+    private final BitSet changedRows = new BitSet();
+    private GameView view;
+    private long tick;
+    private boolean finished;
+
+    /**
+     * Constructs a new ReplayPlayer positioned at the start of the game.
+     * @param reader The reader of the replay, before its first event.
+     * @param keyframeInterval The number of bricks between two keyframes, at least 1.
+     */
+    public ReplayPlayer(ReplayReader reader, int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("Keyframe interval must be at least 1: " + keyframeInterval);
+        }
+        this.reader = reader;
+        this.keyframeInterval = keyframeInterval;
+        RandomBrickGenerator generator = new RandomBrickGenerator(reader.getLevelType(), reader.getSeed());
+        session = new GameSession(reader.getLevelType(), GameSession.createBoard(reader.getBoardSize(), generator),
+                new Score(reader.getLevelType(), HighScoreManager.inMemory()));
+        session.setListener(new GameSessionListener() {
+            @Override
+            public void onBombDetonated(Point center, List<Point> clearedBlocks, Runnable aftermath) {
+                aftermath.run();
+            }
+
+            @Override
+            public void onPreviewChanged() {
+                if (view != null) {
+                    view.refreshPreview(session.getBoard().getBrickGenerator().getPreviewShapes());
+                }
+            }
+        });
+        keyframes.add(new Keyframe(reader.position(), 0, -1, session.saveState()));
+    }
+
+    /**
+     * Memory-maps a replay file and indexes it with one fast-forward pass, leaving the player at the start.
+     * @param file The replay file.
+     * @param keyframeInterval The number of bricks between two keyframes, at least 1.
+     * @return The player.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static ReplayPlayer open(Path file, int keyframeInterval) throws IOException {
+        MappedByteBuffer data;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        ReplayPlayer player = new ReplayPlayer(new ReplayReader(data), keyframeInterval);
+        player.advanceTo(Long.MAX_VALUE);
+        player.seek(0);
+        return player;
+    }
+
+    /**
+     * Draws the playback on a view from now on, starting with the current position.
+     * @param view The view, or null to play headless.
+     */
+    public void setView(GameView view) {
+        this.view = view;
+        if (view != null) {
+            view.initGameView(session.getBoard().getBoardMatrix(), session.getViewData());
+            changedRows.set(0, reader.getBoardSize().getHeight());
+            refreshView();
+        }
+    }
+
+    /**
+     * Applies the next recorded input.
+     * @return true if an input was applied, false at the end of the replay.
+     */
+    public boolean step() {
+        if (!applyNext()) {
+            return false;
+        }
+        refreshView();
+        return true;
+    }
+
+    /**
+     * Applies every recorded input up to and including the given tick, as fast as possible.
+     * @param targetTick The tick to play to, in milliseconds since the game started.
+     */
+    public void advanceTo(long targetTick) {
+        long next;
+        while ((next = reader.peekTick()) >= 0 && next <= targetTick) {
+            applyNext();
+        }
+        finished = next < 0;
+        refreshView();
+    }
+
+    /**
+     * Moves to the given tick, backwards or forwards. The nearest keyframe at or before the tick is restored
+     * unless the current position is already closer, and only the inputs after it are simulated.
+     * @param targetTick The tick to move to, in milliseconds since the game started.
+     */
+    public void seek(long targetTick) {
+        Keyframe keyframe = findKeyframe(targetTick);
+        boolean ahead = reader.getEventIndex() > keyframe.eventIndex && tick <= targetTick;
+        if (!ahead) {
+            reader.seek(keyframe.position, keyframe.tick, keyframe.eventIndex);
+            session.restoreState(keyframe.state);
+            tick = keyframe.tick;
+        }
+        advanceTo(targetTick);
+    }
+
+    /**
+     * Gets the tick of the last input applied.
+     * @return The tick in milliseconds since the game started.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Checks whether every input of the replay has been applied.
+     * @return true at the end of the replay, false otherwise.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Gets the session being played.
+     * @return The session.
+     */
+    public GameSession getSession() {
+        return session;
+    }
+
+    /**
+     * Gets the number of keyframes indexed so far, including the one at the start.
+     * @return The number of keyframes.
+     */
+    public int getKeyframeCount() {
+        return keyframes.size();
+    }
+
+    /**
+     * Reads and applies one input, and stores a keyframe if the game passed the next keyframe brick.
+     * @return true if an input was applied, false at the end of the replay.
+     */
+    private boolean applyNext() {
+        if (!reader.next()) {
+            finished = true;
+            return false;
+        }
+        tick = reader.getTick();
+        EventType type = reader.getEventType();
+        switch (type) {
+            case DOWN -> session.moveDown(reader.getEventSource() == EventSource.USER);
+            case LEFT -> session.moveLeft();
+            case RIGHT -> session.moveRight();
+            case ROTATE -> session.rotate();
+            case HARD_DROP -> session.hardDrop();
+            case HOLD -> session.hold();
+        }
+        Keyframe last = keyframes.get(keyframes.size() - 1);
+        if (reader.getEventIndex() > last.eventIndex
+                && session.getPiecesPlaced() >= last.state.getPiecesPlaced() + keyframeInterval) {
+            keyframes.add(new Keyframe(reader.position(), tick, reader.getEventIndex(), session.saveState()));
+        }
+        return true;
+    }
+
+    /**
+     * Finds the last keyframe at or before a tick by binary search.
+     */
+    private Keyframe findKeyframe(long targetTick) {
+        int low = 0;
+        int high = keyframes.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (keyframes.get(mid).tick <= targetTick) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return keyframes.get(low);
+    }
+
+    /**
+     * Draws the rows changed since the last refresh and the falling brick, if a view is attached.
+     */
+    private void refreshView() {
+        if (view == null) {
+            return;
+        }
+        session.getBoard().drainChangedRows(changedRows);
+        view.refreshGameBackground(session.getBoard().getBoardMatrix(), changedRows);
+        changedRows.clear();
+        view.refreshBrick(session.getViewData());
+    }
+
+    /**
+     * Fast-forwards a replay file headlessly and prints the result.
+     * @param args The replay file and, optionally, the keyframe interval.
+     * @throws IOException If the file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayPlayer <replay file> [keyframeInterval]");
+            return;
+        }
+        int keyframeInterval = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_KEYFRAME_INTERVAL;
+        long start = System.nanoTime();
+        ReplayPlayer player = open(Path.of(args[0]), keyframeInterval);
+        player.advanceTo(Long.MAX_VALUE);
+        long elapsed = System.nanoTime() - start;
+        GameSession session = player.getSession();
+        System.out.printf("%s, seed %d: %d bricks, score %d, %s after %.1f s of play%n",
+                session.getLevelType(), session.getSeed(), session.getPiecesPlaced(), session.getScore().getScore(),
+                session.isGameOver() ? "game over" : "still running", player.getTick() / 1000.0);
+        System.out.printf("Indexed %d keyframes and replayed twice in %.2f ms%n", player.getKeyframeCount(), elapsed / 1e6);
+    }
+}
@@ -0,0 +1,175 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.events.EventSource;
+import com.comp2042.logic.events.EventType;
+import com.comp2042.model.BoardSize;
+import com.comp2042.model.GameLevel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads the events of a replay written by {@link ReplayRecorder}, one at a time, without allocating per event.
+ * <pre>
+ * ReplayReader reader = ReplayReader.open(file);
+ * while (reader.next()) {
+ *     apply(reader.getEventType(), reader.getEventSource(), reader.getTick());
+ * }
+ * </pre>
+ */
+public final class ReplayReader {
+
+    private static final GameLevel.LevelType[] LEVEL_TYPES = GameLevel.LevelType.values();
+
+    private final ByteBuffer data;
+    private final GameLevel.LevelType levelType;
+    private final BoardSize boardSize;
+    private final long seed;
+    private EventType eventType;
+    private EventSource eventSource;
+    private long tick;
+    private long eventIndex = -1;
+
+    /**
+     * Constructs a new ReplayReader over the bytes of a replay file, from its current position.
+     * @param data The replay bytes, which are consumed as the events are read.
+     */
+    public ReplayReader(ByteBuffer data) {
+        if (data.remaining() < ReplayFormat.HEADER_SIZE_STANDARD_BOARD || data.getInt() != ReplayFormat.MAGIC) {
+            throw new IllegalArgumentException("Not a replay file");
+        }
+        byte version = data.get();
+        if (version != ReplayFormat.VERSION && version != ReplayFormat.VERSION_STANDARD_BOARD) {
+            throw new IllegalArgumentException("Unsupported replay version: " + version);
+        }
+        int levelOrdinal = data.get();
+        if (levelOrdinal < 0 || levelOrdinal >= LEVEL_TYPES.length) {
+            throw new IllegalArgumentException("Unknown level type in replay: " + levelOrdinal);
+        }
+        if (version == ReplayFormat.VERSION_STANDARD_BOARD) {
+            boardSize = BoardSize.STANDARD;
+        } else if (data.remaining() < ReplayFormat.HEADER_SIZE - ReplayFormat.HEADER_SIZE_STANDARD_BOARD) {
+            throw new IllegalArgumentException("Not a replay file");
+        } else {
+            boardSize = new BoardSize(data.getShort(), data.getShort());
+        }
+        this.data = data;
+        this.levelType = LEVEL_TYPES[levelOrdinal];
+        this.seed = data.getLong();
+    }
+
+    /**
+     * Reads a whole replay file into memory.
+     * @param file The replay file.
+     * @return A reader positioned before the first event.
+     * @throws IOException If the file cannot be read.
+     */
+    public static ReplayReader open(Path file) throws IOException {
+        return new ReplayReader(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * Advances to the next event.
+     * @return true if there is one, false at the end of the replay.
+     */
+    public boolean next() {
+        long packed = ReplayFormat.getVarLong(data);
+        if (packed < 0) {
+            return false;
+        }
+        tick += ReplayFormat.unpackTickDelta(packed);
+        eventType = ReplayFormat.unpackType(packed);
+        eventSource = ReplayFormat.unpackSource(packed);
+        eventIndex++;
+        return true;
+    }
+
+    /**
+     * Gets the tick the next event will have, without advancing.
+     * @return The tick of the next event, or -1 at the end of the replay.
+     */
+    public long peekTick() {
+        int position = data.position();
+        long packed = ReplayFormat.getVarLong(data);
+        data.position(position);
+        return packed < 0 ? -1 : tick + ReplayFormat.unpackTickDelta(packed);
+    }
+
+    /**
+     * Gets the byte offset of the next event, for {@link #seek(int, long, long)}.
+     * @return The byte offset.
+     */
+    int position() {
+        return data.position();
+    }
+
+    /**
+     * Jumps to an event boundary remembered earlier. The current event is undefined until {@link #next()}.
+     * @param position The byte offset of the next event.
+     * @param tick The tick of the event before it.
+     * @param eventIndex The index of the event before it.
+     */
+    void seek(int position, long tick, long eventIndex) {
+        data.position(position);
+        this.tick = tick;
+        this.eventIndex = eventIndex;
+    }
+
+    /**
+     * Gets the level type the game was played in.
+     * @return The level type.
+     */
+    public GameLevel.LevelType getLevelType() {
+        return levelType;
+    }
+
+    /**
+     * Gets the size of the board the game was played on.
+     * @return The board size.
+     */
+    public BoardSize getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Gets the seed the game was started from.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the type of the current event.
+     * @return The event type.
+     */
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Gets the source of the current event.
+     * @return The event source.
+     */
+    public EventSource getEventSource() {
+        return eventSource;
+    }
+
+    /**
+     * Gets the tick of the current event, in milliseconds since the game started.
+     * @return The tick.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the index of the current event, counting from 0.
+     * @return The event index, or -1 before the first event.
+     */
+    public long getEventIndex() {
+        return eventIndex;
+    }
+}
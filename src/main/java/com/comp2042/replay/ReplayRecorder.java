@@ -0,0 +1,219 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.events.EventSource;
+import com.comp2042.logic.events.EventType;
+import com.comp2042.model.BoardSize;
+import com.comp2042.model.GameLevel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Records the seed and the move events of one game into a replay file, see {@link ReplayFormat}.
+ * <p>
+ * Recording an event only encodes a varint into a preallocated buffer on the calling thread.
+ * Full buffers are handed to a single background writer thread, which owns the file channel and does
+ * all of the I/O, and then come back for reuse, so the game thread neither blocks nor allocates.
+ * A recorder is used by one game thread; it is not meant to be shared.
+ */
+public final class ReplayRecorder {
+
+    private static final int BUFFER_SIZE = 4096;
+    private static final long MAX_TICK_DELTA = Long.MAX_VALUE >>> 5;
+
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replay-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path file;
+    private final Queue<ByteBuffer> spareBuffers = new ConcurrentLinkedQueue<>();
+    private final long startNanos;
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long lastTick;
+    private long events;
+    private boolean closed;
+
+    // Only touched by the writer thread
+    private FileChannel channel;
+    private IOException failure;
+
+    /**
+     * Starts a recording of a game on the standard board and writes its header.
+     * @param file The file to write, replaced if it exists.
+     * @param levelType The level type of the game.
+     * @param seed The seed of the game.
+     * @param startNanos The time the game started, in nanoseconds; event ticks count from here.
+     */
+    public ReplayRecorder(Path file, GameLevel.LevelType levelType, long seed, long startNanos) {
+        this(file, levelType, BoardSize.STANDARD, seed, startNanos);
+    }
+
+    /**
+     * Starts a recording and writes its header.
+     * @param file The file to write, replaced if it exists.
+     * @param levelType The level type of the game.
+     * @param boardSize The size of the board the game is played on.
+     * @param seed The seed of the game.
+     * @param startNanos The time the game started, in nanoseconds; event ticks count from here.
+     */
+    public ReplayRecorder(Path file, GameLevel.LevelType levelType, BoardSize boardSize, long seed, long startNanos) {
+        this.file = file;
+        this.startNanos = startNanos;
+        spareBuffers.add(ByteBuffer.allocate(BUFFER_SIZE));
+        buffer.putInt(ReplayFormat.MAGIC);
+        buffer.put(ReplayFormat.VERSION);
+        buffer.put((byte) levelType.ordinal());
+        buffer.putShort((short) boardSize.getWidth());
+        buffer.putShort((short) boardSize.getHeight());
+        buffer.putLong(seed);
+        WRITER.execute(this::open);
+    }
+
+    /**
+     * Creates the name of the replay file for a game, unique per seed.
+     * @param directory The directory of the replays.
+     * @param seed The seed of the game.
+     * @return The path of the replay file.
+     */
+    public static Path fileFor(Path directory, long seed) {
+        return directory.resolve(String.format("replay-%016x.trpl", seed));
+    }
+
+    /**
+     * Records a move event.
+     * @param type The type of the event.
+     * @param source The source of the event.
+     * @param now The time of the event in nanoseconds, on the same clock as the start time.
+     */
+    public void record(EventType type, EventSource source, long now) {
+        if (closed) {
+            throw new IllegalStateException("The recording is closed: " + file);
+        }
+        // Ticks never go back, so events from clocks sampled slightly apart stay in order
+        long tick = Math.max(lastTick, (now - startNanos) / ReplayFormat.TICK_NANOS);
+        ReplayFormat.putVarLong(buffer, ReplayFormat.pack(Math.min(tick - lastTick, MAX_TICK_DELTA), type, source));
+        lastTick = tick;
+        events++;
+        if (buffer.remaining() < ReplayFormat.MAX_EVENT_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Hands the events recorded so far to the writer thread without waiting for them to be written.
+     */
+    public void flush() {
+        if (buffer.position() == 0) {
+            return;
+        }
+        ByteBuffer full = buffer.flip();
+        WRITER.execute(() -> write(full));
+        ByteBuffer spare = spareBuffers.poll();
+        buffer = spare != null ? spare : ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    /**
+     * Flushes the remaining events and closes the file on the writer thread.
+     * Later calls return an already completed future.
+     * @return A future that completes with the file once it is written and closed,
+     *         or exceptionally if writing failed.
+     */
+    public CompletableFuture<Path> close() {
+        if (closed) {
+            return CompletableFuture.completedFuture(file);
+        }
+        flush();
+        closed = true;
+        return CompletableFuture.supplyAsync(() -> {
+            closeChannel();
+            if (failure != null) {
+                throw new IllegalStateException("Could not write replay " + file, failure);
+            }
+            return file;
+        }, WRITER);
+    }
+
+    /**
+     * Gets the number of events recorded.
+     * @return The number of events.
+     */
+    public long getEventCount() {
+        return events;
+    }
+
+    /**
+     * Gets the file being written.
+     * @return The replay file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Creates the replay directory if needed and opens the file channel. Runs on the writer thread.
+     */
+    private void open() {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Writes a full buffer and returns it to the game thread. Runs on the writer thread.
+     */
+    private void write(ByteBuffer full) {
+        try {
+            while (channel != null && full.hasRemaining()) {
+                channel.write(full);
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+        spareBuffers.add(full.clear());
+    }
+
+    /**
+     * Closes the file channel. Runs on the writer thread.
+     */
+    private void closeChannel() {
+        FileChannel open = channel;
+        if (open == null) {
+            return;
+        }
+        channel = null;
+        try {
+            open.close();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Records the first write failure and stops writing. Runs on the writer thread.
+     */
+    private void fail(IOException e) {
+        if (failure == null) {
+            failure = e;
+            System.err.println("Could not write replay " + file + ": " + e.getMessage());
+        }
+        closeChannel();
+    }
+}
@@ -0,0 +1,65 @@
+package com.comp2042.simulation;
+
+import com.comp2042.ai.Heuristic;
+import com.comp2042.ai.PlacementSearch;
+import com.comp2042.ai.Plan;
+import com.comp2042.ai.SearchBoard;
+import com.comp2042.logic.Board;
+import com.comp2042.logic.GameSession;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.Piece;
+import com.comp2042.logic.events.EventType;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A move policy that places every brick where the {@link PlacementSearch} puts it.
+ * The search runs without a time budget, so a seeded game plays the same on every machine.
+ */
+public class BotMovePolicy implements MovePolicy {
+
+    private final PlacementSearch search;
+
+    /**
+     * Constructs a new BotMovePolicy with the default heuristic and search depth.
+     */
+    public BotMovePolicy() {
+        this(new PlacementSearch(Heuristic.defaults(), PlacementSearch.DEFAULT_PREVIEW_DEPTH,
+                PlacementSearch.DEFAULT_BEAM_WIDTH, Long.MAX_VALUE));
+    }
+
+    /**
+     * Constructs a new BotMovePolicy.
+     * @param search The search that plans each brick.
+     */
+    public BotMovePolicy(PlacementSearch search) {
+        this.search = search;
+    }
+
+    @Override
+    public void playBrick(GameSession session) {
+        Board board = session.getBoard();
+        List<Piece> previews = new ArrayList<>();
+        for (Brick brick : board.getBrickGenerator().getNextBricks(search.getPreviewDepth())) {
+            previews.add(brick.getPiece());
+        }
+        Point position = board.getBrickPosition();
+        Plan plan = search.plan(SearchBoard.of(board.getBoardMatrix()), board.getCurrentBrick().getPiece(),
+                position.x, position.y, board.getBrickRotation(), previews);
+        if (plan == null) {
+            session.hardDrop();
+            return;
+        }
+        for (EventType input : plan.getInputs()) {
+            switch (input) {
+                case LEFT -> session.moveLeft();
+                case RIGHT -> session.moveRight();
+                case ROTATE -> session.rotate();
+                case DOWN -> session.moveDown(true);
+                default -> session.hardDrop();
+            }
+        }
+    }
+}
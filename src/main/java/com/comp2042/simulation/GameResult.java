@@ -0,0 +1,80 @@
+package com.comp2042.simulation;
+
+/**
+ * The outcome of one simulated game.
+ */
+public final class GameResult {
+
+    private final long seed;
+    private final int score;
+    private final int pieces;
+    private final int lines;
+    private final double finalDropInterval;
+    private final boolean toppedOut;
+
+    /**
+     * Constructs a new GameResult.
+     * @param seed The seed the game was played with.
+     * @param score The final score.
+     * @param pieces The number of bricks locked.
+     * @param lines The number of lines cleared.
+     * @param finalDropInterval The drop interval at the end of the game, in nanoseconds.
+     * @param toppedOut true if the game ended by topping out, false if it hit the piece limit.
+     */
+    public GameResult(long seed, int score, int pieces, int lines, double finalDropInterval, boolean toppedOut) {
+        this.seed = seed;
+        this.score = score;
+        this.pieces = pieces;
+        this.lines = lines;
+        this.finalDropInterval = finalDropInterval;
+        this.toppedOut = toppedOut;
+    }
+
+    /**
+     * Gets the seed the game was played with, so the game can be replayed.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the final score.
+     * @return The score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the number of bricks locked.
+     * @return The number of bricks.
+     */
+    public int getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Gets the number of lines cleared.
+     * @return The number of lines.
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the drop interval at the end of the game.
+     * @return The drop interval in nanoseconds.
+     */
+    public double getFinalDropInterval() {
+        return finalDropInterval;
+    }
+
+    /**
+     * Checks whether the game ended by topping out rather than by reaching the piece limit.
+     * @return true if the game topped out, false otherwise.
+     */
+    public boolean isToppedOut() {
+        return toppedOut;
+    }
+}
@@ -0,0 +1,17 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.GameSession;
+
+/**
+ * Decides how a simulated player places bricks.
+ * Each simulated game gets its own policy instance, so implementations may keep state without locking.
+ */
+public interface MovePolicy {
+
+    /**
+     * Plays the current brick of the session: moves, rotates or holds it, and finally locks it,
+     * normally with {@link GameSession#hardDrop()}.
+     * @param session The session to play.
+     */
+    void playBrick(GameSession session);
+}
@@ -0,0 +1,38 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.GameSession;
+
+import java.util.SplittableRandom;
+
+/**
+ * A move policy that rotates and shifts every brick at random before dropping it.
+ * It serves as the baseline that smarter policies are compared against.
+ */
+public class RandomMovePolicy implements MovePolicy {
+
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a new RandomMovePolicy.
+     * @param seed The seed of the random moves.
+     */
+    public RandomMovePolicy(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void playBrick(GameSession session) {
+        for (int turns = random.nextInt(4); turns > 0; turns--) {
+            session.rotate();
+        }
+        int shift = random.nextInt(-5, 6);
+        for (int i = 0; i < Math.abs(shift); i++) {
+            if (shift < 0) {
+                session.moveLeft();
+            } else {
+                session.moveRight();
+            }
+        }
+        session.hardDrop();
+    }
+}
@@ -0,0 +1,124 @@
+package com.comp2042.simulation;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The results of a batch of simulated games: throughput and the distribution of scores and lines.
+ */
+public final class SimulationReport {
+
+    private final List<GameResult> results;
+    private final long elapsedNanos;
+    private final int threads;
+    private final int[] sortedScores;
+    private final long totalPieces;
+    private final long totalLines;
+
+    /**
+     * Constructs a new SimulationReport.
+     * @param results The results of the games, in game order.
+     * @param elapsedNanos The wall-clock time the batch took, in nanoseconds.
+     * @param threads The number of worker threads used.
+     */
+    public SimulationReport(List<GameResult> results, long elapsedNanos, int threads) {
+        this.results = List.copyOf(results);
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+        sortedScores = results.stream().mapToInt(GameResult::getScore).sorted().toArray();
+        totalPieces = results.stream().mapToLong(GameResult::getPieces).sum();
+        totalLines = results.stream().mapToLong(GameResult::getLines).sum();
+    }
+
+    /**
+     * Gets the results of the games, in game order.
+     * @return An unmodifiable list of results.
+     */
+    public List<GameResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Gets the number of games played.
+     * @return The number of games.
+     */
+    public int getGames() {
+        return results.size();
+    }
+
+    /**
+     * Gets the total number of bricks locked across all games.
+     * @return The number of bricks.
+     */
+    public long getTotalPieces() {
+        return totalPieces;
+    }
+
+    /**
+     * Gets the wall-clock time the batch took.
+     * @return The elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the throughput in locked bricks per second.
+     * @return The number of bricks per second.
+     */
+    public double getPiecesPerSecond() {
+        return totalPieces / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Gets the throughput in finished games per second.
+     * @return The number of games per second.
+     */
+    public double getGamesPerSecond() {
+        return results.size() / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Gets the mean score.
+     * @return The mean score, or 0 if no games were played.
+     */
+    public double getMeanScore() {
+        return Arrays.stream(sortedScores).average().orElse(0);
+    }
+
+    /**
+     * Gets a score percentile, using the nearest-rank method.
+     * @param percentile The percentile, between 0 and 100.
+     * @return The score at the percentile, or 0 if no games were played.
+     */
+    public int getScorePercentile(double percentile) {
+        if (sortedScores.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sortedScores.length);
+        return sortedScores[Math.min(Math.max(rank - 1, 0), sortedScores.length - 1)];
+    }
+
+    /**
+     * Gets the mean number of lines cleared per game.
+     * @return The mean number of lines, or 0 if no games were played.
+     */
+    public double getMeanLines() {
+        return results.isEmpty() ? 0 : (double) totalLines / results.size();
+    }
+
+    @Override
+    public String toString() {
+        double seconds = elapsedNanos / 1e9;
+        return String.format(
+                "%d games on %d threads in %.2f s%n"
+                        + "  throughput: %.0f pieces/s, %.1f games/s%n"
+                        + "  score: min %d, p10 %d, p50 %d, p90 %d, p99 %d, max %d, mean %.1f%n"
+                        + "  lines per game: mean %.2f, pieces per game: mean %.1f",
+                getGames(), threads, seconds,
+                getPiecesPerSecond(), getGamesPerSecond(),
+                getScorePercentile(0), getScorePercentile(10), getScorePercentile(50),
+                getScorePercentile(90), getScorePercentile(99), getScorePercentile(100), getMeanScore(),
+                getMeanLines(), results.isEmpty() ? 0 : (double) totalPieces / results.size());
+    }
+}
@@ -0,0 +1,138 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.GameSession;
+import com.comp2042.logic.GameSessionListener;
+import com.comp2042.logic.HighScoreManager;
+import com.comp2042.logic.Score;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.events.ClearRow;
+import com.comp2042.model.GameLevel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+/**
+ * Plays many headless games at once on a fixed pool of worker threads.
+ * Every game gets its own seed, derived from the batch seed before any game starts, so a batch
+ * produces the same results whatever the number of threads. The games share nothing, so the
+ * throughput grows with the number of cores.
+ */
+public class SimulationRunner {
+
+    private final GameLevel.LevelType levelType;
+    private final int threads;
+    private final int maxPieces;
+    private final LongFunction<MovePolicy> policyFactory;
+
+    /**
+     * Constructs a new SimulationRunner.
+     * @param levelType The level type every game is played in.
+     * @param threads The number of worker threads.
+     * @param maxPieces The number of bricks after which a game is stopped if it has not topped out.
+     * @param policyFactory Creates the move policy of a game from a seed.
+     */
+    public SimulationRunner(GameLevel.LevelType levelType, int threads, int maxPieces, LongFunction<MovePolicy> policyFactory) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1: " + threads);
+        }
+        this.levelType = levelType;
+        this.threads = threads;
+        this.maxPieces = maxPieces;
+        this.policyFactory = policyFactory;
+    }
+
+    /**
+     * Plays a batch of games.
+     * @param games The number of games to play.
+     * @param seed The seed of the batch.
+     * @return The report of the batch.
+     */
+    public SimulationReport run(int games, long seed) {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<Callable<GameResult>> tasks = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            long gameSeed = seeds.nextLong();
+            tasks.add(() -> playGame(gameSeed));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<GameResult> results = new ArrayList<>(games);
+            for (Future<GameResult> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return new SimulationReport(results, System.nanoTime() - start, threads);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A simulated game failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays one game on the calling thread.
+     * @param seed The seed of the game, which fixes the brick sequence and the policy's choices.
+     * @return The result of the game.
+     */
+    public GameResult playGame(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        RandomBrickGenerator generator = new RandomBrickGenerator(levelType, random.nextLong());
+        SimpleBoard board = new SimpleBoard(GameSession.DEFAULT_WIDTH, GameSession.DEFAULT_HEIGHT, generator);
+        GameSession session = new GameSession(levelType, board, new Score(levelType, HighScoreManager.inMemory()));
+        LineCounter lineCounter = new LineCounter();
+        session.setListener(lineCounter);
+        MovePolicy policy = policyFactory.apply(random.nextLong());
+        int pieces = 0;
+        while (!session.isGameOver() && pieces < maxPieces) {
+            policy.playBrick(session);
+            pieces++;
+        }
+        return new GameResult(seed, session.getScore().getScore(), pieces, lineCounter.lines,
+                session.getDropInterval(), session.isGameOver());
+    }
+
+    /**
+     * Counts the lines cleared in a game.
+     */
+    private static final class LineCounter implements GameSessionListener {
+        private int lines;
+
+        @Override
+        public void onLinesCleared(ClearRow clearRow) {
+            lines += clearRow.getLinesRemoved();
+        }
+    }
+
+    /**
+     * Runs a batch from the command line and prints its report.
+     * Arguments, all optional: games, threads, level type, seed, piece limit, policy ({@code random} or {@code bot}).
+     * @param args The command-line arguments.
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        GameLevel.LevelType levelType = args.length > 2 ? GameLevel.LevelType.valueOf(args[2]) : GameLevel.LevelType.TYPE_B_NORMAL;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42;
+        int maxPieces = args.length > 4 ? Integer.parseInt(args[4]) : 10_000;
+        String policy = args.length > 5 ? args[5] : "random";
+        LongFunction<MovePolicy> policyFactory = switch (policy) {
+            case "random" -> RandomMovePolicy::new;
+            case "bot" -> policySeed -> new BotMovePolicy();
+            default -> throw new IllegalArgumentException("Unknown policy: " + policy);
+        };
+        SimulationRunner runner = new SimulationRunner(levelType, threads, maxPieces, policyFactory);
+        System.out.println("Level type: " + levelType + ", policy: " + policy);
+        System.out.println(runner.run(games, seed));
+    }
+}
@@ -0,0 +1,157 @@
+package com.comp2042.view;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Paint;
+
+import java.util.BitSet;
+import java.util.function.IntFunction;
+
+/**
+ * Draws a board that is too large for one rectangle node per cell, such as 256x1000.
+ * <p>
+ * Two canvases are stacked: the settled blocks, and on top the falling brick with its ghost.
+ * Only changed rows are repainted, and within a row each run of equal colors is one {@code fillRect},
+ * so a cleared line on a 256-wide board costs a handful of draw calls instead of 256 node updates.
+ * The falling brick layer only clears and repaints the cells the brick covered before and covers now.
+ * Cells are scaled down to fit the available area and may be smaller than a pixel.
+ */
+public final class BoardCanvas extends Pane {
+
+    /**
+     * The number of hidden rows at the top of the board, which are not drawn.
+     */
+    private static final int HIDDEN_ROWS = 2;
+
+    private static final double GHOST_OPACITY = 0.3;
+
+    private final Canvas background;
+    private final Canvas active;
+    private final IntFunction<Paint> palette;
+    private final double cellSize;
+    private final int[][] shownColors;
+    private int[][] shownBrick;
+    private int shownX;
+    private double shownY;
+    private int shownGhostY;
+
+    /**
+     * Constructs a new BoardCanvas.
+     * @param width The width of the board in cells.
+     * @param height The height of the board in cells, including the hidden rows.
+     * @param cellSize The size of one cell in pixels.
+     * @param palette The paint of each color index; index 0 is empty and is not painted.
+     */
+    public BoardCanvas(int width, int height, double cellSize, IntFunction<Paint> palette) {
+        this.palette = palette;
+        this.cellSize = cellSize;
+        double pixelWidth = width * cellSize;
+        double pixelHeight = (height - HIDDEN_ROWS) * cellSize;
+        background = new Canvas(pixelWidth, pixelHeight);
+        active = new Canvas(pixelWidth, pixelHeight);
+        shownColors = new int[height][width];
+        getChildren().addAll(background, active);
+        setPrefSize(pixelWidth, pixelHeight);
+        setMinSize(pixelWidth, pixelHeight);
+        setMaxSize(pixelWidth, pixelHeight);
+    }
+
+    /**
+     * Picks the largest cell size at most {@code preferred} that fits a board into an area.
+     * @param width The width of the board in cells.
+     * @param height The height of the board in cells, including the hidden rows.
+     * @param maxWidth The width of the area in pixels.
+     * @param maxHeight The height of the area in pixels.
+     * @param preferred The cell size used when the board fits.
+     * @return The cell size in pixels.
+     */
+    public static double cellSizeFor(int width, int height, double maxWidth, double maxHeight, double preferred) {
+        return Math.min(preferred, Math.min(maxWidth / width, maxHeight / (height - HIDDEN_ROWS)));
+    }
+
+    /**
+     * Gets the size of one cell.
+     * @return The cell size in pixels.
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Repaints the changed rows, as runs of equal colors.
+     * @param board The matrix representing the current state of the board.
+     * @param changedRows The rows that changed since the last redraw.
+     * @param renderStats The counters to record each painted run in.
+     */
+    public void drawRows(int[][] board, BitSet changedRows, RenderStats renderStats) {
+        GraphicsContext g = background.getGraphicsContext2D();
+        for (int i = changedRows.nextSetBit(HIDDEN_ROWS); i >= 0 && i < board.length; i = changedRows.nextSetBit(i + 1)) {
+            int[] row = board[i];
+            int[] shown = shownColors[i];
+            double y = (i - HIDDEN_ROWS) * cellSize;
+            int j = 0;
+            while (j < row.length) {
+                if (row[j] == shown[j]) {
+                    j++;
+                    continue;
+                }
+                int color = row[j];
+                int end = j + 1;
+                while (end < row.length && row[end] == color && row[end] != shown[end]) {
+                    end++;
+                }
+                g.clearRect(j * cellSize, y, (end - j) * cellSize, cellSize);
+                if (color != 0) {
+                    g.setFill(palette.apply(color));
+                    g.fillRect(j * cellSize, y, (end - j) * cellSize, cellSize);
+                }
+                for (int k = j; k < end; k++) {
+                    shown[k] = color;
+                }
+                renderStats.touch();
+                j = end;
+            }
+        }
+    }
+
+    /**
+     * Moves the falling brick and its ghost.
+     * @param brickData The matrix of the brick.
+     * @param x The column of the brick.
+     * @param y The row of the brick, with a fraction while it is drawn between two rows.
+     * @param ghostY The row the brick would land on.
+     */
+    public void drawBrick(int[][] brickData, int x, double y, int ghostY) {
+        GraphicsContext g = active.getGraphicsContext2D();
+        if (shownBrick != null) {
+            clearBrick(g, shownBrick, shownX, shownGhostY);
+            clearBrick(g, shownBrick, shownX, shownY);
+        }
+        g.setGlobalAlpha(GHOST_OPACITY);
+        paintBrick(g, brickData, x, ghostY);
+        g.setGlobalAlpha(1);
+        paintBrick(g, brickData, x, y);
+        shownBrick = brickData;
+        shownX = x;
+        shownY = y;
+        shownGhostY = ghostY;
+    }
+
+    private void clearBrick(GraphicsContext g, int[][] brickData, int x, double y) {
+        // A pixel of margin, for the antialiased edges of a brick drawn between rows
+        g.clearRect(x * cellSize - 1, (y - HIDDEN_ROWS) * cellSize - 1,
+                brickData[0].length * cellSize + 2, brickData.length * cellSize + 2);
+    }
+
+    private void paintBrick(GraphicsContext g, int[][] brickData, int x, double y) {
+        for (int i = 0; i < brickData.length; i++) {
+            for (int j = 0; j < brickData[i].length; j++) {
+                if (brickData[i][j] != 0 && y + i >= HIDDEN_ROWS) {
+                    g.setFill(palette.apply(brickData[i][j]));
+                    g.fillRect((x + j) * cellSize, (y + i - HIDDEN_ROWS) * cellSize, cellSize, cellSize);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.comp2042.view;
+
+import com.comp2042.controller.InputEventListener;
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+import java.awt.*;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * A {@link GameView} for a game that runs on its own thread, which hands immutable frames to the JavaFX thread.
+ * <p>
+ * The game thread calls this view like any other. It keeps what a frame shows — the brick, the changed rows,
+ * the preview and the scores — and {@link #publish()} snapshots them into a {@link Frame} behind a volatile
+ * reference, once per batch of game work. On every pulse the JavaFX thread takes the newest frame, if it has
+ * not drawn it yet, and draws it on the target view; a frame it missed is never needed, because every frame
+ * carries all rows changed since the last frame the JavaFX thread took. One-off calls such as notifications
+ * and effects go through a lock-free queue instead, so none is lost. Neither thread ever waits for the other.
+ * <p>
+ * Between frames the falling brick keeps moving at the speed the last frame gave, so it glides on every pulse
+ * even when the game thread publishes less often than the screen refreshes.
+ * <p>
+ * Applied inputs ride along with the frames for latency measuring. Each has a sequence number, and a frame
+ * carries every input the JavaFX thread has not taken yet, so an input is passed on exactly once.
+ */
+public final class FramePublisher implements GameView {
+
+    /**
+     * What the game showed at the end of a batch. Frames are never changed once published.
+     */
+    private static final class Frame {
+        final long version;
+        final ViewData brick;
+        final int[][] rows;
+        final BitSet changedRows;
+        final List<int[][]> preview;
+        final int score;
+        final int highScore;
+        final double fallOffset;
+        final double fallSpeed;
+        final long publishedAt;
+        final boolean closed;
+        final long firstInput;
+        final long[] inputs;
+
+        Frame(long version, ViewData brick, int[][] rows, BitSet changedRows, List<int[][]> preview,
+              int score, int highScore, double fallOffset, double fallSpeed, long publishedAt, boolean closed,
+              long firstInput, long[] inputs) {
+            this.version = version;
+            this.brick = brick;
+            this.rows = rows;
+            this.changedRows = changedRows;
+            this.preview = preview;
+            this.score = score;
+            this.highScore = highScore;
+            this.fallOffset = fallOffset;
+            this.fallSpeed = fallSpeed;
+            this.publishedAt = publishedAt;
+            this.closed = closed;
+            this.firstInput = firstInput;
+            this.inputs = inputs;
+        }
+    }
+
+    private static final int[][] NO_ROWS = new int[0][];
+    private static final BitSet NO_CHANGES = new BitSet();
+    private static final long[] NO_INPUTS = new long[0];
+
+    /**
+     * The number of applied inputs kept for the JavaFX thread; if it falls further behind, the oldest are dropped.
+     */
+    private static final int INPUT_CAPACITY = 64;
+
+    private final GameView target;
+    private final ConcurrentLinkedQueue<Consumer<GameView>> effects = new ConcurrentLinkedQueue<>();
+    private volatile Frame latest;
+    private volatile long consumedVersion;
+    private volatile long consumedInputs;
+
+    // Game thread
+    private final BitSet pendingRows = new BitSet();
+    private final BitSet unconsumedRows = new BitSet();
+    private int[][] board;
+    private ViewData brick;
+    private List<int[][]> preview;
+    private IntegerProperty scoreProperty;
+    private IntegerProperty highScoreProperty;
+    private double fallOffset;
+    private double fallSpeed;
+    private boolean closed;
+    private boolean dirty;
+    private long publishedVersion;
+    // Pairs of press and apply times, in a ring indexed by input sequence number
+    private final long[] inputTimes = new long[2 * INPUT_CAPACITY];
+    private long inputCount;
+
+    // JavaFX thread
+    private final IntegerProperty shownScore = new SimpleIntegerProperty();
+    private final IntegerProperty shownHighScore = new SimpleIntegerProperty();
+    private Frame shown;
+    private long shownInputs;
+
+    private final AnimationTimer presenter = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            present();
+        }
+    };
+
+    /**
+     * Constructs a new FramePublisher and starts drawing its frames on the target. Call it on the JavaFX thread.
+     * @param target The view to draw on.
+     */
+    public FramePublisher(GameView target) {
+        this.target = target;
+        presenter.start();
+    }
+
+    /**
+     * Sets up the target straight away; the game is created on the JavaFX thread, before its thread starts.
+     */
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+        target.initGameView(boardMatrix, brick);
+        board = boardMatrix;
+        this.brick = brick;
+    }
+
+    @Override
+    public void refreshBrick(ViewData brick) {
+        this.brick = brick;
+        dirty = true;
+    }
+
+    @Override
+    public void interpolateBrick(double rows, double rowsPerSecond) {
+        if (rows != fallOffset || rowsPerSecond != fallSpeed) {
+            fallOffset = rows;
+            fallSpeed = rowsPerSecond;
+            dirty = true;
+        }
+    }
+
+    @Override
+    public void inputApplied(long pressedAt, long appliedAt) {
+        int slot = (int) (inputCount % INPUT_CAPACITY) * 2;
+        inputTimes[slot] = pressedAt;
+        inputTimes[slot + 1] = appliedAt;
+        inputCount++;
+        dirty = true;
+    }
+
+    @Override
+    public void refreshPreview(List<int[][]> nextBricks) {
+        preview = nextBricks;
+        dirty = true;
+    }
+
+    /**
+     * Remembers the rows; they are copied when the frame is published.
+     */
+    @Override
+    public void refreshGameBackground(int[][] board, BitSet changedRows) {
+        this.board = board;
+        pendingRows.or(changedRows);
+        dirty = true;
+    }
+
+    /**
+     * Sets the listener on the target straight away. The target calls it on the JavaFX thread.
+     */
+    @Override
+    public void setEventListener(InputEventListener eventListener) {
+        target.setEventListener(eventListener);
+    }
+
+    /**
+     * Binds the target to a copy of the score that follows the published frames.
+     */
+    @Override
+    public void bindScore(IntegerProperty scoreProperty) {
+        this.scoreProperty = scoreProperty;
+        shownScore.set(scoreProperty.get());
+        target.bindScore(shownScore);
+    }
+
+    /**
+     * Binds the target to a copy of the high score that follows the published frames.
+     */
+    @Override
+    public void bindHighScore(IntegerProperty highScoreProperty) {
+        this.highScoreProperty = highScoreProperty;
+        shownHighScore.set(highScoreProperty.get());
+        target.bindHighScore(shownHighScore);
+    }
+
+    @Override
+    public void gameOver() {
+        effects.add(GameView::gameOver);
+    }
+
+    @Override
+    public void showSpeedNotification(String message) {
+        effects.add(view -> view.showSpeedNotification(message));
+    }
+
+    @Override
+    public void showScoreNotification(String text) {
+        effects.add(view -> view.showScoreNotification(text));
+    }
+
+    @Override
+    public void spawnFireEffect(double x, double y) {
+        effects.add(view -> view.spawnFireEffect(x, y));
+    }
+
+    /**
+     * Plays the animation on the JavaFX thread, which is also where {@code onFinished} runs.
+     */
+    @Override
+    public void animateBlockRemoval(List<Point> clearedBlocks, Runnable onFinished) {
+        effects.add(view -> view.animateBlockRemoval(clearedBlocks, onFinished));
+    }
+
+    @Override
+    public void updatePowerUpProgressBar(double progress) {
+        effects.add(view -> view.updatePowerUpProgressBar(progress));
+    }
+
+    @Override
+    public void setPowerUpContainerVisibility(boolean isVisible) {
+        effects.add(view -> view.setPowerUpContainerVisibility(isVisible));
+    }
+
+    /**
+     * Publishes a last frame, after which the JavaFX thread closes the target and stops drawing.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        dirty = true;
+    }
+
+    /**
+     * Publishes what changed since the last frame. Runs on the game thread, after each batch of game work.
+     */
+    public void publish() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        if (consumedVersion == publishedVersion) {
+            unconsumedRows.clear();
+        }
+        unconsumedRows.or(pendingRows);
+        pendingRows.clear();
+        int[][] rows = NO_ROWS;
+        BitSet changedRows = NO_CHANGES;
+        if (!unconsumedRows.isEmpty()) {
+            // Only the changed rows are copied; a falling brick alone publishes no rows at all
+            rows = new int[board.length][];
+            for (int i = unconsumedRows.nextSetBit(0); i >= 0 && i < board.length; i = unconsumedRows.nextSetBit(i + 1)) {
+                rows[i] = board[i].clone();
+            }
+            changedRows = (BitSet) unconsumedRows.clone();
+        }
+        long firstInput = Math.max(consumedInputs, inputCount - INPUT_CAPACITY);
+        long[] inputs = NO_INPUTS;
+        if (firstInput < inputCount) {
+            inputs = new long[(int) (inputCount - firstInput) * 2];
+            for (long i = firstInput; i < inputCount; i++) {
+                int slot = (int) (i % INPUT_CAPACITY) * 2;
+                inputs[(int) (i - firstInput) * 2] = inputTimes[slot];
+                inputs[(int) (i - firstInput) * 2 + 1] = inputTimes[slot + 1];
+            }
+        }
+        publishedVersion++;
+        latest = new Frame(publishedVersion, brick, rows, changedRows, preview,
+                scoreProperty != null ? scoreProperty.get() : 0, highScoreProperty != null ? highScoreProperty.get() : 0,
+                fallOffset, fallSpeed, System.nanoTime(), closed, firstInput, inputs);
+    }
+
+    /**
+     * Draws the effects queued so far and the newest frame, then moves the brick on by the time since then.
+     * Runs on the JavaFX thread, on every pulse.
+     */
+    private void present() {
+        Consumer<GameView> effect;
+        while ((effect = effects.poll()) != null) {
+            effect.accept(target);
+        }
+        Frame frame = latest;
+        if (frame == null) {
+            return;
+        }
+        if (frame != shown) {
+            if (!frame.changedRows.isEmpty()) {
+                target.refreshGameBackground(frame.rows, frame.changedRows);
+            }
+            if (frame.preview != null && (shown == null || frame.preview != shown.preview)) {
+                target.refreshPreview(frame.preview);
+            }
+            if (shown == null || frame.brick != shown.brick) {
+                target.refreshBrick(frame.brick);
+            }
+            for (int i = 0; i < frame.inputs.length; i += 2) {
+                if (frame.firstInput + i / 2 >= shownInputs) {
+                    target.inputApplied(frame.inputs[i], frame.inputs[i + 1]);
+                }
+            }
+            shownInputs = Math.max(shownInputs, frame.firstInput + frame.inputs.length / 2);
+            consumedInputs = shownInputs;
+            shownScore.set(frame.score);
+            shownHighScore.set(frame.highScore);
+            shown = frame;
+            consumedVersion = frame.version;
+        }
+        double elapsed = (System.nanoTime() - frame.publishedAt) / 1e9;
+        target.interpolateBrick(Math.min(1, frame.fallOffset + frame.fallSpeed * elapsed), frame.fallSpeed);
+        if (frame.closed) {
+            presenter.stop();
+            target.close();
+        }
+    }
+}
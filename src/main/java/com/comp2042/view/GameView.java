@@ -0,0 +1,123 @@
+package com.comp2042.view;
+
+import com.comp2042.controller.InputEventListener;
+import javafx.beans.property.IntegerProperty;
+
+import java.awt.*;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The view a {@link com.comp2042.controller.GameController} draws the game on.
+ * {@link GuiController} is the JavaFX implementation; benchmarks and tools can provide their own.
+ */
+public interface GameView {
+
+    /**
+     * Sets up the initial game view with the board and the first brick.
+     * @param boardMatrix The initial state of the game board.
+     * @param brick The initial brick to be displayed.
+     */
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Refreshes the position and appearance of the current brick and its ghost.
+     * @param brick The ViewData containing the updated brick information.
+     */
+    void refreshBrick(ViewData brick);
+
+    /**
+     * Draws the falling brick part of the way down to the next row, between two game ticks.
+     * The offset holds until the next call, also across {@link #refreshBrick(ViewData)}.
+     * A view that draws more often than it is called can move the brick on at the given speed.
+     * @param rows The distance below the brick's row, from 0 to 1.
+     * @param rowsPerSecond How fast the brick falls until the next call, 0 if it rests on the stack.
+     */
+    void interpolateBrick(double rows, double rowsPerSecond);
+
+    /**
+     * Notes that the game applied a stamped input, so the view can measure how long it takes to show it.
+     * @param pressedAt The time of the input, from {@link System#nanoTime()}.
+     * @param appliedAt The time the input changed the board.
+     */
+    void inputApplied(long pressedAt, long appliedAt);
+
+    /**
+     * Redraws the preview of upcoming bricks. It is only called when the preview changed.
+     * @param nextBricks The matrices of the preview bricks, next brick first.
+     */
+    void refreshPreview(List<int[][]> nextBricks);
+
+    /**
+     * Redraws the given rows of the game board.
+     * @param board The matrix representing the current state of the board.
+     * @param changedRows The rows that changed since the last redraw.
+     */
+    void refreshGameBackground(int[][] board, BitSet changedRows);
+
+    /**
+     * Sets the listener for user input events.
+     * @param eventListener The listener to be notified of input events.
+     */
+    void setEventListener(InputEventListener eventListener);
+
+    /**
+     * Binds the score display to an IntegerProperty.
+     * @param scoreProperty The property holding the score.
+     */
+    void bindScore(IntegerProperty scoreProperty);
+
+    /**
+     * Binds the high score display to an IntegerProperty.
+     * @param highScoreProperty The property holding the high score.
+     */
+    void bindHighScore(IntegerProperty highScoreProperty);
+
+    /**
+     * Displays the game over screen.
+     */
+    void gameOver();
+
+    /**
+     * Shows a temporary notification message for speed changes.
+     * @param message The message to display.
+     */
+    void showSpeedNotification(String message);
+
+    /**
+     * Shows a score notification.
+     * @param text The score text to display.
+     */
+    void showScoreNotification(String text);
+
+    /**
+     * Spawns a fire effect at a specific grid location.
+     * @param x The x-coordinate on the grid.
+     * @param y The y-coordinate on the grid.
+     */
+    void spawnFireEffect(double x, double y);
+
+    /**
+     * Removes blocks from the board display.
+     * @param clearedBlocks A list of points representing the blocks to be removed.
+     * @param onFinished A runnable to execute once the blocks are gone.
+     */
+    void animateBlockRemoval(List<Point> clearedBlocks, Runnable onFinished);
+
+    /**
+     * Updates the progress of the power-up progress bar.
+     * @param progress The progress value (0.0 to 1.0).
+     */
+    void updatePowerUpProgressBar(double progress);
+
+    /**
+     * Sets the visibility of the power-up UI container.
+     * @param isVisible True to show, false to hide.
+     */
+    void setPowerUpContainerVisibility(boolean isVisible);
+
+    /**
+     * Stops drawing, because the player left the game.
+     */
+    void close();
+}
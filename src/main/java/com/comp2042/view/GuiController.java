@@ -2,7 +2,6 @@ package com.comp2042.view;
 
 import com.comp2042.controller.InputEventListener;
 import com.comp2042.controller.MenuController;
-import com.comp2042.logic.events.ClearRow;
 import com.comp2042.logic.events.EventSource;
 import com.comp2042.logic.events.EventType;
 import com.comp2042.logic.events.MoveEvent;
@@ -40,6 +39,8 @@ import java.awt.Point;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Random;
 import java.util.ResourceBundle;
@@ -49,13 +50,24 @@ import java.util.ResourceBundle;
  * This class handles rendering the game board, bricks, and UI components,
  * as well as processing user input.
  */
-public class GuiController implements Initializable {
+public class GuiController implements Initializable, GameView {
 
     /**
      * The size of each brick in pixels.
      */
     private static final int BRICK_SIZE = 20;
 
+    /**
+     * The most visible cells drawn as one rectangle node each; larger boards are drawn on a {@link BoardCanvas}.
+     */
+    private static final int NODE_CELL_LIMIT = 2_000;
+
+    /**
+     * The area a board drawn on a canvas is scaled down to fit, in pixels.
+     */
+    private static final double CANVAS_MAX_WIDTH = 480;
+    private static final double CANVAS_MAX_HEIGHT = 720;
+
     /**
      * The main grid pane that holds the game board.
      */
@@ -156,6 +168,79 @@ public class GuiController implements Initializable {
      */
     private Rectangle[][] displayMatrix;
 
+    /**
+     * The color index currently shown by each board rectangle, so unchanged cells are skipped.
+     */
+    private int[][] displayedColors;
+
+    /**
+     * The canvas a large board is drawn on instead of {@link #displayMatrix}, or null for a node per cell.
+     */
+    private BoardCanvas boardCanvas;
+
+    /**
+     * Counts the rectangles updated per frame.
+     */
+    private final RenderStats renderStats = new RenderStats();
+
+    /**
+     * Closes a {@link RenderStats} frame on every pulse, records the pulse for the performance overlay,
+     * and refreshes the overlays that are shown.
+     */
+    private final AnimationTimer frameCounter = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            renderStats.endFrame();
+            performanceMonitor.pulse(now);
+            if (now - overlayUpdatedAt >= OVERLAY_INTERVAL) {
+                if (latencyOverlay.isVisible()) {
+                    latencyOverlay.setText(INPUT_LATENCY.toString());
+                }
+                if (performanceOverlay.isVisible()) {
+                    performanceOverlay.setText(performanceMonitor.format(countNodes(gamePanel)));
+                }
+                overlayUpdatedAt = now;
+            }
+        }
+    };
+
+    /**
+     * Measures pulses, redraws, animations and garbage collection for the performance overlay.
+     */
+    private final PerformanceMonitor performanceMonitor = new PerformanceMonitor();
+
+    /**
+     * Shows the performance of the view, toggled with F3.
+     */
+    @FXML
+    private Label performanceOverlay;
+
+    /**
+     * The input latency of every game since the application started, printed when it exits.
+     */
+    private static final InputLatency INPUT_LATENCY = new InputLatency();
+
+    /**
+     * How often the latency overlay is refreshed, in nanoseconds.
+     */
+    private static final long OVERLAY_INTERVAL = 250_000_000L;
+
+    /**
+     * Takes the photon latency of the inputs drawn in a pulse.
+     */
+    private final Runnable latencyPulse = () -> INPUT_LATENCY.pulse(System.nanoTime());
+
+    /**
+     * The time the latency overlay was last refreshed.
+     */
+    private long overlayUpdatedAt;
+
+    /**
+     * Shows the input latency, toggled with L.
+     */
+    @FXML
+    private Label latencyOverlay;
+
     /**
      * The listener for input events.
      */
@@ -185,9 +270,14 @@ public class GuiController implements Initializable {
     private int[][] storedNextBrickData3;
 
     /**
-     * The timeline for the game loop.
+     * The brick data last drawn, so the brick can be drawn again between rows.
      */
-    private Timeline timeLine;
+    private ViewData shownBrick;
+
+    /**
+     * How far the falling brick is drawn below its row, from 0 to 1.
+     */
+    private double brickOffset;
 
     /**
      * A property that indicates whether the game is paused.
@@ -219,6 +309,7 @@ public class GuiController implements Initializable {
         gamePanel.setOnKeyPressed(new EventHandler<KeyEvent>() {
             @Override
             public void handle(KeyEvent keyEvent) {
+                long pressedAt = System.nanoTime();
 
                 if (keyEvent.getCode() == KeyCode.P && !isGameOver.getValue()) {
                     togglePause();
@@ -227,41 +318,54 @@ public class GuiController implements Initializable {
 
                 if (!isPause.getValue() && !isGameOver.getValue()) {
                     if (keyEvent.getCode() == KeyCode.LEFT || keyEvent.getCode() == KeyCode.A) {
-                        refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
+                        sendInput(EventType.LEFT, pressedAt);
                         keyEvent.consume();
                     }
                     if (keyEvent.getCode() == KeyCode.RIGHT || keyEvent.getCode() == KeyCode.D) {
-                        refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
+                        sendInput(EventType.RIGHT, pressedAt);
                         keyEvent.consume();
                     }
                     if (keyEvent.getCode() == KeyCode.UP || keyEvent.getCode() == KeyCode.W) {
-                        refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
+                        sendInput(EventType.ROTATE, pressedAt);
                         keyEvent.consume();
                     }
                     if (keyEvent.getCode() == KeyCode.DOWN || keyEvent.getCode() == KeyCode.S) {
-                        moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+                        sendInput(EventType.DOWN, pressedAt);
                         keyEvent.consume();
                     }
                     if (keyEvent.getCode() == KeyCode.SPACE) {
-                        DownData downData = eventListener.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
-                        ClearRow clearRow = downData.getClearRow();
-                        if (clearRow != null) {
-                            refreshGameBackground(clearRow.getNewMatrix());
-                        }
-                        refreshBrick(downData.getViewData());
+                        sendInput(EventType.HARD_DROP, pressedAt);
                         keyEvent.consume();
                     }
                     if (keyEvent.getCode() == KeyCode.C) {
-                        refreshBrick(eventListener.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER)));
+                        sendInput(EventType.HOLD, pressedAt);
                         keyEvent.consume();
                     }
                 }
                 if (keyEvent.getCode() == KeyCode.N) {
                     newGame(null);
                 }
+                if (keyEvent.getCode() == KeyCode.L) {
+                    latencyOverlay.setVisible(!latencyOverlay.isVisible());
+                    keyEvent.consume();
+                }
+                if (keyEvent.getCode() == KeyCode.F3) {
+                    performanceMonitor.setEnabled(!performanceMonitor.isEnabled());
+                    performanceOverlay.setVisible(performanceMonitor.isEnabled());
+                    keyEvent.consume();
+                }
             }
         });
         gameOverPanel.setVisible(false);
+        // The photon latency is taken once a pulse has laid out the scene, right before it is rendered
+        gamePanel.sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (oldScene != null) {
+                oldScene.removePostLayoutPulseListener(latencyPulse);
+            }
+            if (newScene != null) {
+                newScene.addPostLayoutPulseListener(latencyPulse);
+            }
+        });
 
         gameOverPanel.setOnNewGameButtonClick(e -> newGame(e));
         gameOverPanel.setOnMainMenuButtonClick(this::returnToMainMenu);
@@ -280,6 +384,7 @@ public class GuiController implements Initializable {
             pauseMenuPanel.setVisible(false);
             pauseMenuPanel.setOnResumeButtonClick(e -> togglePause());
             pauseMenuPanel.setOnNewGameButtonClick(e -> newGame(e));
+            pauseMenuPanel.setOnMainMenuButtonClick(this::returnToMainMenu);
         }
 
         if (scoreLabel != null) {
@@ -307,8 +412,14 @@ public class GuiController implements Initializable {
      * @param boardMatrix The initial state of the game board.
      * @param brick The initial brick to be displayed.
      */
+    @Override
     public void initGameView(int[][] boardMatrix, ViewData brick) {
+        if ((boardMatrix.length - 2) * boardMatrix[0].length > NODE_CELL_LIMIT) {
+            initBoardCanvas(boardMatrix, brick);
+            return;
+        }
         displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        displayedColors = new int[boardMatrix.length][boardMatrix[0].length];
         for (int i = 2; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
@@ -342,15 +453,34 @@ public class GuiController implements Initializable {
         ghostBrickPanel.setTranslateX(offset.getX() + brick.getxPosition() * cellWidth);
         ghostBrickPanel.setTranslateY(offset.getY() + (brick.getGhostYPosition() - 2) * cellHeight);
 
+        shownBrick = brick;
         refreshNextBricks(brick.getNextThreeBricks());
         refreshHoldBrick(brick.getHoldBrickData());
+        frameCounter.start();
+    }
 
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(400),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
+    /**
+     * Sets up a board too large for a node per cell: one {@link BoardCanvas}, scaled to fit, takes the place
+     * of the cell rectangles and of the brick and ghost panels.
+     * @param boardMatrix The initial state of the game board.
+     * @param brick The initial brick to be displayed.
+     */
+    private void initBoardCanvas(int[][] boardMatrix, ViewData brick) {
+        int width = boardMatrix[0].length;
+        double cellSize = BoardCanvas.cellSizeFor(width, boardMatrix.length, CANVAS_MAX_WIDTH, CANVAS_MAX_HEIGHT, BRICK_SIZE);
+        boardCanvas = new BoardCanvas(width, boardMatrix.length, cellSize, this::getFillColor);
+        gamePanel.setGridLinesVisible(false);
+        gamePanel.add(boardCanvas, 0, 0);
+        brickPanel.setVisible(false);
+        ghostBrickPanel.setVisible(false);
+        BitSet allRows = new BitSet(boardMatrix.length);
+        allRows.set(0, boardMatrix.length);
+        boardCanvas.drawRows(boardMatrix, allRows, renderStats);
+        boardCanvas.drawBrick(brick.getBrickData(), brick.getxPosition(), brick.getyPosition(), brick.getGhostYPosition());
+        shownBrick = brick;
+        refreshNextBricks(brick.getNextThreeBricks());
+        refreshHoldBrick(brick.getHoldBrickData());
+        frameCounter.start();
     }
 
     /**
@@ -461,37 +591,66 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Refreshes the panels displaying the next three bricks.
-     * @param nextThreeBricks A list containing the data for the next three bricks.
+     * Redraws the preview panels after the queue of upcoming bricks shifted.
+     * @param nextBricks The matrices of the preview bricks, next brick first.
+     */
+    @Override
+    public void refreshPreview(List<int[][]> nextBricks) {
+        refreshNextBricks(nextBricks);
+    }
+
+    /**
+     * Refreshes the panels displaying the next three bricks. Panels beyond a shorter preview are emptied.
+     * @param nextThreeBricks A list containing the data for the preview bricks.
      */
-    private void refreshNextBricks(java.util.List<int[][]> nextThreeBricks) {
-        if (nextThreeBricks == null || nextThreeBricks.size() < 3) return;
+    private void refreshNextBricks(List<int[][]> nextThreeBricks) {
+        if (nextThreeBricks == null) return;
 
-        refreshNextBrickPanel(nextBrickPanel1, nextThreeBricks.get(0), storedNextBrickData1);
-        storedNextBrickData1 = nextThreeBricks.get(0);
+        int[][] next1 = nextThreeBricks.size() > 0 ? nextThreeBricks.get(0) : null;
+        refreshNextBrickPanel(nextBrickPanel1, next1, storedNextBrickData1);
+        storedNextBrickData1 = next1;
 
-        refreshNextBrickPanel(nextBrickPanel2, nextThreeBricks.get(1), storedNextBrickData2);
-        storedNextBrickData2 = nextThreeBricks.get(1);
+        int[][] next2 = nextThreeBricks.size() > 1 ? nextThreeBricks.get(1) : null;
+        refreshNextBrickPanel(nextBrickPanel2, next2, storedNextBrickData2);
+        storedNextBrickData2 = next2;
 
-        refreshNextBrickPanel(nextBrickPanel3, nextThreeBricks.get(2), storedNextBrickData3);
-        storedNextBrickData3 = nextThreeBricks.get(2);
+        int[][] next3 = nextThreeBricks.size() > 2 ? nextThreeBricks.get(2) : null;
+        refreshNextBrickPanel(nextBrickPanel3, next3, storedNextBrickData3);
+        storedNextBrickData3 = next3;
     }
 
     /**
      * Refreshes the position and appearance of the current brick and its ghost.
      * @param brick The ViewData containing the updated brick information.
      */
+    @Override
     public void refreshBrick(ViewData brick) {
+        long start = System.nanoTime();
+        drawBrick(brick);
+        performanceMonitor.brickRefreshed(System.nanoTime() - start);
+    }
+
+    /**
+     * Draws the current brick and its ghost, unless the game is paused.
+     * @param brick The ViewData containing the updated brick information.
+     */
+    private void drawBrick(ViewData brick) {
         if (!isPause.getValue()) {
+            shownBrick = brick;
+        }
+        if (!isPause.getValue() && boardCanvas != null) {
+            refreshHoldBrick(brick.getHoldBrickData());
+            boardCanvas.drawBrick(brick.getBrickData(), brick.getxPosition(), brick.getyPosition() + brickOffset,
+                    brick.getGhostYPosition());
+        } else if (!isPause.getValue()) {
             ghostBrickPanel.toFront();
             brickPanel.toFront();
-            refreshNextBricks(brick.getNextThreeBricks());
             refreshHoldBrick(brick.getHoldBrickData());
             Point2D offset = getGamePanelOffset();
             double cellWidth = BRICK_SIZE + gamePanel.getHgap();
             double cellHeight = BRICK_SIZE + gamePanel.getVgap();
             brickPanel.setTranslateX(offset.getX() + brick.getxPosition() * cellWidth);
-            brickPanel.setTranslateY(offset.getY() + (brick.getyPosition() - 2) * cellHeight);
+            brickPanel.setTranslateY(offset.getY() + (brick.getyPosition() - 2 + brickOffset) * cellHeight);
             ghostBrickPanel.setTranslateX(offset.getX() + brick.getxPosition() * cellWidth);
             ghostBrickPanel.setTranslateY(offset.getY() + (brick.getGhostYPosition() - 2) * cellHeight);
             for (int i = 0; i < brick.getBrickData().length; i++) {
@@ -503,25 +662,95 @@ public class GuiController implements Initializable {
         }
     }
 
+    /**
+     * Moves the falling brick between its row and the next one; the ghost stays where the brick will land.
+     * The brick is only drawn when this is called, so the speed is not used.
+     * @param rows The distance below the brick's row, from 0 to 1.
+     * @param rowsPerSecond How fast the brick falls.
+     */
+    @Override
+    public void interpolateBrick(double rows, double rowsPerSecond) {
+        if (rows == brickOffset || isPause.getValue() || shownBrick == null) {
+            return;
+        }
+        brickOffset = rows;
+        if (boardCanvas != null) {
+            boardCanvas.drawBrick(shownBrick.getBrickData(), shownBrick.getxPosition(),
+                    shownBrick.getyPosition() + rows, shownBrick.getGhostYPosition());
+        } else {
+            double cellHeight = BRICK_SIZE + gamePanel.getVgap();
+            brickPanel.setTranslateY(getGamePanelOffset().getY() + (shownBrick.getyPosition() - 2 + rows) * cellHeight);
+        }
+    }
 
     /**
-     * Redraws the entire game board based on the provided matrix.
+     * Redraws only the given rows of the game board, and within them only the cells whose color changed.
      * @param board The matrix representing the current state of the board.
+     * @param changedRows The rows that changed since the last redraw.
      */
-    public void refreshGameBackground(int[][] board) {
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
+    @Override
+    public void refreshGameBackground(int[][] board, BitSet changedRows) {
+        long start = System.nanoTime();
+        drawRows(board, changedRows);
+        performanceMonitor.backgroundRefreshed(System.nanoTime() - start);
+    }
+
+    /**
+     * Redraws the cells whose color changed in the given rows.
+     * @param board The matrix representing the current state of the board.
+     * @param changedRows The rows that changed since the last redraw.
+     */
+    private void drawRows(int[][] board, BitSet changedRows) {
+        if (boardCanvas != null) {
+            boardCanvas.drawRows(board, changedRows, renderStats);
+            return;
+        }
+        for (int i = changedRows.nextSetBit(2); i >= 0 && i < board.length; i = changedRows.nextSetBit(i + 1)) {
+            int[] row = board[i];
+            int[] shown = displayedColors[i];
+            if (Arrays.equals(row, shown)) {
+                continue;
+            }
+            for (int j = 0; j < row.length; j++) {
+                if (row[j] != shown[j]) {
+                    setRectangleData(row[j], displayMatrix[i][j]);
+                    shown[j] = row[j];
+                }
             }
         }
     }
 
+    /**
+     * Counts a node and all nodes below it.
+     * @param node The node.
+     * @return The number of nodes.
+     */
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            List<Node> children = parent.getChildrenUnmodifiable();
+            for (int i = 0; i < children.size(); i++) {
+                count += countNodes(children.get(i));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the counters of rectangles updated per frame.
+     * @return The render statistics.
+     */
+    public RenderStats getRenderStats() {
+        return renderStats;
+    }
+
     /**
      * Sets the visual properties of a rectangle on the game board.
      * @param color The color index.
      * @param rectangle The rectangle to modify.
      */
     private void setRectangleData(int color, Rectangle rectangle) {
+        renderStats.touch();
         rectangle.setFill(getFillColor(color));
         rectangle.setArcHeight(9);
         rectangle.setArcWidth(9);
@@ -533,6 +762,7 @@ public class GuiController implements Initializable {
      * @param rectangle The rectangle to modify.
      */
     private void setGhostRectangleData(int color, Rectangle rectangle) {
+        renderStats.touch();
         if (color == 0) {
             rectangle.setFill(Color.TRANSPARENT);
             rectangle.setOpacity(0);
@@ -545,25 +775,38 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Handles the downward movement of a brick.
-     * @param event The move event.
+     * Sends a player's input to the listener and records how long the call took.
+     * @param eventType The type of input.
+     * @param pressedAt The time the key event was handled, from {@link System#nanoTime()}.
      */
-    private void moveDown(MoveEvent event) {
-        if (!isPause.getValue()){
-            DownData downData = eventListener.onDownEvent(event);
-            ClearRow clearRow = downData.getClearRow();
-            if (clearRow != null) {
-                refreshGameBackground(clearRow.getNewMatrix());
-            }
-            refreshBrick(downData.getViewData());
-        }
-        gamePanel.requestFocus();
+    private void sendInput(EventType eventType, long pressedAt) {
+        eventListener.onInput(new MoveEvent(eventType, EventSource.USER, pressedAt));
+        INPUT_LATENCY.dispatched(pressedAt, System.nanoTime());
+    }
+
+    /**
+     * Counts the input towards the photon latency of the next pulse.
+     * @param pressedAt The time of the input.
+     * @param appliedAt The time the input changed the board.
+     */
+    @Override
+    public void inputApplied(long pressedAt, long appliedAt) {
+        INPUT_LATENCY.applied(pressedAt, appliedAt);
+    }
+
+    /**
+     * Gets the input latency of every game played so far.
+     * @return The input latency.
+     */
+    public static InputLatency getInputLatency() {
+        return INPUT_LATENCY;
     }
 
     /**
      * Sets the listener for user input events.
      * @param eventListener The listener to be notified of input events.
      */
+    @Override
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
     }
@@ -572,6 +815,7 @@ public class GuiController implements Initializable {
      * Binds the score label to an IntegerProperty.
      * @param scoreProperty The property to bind to the score label.
      */
+    @Override
     public void bindScore(IntegerProperty scoreProperty) {
         if (scoreLabel != null && scoreProperty != null) {
             scoreLabel.textProperty().bind(scoreProperty.asString("%d"));
@@ -582,6 +826,7 @@ public class GuiController implements Initializable {
      * Binds the high score label to an IntegerProperty.
      * @param highScoreProperty The property to bind to the high score label.
      */
+    @Override
     public void bindHighScore(IntegerProperty highScoreProperty) {
         if (highScoreLabel != null && highScoreProperty != null) {
             highScoreLabel.textProperty().bind(highScoreProperty.asString("%d"));
@@ -591,8 +836,11 @@ public class GuiController implements Initializable {
     /**
      * Displays the game over screen.
      */
+    @Override
     public void gameOver() {
-        timeLine.stop();
+        if (Boolean.getBoolean("tetris.renderStats")) {
+            System.out.println(renderStats);
+        }
         gameOverPanel.setVisible(true);
         gameOverPanel.toFront();
         isGameOver.setValue(true);
@@ -603,21 +851,29 @@ public class GuiController implements Initializable {
      * @param actionEvent The event that triggered the new game.
      */
     public void newGame(ActionEvent actionEvent) {
-        timeLine.stop();
         gameOverPanel.setVisible(false);
         pauseMenuPanel.setVisible(false);
+        isPause.setValue(false);
         eventListener.createNewGame();
         gamePanel.requestFocus();
-        timeLine.play();
-        isPause.setValue(false);
         isGameOver.setValue(false);
     }
 
+    /**
+     * Stops counting frames, once the game is left.
+     */
+    @Override
+    public void close() {
+        frameCounter.stop();
+    }
+
     /**
      * Returns to the main menu.
      * @param event The event that triggered this action.
      */
     private void returnToMainMenu(ActionEvent event) {
+        // Lets the controller save an unfinished game, stop its clock and then close this view
+        eventListener.leaveGame();
         try {
             // Load the Main Menu FXML
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/menu.fxml"));
@@ -643,16 +899,16 @@ public class GuiController implements Initializable {
      * Toggles the pause state of the game.
      */
     public void togglePause() {
-        if (timeLine != null && !isGameOver.getValue()) {
+        if (eventListener != null && !isGameOver.getValue()) {
             if (isPause.getValue()) {
                 isPause.setValue(false);
-                timeLine.play();
+                eventListener.setPaused(false);
                 if (pauseMenuPanel != null) {
                     pauseMenuPanel.setVisible(false);
                 }
             } else {
                 isPause.setValue(true);
-                timeLine.pause();
+                eventListener.setPaused(true);
                 if (pauseMenuPanel != null) {
                     pauseMenuPanel.setVisible(true);
                     pauseMenuPanel.toFront();
@@ -687,6 +943,7 @@ public class GuiController implements Initializable {
      * Shows a temporary notification message for speed changes.
      * @param message The message to display.
      */
+    @Override
     public void showSpeedNotification(String message) {
         if (speedNotificationLabel != null) {
             speedNotificationLabel.setText(message);
@@ -696,6 +953,7 @@ public class GuiController implements Initializable {
             ft.setToValue(0.0);
             ft.setOnFinished(event -> speedNotificationLabel.setVisible(false));
             ft.play();
+            performanceMonitor.track(ft);
         }
     }
 
@@ -703,11 +961,12 @@ public class GuiController implements Initializable {
      * Shows a score notification that animates on the screen.
      * @param text The score text to display.
      */
+    @Override
     public void showScoreNotification(String text) {
         NotificationPanel notificationPanel = new NotificationPanel(text);
         notificationPane.getChildren().add(notificationPanel);
         notificationPane.toFront();
-        notificationPanel.showScore(notificationPane.getChildren());
+        performanceMonitor.track(notificationPanel.showScore(notificationPane.getChildren()));
     }
 
     /**
@@ -715,10 +974,11 @@ public class GuiController implements Initializable {
      * @param x The x-coordinate on the grid.
      * @param y The y-coordinate on the grid.
      */
+    @Override
     public void spawnFireEffect(double x, double y) {
         Point2D offset = getGamePanelOffset();
-        double cellWidth = BRICK_SIZE + gamePanel.getHgap();
-        double cellHeight = BRICK_SIZE + gamePanel.getVgap();
+        double cellWidth = boardCanvas != null ? boardCanvas.getCellSize() : BRICK_SIZE + gamePanel.getHgap();
+        double cellHeight = boardCanvas != null ? boardCanvas.getCellSize() : BRICK_SIZE + gamePanel.getVgap();
         double sceneX = offset.getX() + x * cellWidth + cellWidth / 2;
         double sceneY = offset.getY() + (y - 2) * cellHeight + cellHeight / 2;
 
@@ -748,6 +1008,7 @@ public class GuiController implements Initializable {
             ParallelTransition pt = new ParallelTransition(particle, tt, st, ft);
             pt.setOnFinished(e -> notificationPane.getChildren().remove(particle));
             pt.play();
+            performanceMonitor.track(pt);
         }
     }
 
@@ -756,8 +1017,10 @@ public class GuiController implements Initializable {
      * @param clearedBlocks A list of points representing the blocks to be removed.
      * @param onFinished A runnable to execute after the animation is complete.
      */
+    @Override
     public void animateBlockRemoval(List<Point> clearedBlocks, Runnable onFinished) {
-        if (clearedBlocks.isEmpty()) {
+        // A canvas board has no cell nodes to fade; the next redraw clears the cells
+        if (clearedBlocks.isEmpty() || boardCanvas != null) {
             onFinished.run();
             return;
         }
@@ -796,12 +1059,14 @@ public class GuiController implements Initializable {
             onFinished.run();
         });
         allAnimations.play();
+        performanceMonitor.track(allAnimations);
     }
 
     /**
      * Updates the progress of the power-up progress bar.
      * @param progress The progress value (0.0 to 1.0).
      */
+    @Override
     public void updatePowerUpProgressBar(double progress) {
         if (powerUpProgressBar != null) {
             powerUpProgressBar.setProgress(progress);
@@ -812,6 +1077,7 @@ public class GuiController implements Initializable {
      * Sets the visibility of the power-up UI container.
      * @param isVisible True to show, false to hide.
      */
+    @Override
     public void setPowerUpContainerVisibility(boolean isVisible) {
         if (powerUpContainer != null) {
             powerUpContainer.setVisible(isVisible);
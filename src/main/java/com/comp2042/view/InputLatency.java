@@ -0,0 +1,88 @@
+package com.comp2042.view;
+
+/**
+ * Measures how long a player's key press takes to reach the screen, in three stages, each from the moment
+ * the key event was handled:
+ * <ul>
+ *     <li>listener: until the {@link com.comp2042.controller.InputEventListener} call returned,</li>
+ *     <li>update: until the game applied the input to the board,</li>
+ *     <li>photon: until the end of layout in the first JavaFX pulse that drew the result, right before
+ *     the scene is handed to the renderer.</li>
+ * </ul>
+ * All three run on the JavaFX thread; inputs waiting for their pulse sit in a preallocated ring, so measuring
+ * never allocates.
+ */
+public final class InputLatency {
+
+    /**
+     * The number of inputs that can wait for a pulse; more are left out of the photon stage.
+     */
+    private static final int PENDING_CAPACITY = 64;
+
+    private final LatencyHistogram listener = new LatencyHistogram();
+    private final LatencyHistogram update = new LatencyHistogram();
+    private final LatencyHistogram photon = new LatencyHistogram();
+    private final long[] pending = new long[PENDING_CAPACITY];
+    private int pendingCount;
+
+    /**
+     * Records that the listener returned from an input.
+     * @param pressedAt The time the key event was handled, from {@link System#nanoTime()}.
+     * @param now The current time.
+     */
+    public void dispatched(long pressedAt, long now) {
+        listener.record(now - pressedAt);
+    }
+
+    /**
+     * Records that the game applied an input; its photon latency is taken at the next pulse.
+     * @param pressedAt The time the key event was handled.
+     * @param appliedAt The time the input changed the board.
+     */
+    public void applied(long pressedAt, long appliedAt) {
+        update.record(appliedAt - pressedAt);
+        if (pendingCount < PENDING_CAPACITY) {
+            pending[pendingCount++] = pressedAt;
+        }
+    }
+
+    /**
+     * Records the photon latency of every input applied since the last pulse.
+     * @param now The time the pulse finished its layout.
+     */
+    public void pulse(long now) {
+        for (int i = 0; i < pendingCount; i++) {
+            photon.record(now - pending[i]);
+        }
+        pendingCount = 0;
+    }
+
+    /**
+     * Gets the latencies until the listener returned.
+     * @return The histogram.
+     */
+    public LatencyHistogram getListener() {
+        return listener;
+    }
+
+    /**
+     * Gets the latencies until the board changed.
+     * @return The histogram.
+     */
+    public LatencyHistogram getUpdate() {
+        return update;
+    }
+
+    /**
+     * Gets the latencies until the pulse that drew the result.
+     * @return The histogram.
+     */
+    public LatencyHistogram getPhoton() {
+        return photon;
+    }
+
+    @Override
+    public String toString() {
+        return "input latency\n  listener " + listener + "\n  update   " + update + "\n  photon   " + photon;
+    }
+}
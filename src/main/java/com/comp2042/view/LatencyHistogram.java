@@ -0,0 +1,120 @@
+package com.comp2042.view;
+
+import java.util.Arrays;
+
+/**
+ * Counts latencies in nanoseconds into fixed log-linear buckets, so recording one never allocates.
+ * <p>
+ * Every power of two is split into 32 buckets, which keeps each bucket within about 3% of the values in it,
+ * from single nanoseconds up to about 18 minutes; longer latencies count into the last bucket. All counts
+ * live in one array allocated up front. A histogram is not thread-safe: one thread records and reads it.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    // Values up to 2^40 ns, about 18 minutes
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 2) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records one latency.
+     * @param nanos The latency in nanoseconds; a negative one counts as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[indexOf(value)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Gets the number of latencies recorded.
+     * @return The count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the largest latency recorded, exactly.
+     * @return The latency in nanoseconds, 0 if none was recorded.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the average latency, exactly.
+     * @return The latency in nanoseconds, 0 if none was recorded.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Gets the latency that the given share of the recorded latencies do not exceed.
+     * @param percentile The share, from 0 to 100.
+     * @return The upper end of the bucket holding that latency in nanoseconds, never above the maximum;
+     *         0 if none was recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, lowerBound(i + 1) - 1);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Clears all counts.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n %d, p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms", count,
+                getPercentile(50) / 1e6, getPercentile(90) / 1e6, getPercentile(99) / 1e6, max / 1e6);
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int shift = exponent - SUB_BITS;
+        return ((shift + 1) << SUB_BITS) + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BITS) - 1;
+        return (long) ((index & (SUB_BUCKETS - 1)) + SUB_BUCKETS) << shift;
+    }
+}
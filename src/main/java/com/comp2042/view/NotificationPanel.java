@@ -1,5 +1,6 @@
 package com.comp2042.view;
 
+import javafx.animation.Animation;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.TranslateTransition;
@@ -41,8 +42,9 @@ public class NotificationPanel extends BorderPane {
      * Shows the notification with a fade and translate animation.
      *
      * @param list The list of nodes from which this panel should be removed after the animation finishes.
+     * @return The animation, which is playing.
      */
-    public void showScore(ObservableList<Node> list) {
+    public Animation showScore(ObservableList<Node> list) {
         // The parent StackPane will center this node. We animate relative to that centered position.
         TranslateTransition tt = new TranslateTransition(Duration.millis(2500), this);
         tt.setByY(-40); // Move up by 40px from its starting position
@@ -54,5 +56,6 @@ public class NotificationPanel extends BorderPane {
         ParallelTransition transition = new ParallelTransition(this, tt, ft);
         transition.setOnFinished(event -> list.remove(this));
         transition.play();
+        return transition;
     }
 }
\ No newline at end of file
@@ -9,12 +9,14 @@ import javafx.scene.layout.VBox;
 
 /**
  * Represents the pause menu screen of the Tetris application.
- * This panel is displayed when the game is paused, providing options to resume or start a new game.
+ * This panel is displayed when the game is paused, providing options to resume, start a new game
+ * or save and return to the main menu.
  */
 public class PauseMenuPanel extends BorderPane {
 
     private Button resumeButton;
     private Button newGameButton;
+    private Button mainMenuButton;
 
     /**
      * Constructs a new PauseMenuPanel.
@@ -37,7 +39,10 @@ public class PauseMenuPanel extends BorderPane {
         newGameButton = new Button("New Game");
         newGameButton.getStyleClass().addAll("cyber-button", "green-btn");
 
-        container.getChildren().addAll(pauseLabel, resumeButton, newGameButton);
+        mainMenuButton = new Button("Save & Quit");
+        mainMenuButton.getStyleClass().addAll("cyber-button", "red-btn");
+
+        container.getChildren().addAll(pauseLabel, resumeButton, newGameButton, mainMenuButton);
         setCenter(container);
 
         // Semi-transparent dark background
@@ -62,4 +67,13 @@ public class PauseMenuPanel extends BorderPane {
         newGameButton.setOnAction(handler);
     }
 
+    /**
+     * Sets the event handler for the "Save & Quit" button click.
+     *
+     * @param handler The event handler to be executed when the button is clicked.
+     */
+    public void setOnMainMenuButtonClick(EventHandler<ActionEvent> handler) {
+        mainMenuButton.setOnAction(handler);
+    }
+
 }
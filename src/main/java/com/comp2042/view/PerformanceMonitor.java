@@ -0,0 +1,171 @@
+package com.comp2042.view;
+
+import javafx.animation.Animation;
+import javafx.beans.value.ChangeListener;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the frames of the game view for the performance overlay: the interval between JavaFX pulses,
+ * the time spent in {@link GuiController#refreshBrick(ViewData)} and
+ * {@link GuiController#refreshGameBackground(int[][], java.util.BitSet)}, the running animations and the
+ * garbage collector pauses.
+ * <p>
+ * Samples go into {@link SampleRing}s of the last two seconds, allocated up front, and nothing is measured
+ * while the monitor is off, so it stays out of the way of what it measures. Only formatting the overlay
+ * text allocates, a few times per second. Everything runs on the JavaFX thread.
+ */
+public final class PerformanceMonitor {
+
+    /**
+     * The number of pulses kept, two seconds at 60 Hz.
+     */
+    private static final int PULSES = 120;
+
+    /**
+     * The number of garbage collector pauses kept.
+     */
+    private static final int PAUSES = 16;
+
+    private final SampleRing pulseIntervals = new SampleRing(PULSES);
+    private final SampleRing brickTimes = new SampleRing(PULSES);
+    private final SampleRing backgroundTimes = new SampleRing(PULSES);
+    private final SampleRing gcPauses = new SampleRing(PAUSES);
+    private final GarbageCollectorMXBean[] collectors =
+            ManagementFactory.getGarbageCollectorMXBeans().toArray(new GarbageCollectorMXBean[0]);
+    private int runningAnimations;
+    private final ChangeListener<Animation.Status> animationListener = (observable, oldStatus, newStatus) -> {
+        if (newStatus == Animation.Status.RUNNING) {
+            runningAnimations++;
+        } else if (oldStatus == Animation.Status.RUNNING) {
+            runningAnimations--;
+        }
+    };
+    private boolean enabled;
+    private long lastPulse;
+    private long gcCount;
+    private long gcTime;
+    private long gcCollections;
+
+    /**
+     * Turns measuring on or off. Turning it on starts from empty rings.
+     * @param enabled true to measure, false to stop.
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            pulseIntervals.clear();
+            brickTimes.clear();
+            backgroundTimes.clear();
+            gcPauses.clear();
+            lastPulse = 0;
+            gcCollections = 0;
+            gcCount = collectionCount();
+            gcTime = collectionTime();
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * Checks whether the monitor measures.
+     * @return true if it measures, false otherwise.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records a pulse, and the collector time since the last one as a pause if any collection happened.
+     * @param now The time of the pulse in nanoseconds.
+     */
+    public void pulse(long now) {
+        if (!enabled) {
+            return;
+        }
+        if (lastPulse != 0) {
+            pulseIntervals.add(now - lastPulse);
+        }
+        lastPulse = now;
+        long count = collectionCount();
+        if (count != gcCount) {
+            long time = collectionTime();
+            gcPauses.add(time - gcTime);
+            gcCollections += count - gcCount;
+            gcCount = count;
+            gcTime = time;
+        }
+    }
+
+    /**
+     * Records the time one {@code refreshBrick} took.
+     * @param nanos The time in nanoseconds.
+     */
+    public void brickRefreshed(long nanos) {
+        if (enabled) {
+            brickTimes.add(nanos);
+        }
+    }
+
+    /**
+     * Records the time one {@code refreshGameBackground} took.
+     * @param nanos The time in nanoseconds.
+     */
+    public void backgroundRefreshed(long nanos) {
+        if (enabled) {
+            backgroundTimes.add(nanos);
+        }
+    }
+
+    /**
+     * Counts an animation while it runs. JavaFX keeps no list of running animations,
+     * so the view passes each one it plays.
+     * @param animation The animation, usually just played.
+     */
+    public void track(Animation animation) {
+        animation.statusProperty().addListener(animationListener);
+        if (animation.getStatus() == Animation.Status.RUNNING) {
+            runningAnimations++;
+        }
+    }
+
+    /**
+     * Gets the number of tracked animations that are running.
+     * @return The number of animations.
+     */
+    public int getRunningAnimations() {
+        return runningAnimations;
+    }
+
+    /**
+     * Formats the overlay text.
+     * @param nodeCount The number of nodes in the game panel.
+     * @return The text.
+     */
+    public String format(int nodeCount) {
+        return String.format("pulse     avg %5.1f ms  max %5.1f ms%n"
+                        + "brick     avg %5.2f ms  max %5.2f ms%n"
+                        + "board     avg %5.2f ms  max %5.2f ms%n"
+                        + "nodes %d  animations %d%n"
+                        + "gc        %d pauses  last %d ms  max %d ms",
+                pulseIntervals.getAverage() / 1e6, pulseIntervals.getMax() / 1e6,
+                brickTimes.getAverage() / 1e6, brickTimes.getMax() / 1e6,
+                backgroundTimes.getAverage() / 1e6, backgroundTimes.getMax() / 1e6,
+                nodeCount, runningAnimations, gcCollections, gcPauses.getLast(), gcPauses.getMax());
+    }
+
+    private long collectionCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    private long collectionTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            time += Math.max(0, collector.getCollectionTime());
+        }
+        return time;
+    }
+}
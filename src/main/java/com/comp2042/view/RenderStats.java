@@ -0,0 +1,75 @@
+package com.comp2042.view;
+
+/**
+ * Counts how many board rectangles the view updates per rendered frame.
+ * The view calls {@link #touch()} whenever it changes a rectangle and {@link #endFrame()} once per pulse.
+ */
+public final class RenderStats {
+
+    private int touchedThisFrame;
+    private int lastFrameTouched;
+    private int maxFrameTouched;
+    private long totalTouched;
+    private long activeFrames;
+
+    /**
+     * Records that one rectangle was updated in the current frame.
+     */
+    public void touch() {
+        touchedThisFrame++;
+    }
+
+    /**
+     * Closes the current frame and starts counting the next one.
+     */
+    public void endFrame() {
+        lastFrameTouched = touchedThisFrame;
+        if (touchedThisFrame > 0) {
+            maxFrameTouched = Math.max(maxFrameTouched, touchedThisFrame);
+            totalTouched += touchedThisFrame;
+            activeFrames++;
+        }
+        touchedThisFrame = 0;
+    }
+
+    /**
+     * Gets the number of rectangles updated in the last completed frame.
+     * @return The rectangle count.
+     */
+    public int getLastFrameTouched() {
+        return lastFrameTouched;
+    }
+
+    /**
+     * Gets the largest number of rectangles updated in a single frame.
+     * @return The rectangle count.
+     */
+    public int getMaxFrameTouched() {
+        return maxFrameTouched;
+    }
+
+    /**
+     * Gets the average number of rectangles updated per frame, over the frames that updated any.
+     * @return The average rectangle count.
+     */
+    public double getAverageFrameTouched() {
+        return activeFrames == 0 ? 0 : (double) totalTouched / activeFrames;
+    }
+
+    /**
+     * Clears all counters.
+     */
+    public void reset() {
+        touchedThisFrame = 0;
+        lastFrameTouched = 0;
+        maxFrameTouched = 0;
+        totalTouched = 0;
+        activeFrames = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rectangles per frame: last %d, max %d, average %.1f",
+                lastFrameTouched, maxFrameTouched, getAverageFrameTouched());
+    }
+}
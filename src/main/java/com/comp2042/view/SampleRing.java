@@ -0,0 +1,83 @@
+package com.comp2042.view;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent samples in a ring allocated up front, so adding one never allocates.
+ */
+public final class SampleRing {
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    /**
+     * Constructs a new SampleRing.
+     * @param capacity The number of samples kept; older ones are overwritten.
+     */
+    public SampleRing(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        samples = new long[capacity];
+    }
+
+    /**
+     * Adds a sample, overwriting the oldest once the ring is full.
+     * @param sample The sample.
+     */
+    public void add(long sample) {
+        samples[next] = sample;
+        next = next + 1 == samples.length ? 0 : next + 1;
+        size = Math.min(size + 1, samples.length);
+    }
+
+    /**
+     * Gets the number of samples kept.
+     * @return The number of samples.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the most recent sample.
+     * @return The sample, 0 if there is none.
+     */
+    public long getLast() {
+        return size == 0 ? 0 : samples[next == 0 ? samples.length - 1 : next - 1];
+    }
+
+    /**
+     * Gets the largest sample kept.
+     * @return The sample, 0 if there is none.
+     */
+    public long getMax() {
+        long max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, samples[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Gets the average of the samples kept.
+     * @return The average, 0 if there is none.
+     */
+    public double getAverage() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += samples[i];
+        }
+        return size == 0 ? 0 : (double) total / size;
+    }
+
+    /**
+     * Drops all samples.
+     */
+    public void clear() {
+        Arrays.fill(samples, 0);
+        next = 0;
+        size = 0;
+    }
+}
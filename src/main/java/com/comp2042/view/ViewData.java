@@ -18,7 +18,7 @@ public final class ViewData {
     private final int yPosition;
     /** The matrix for the next brick. */
     private final int[][] nextBrickData;
-    /** A list of matrices for the next three bricks. */
+    /** An immutable list of matrices for the preview bricks; an immutable list passed in is kept without copying. */
     private final List<int[][]> nextThreeBricks;
     /** The y-coordinate for the ghost piece. */
     private final int ghostYPosition;
@@ -38,7 +38,7 @@ public final class ViewData {
         this.xPosition = xPosition;
         this.yPosition = yPosition;
         this.nextBrickData = nextBrickData;
-        this.nextThreeBricks = new ArrayList<>();
+        this.nextThreeBricks = List.of();
         this.ghostYPosition = yPosition; // Default to same position
         this.holdBrickData = null;
     }
@@ -57,7 +57,7 @@ public final class ViewData {
         this.xPosition = xPosition;
         this.yPosition = yPosition;
         this.nextBrickData = nextBrickData;
-        this.nextThreeBricks = nextThreeBricks != null ? new ArrayList<>(nextThreeBricks) : new ArrayList<>();
+        this.nextThreeBricks = nextThreeBricks != null ? List.copyOf(nextThreeBricks) : List.of();
         this.ghostYPosition = yPosition; // Default to same position
         this.holdBrickData = null;
     }
@@ -77,7 +77,7 @@ public final class ViewData {
         this.xPosition = xPosition;
         this.yPosition = yPosition;
         this.nextBrickData = nextBrickData;
-        this.nextThreeBricks = nextThreeBricks != null ? new ArrayList<>(nextThreeBricks) : new ArrayList<>();
+        this.nextThreeBricks = nextThreeBricks != null ? List.copyOf(nextThreeBricks) : List.of();
         this.ghostYPosition = ghostYPosition;
         this.holdBrickData = null;
     }
@@ -97,7 +97,7 @@ public final class ViewData {
         this.xPosition = xPosition;
         this.yPosition = yPosition;
         this.nextBrickData = null; // Not used anymore
-        this.nextThreeBricks = nextThreeBricks != null ? new ArrayList<>(nextThreeBricks) : new ArrayList<>();
+        this.nextThreeBricks = nextThreeBricks != null ? List.copyOf(nextThreeBricks) : List.of();
         this.ghostYPosition = ghostYPosition;
         this.holdBrickData = holdBrickData;
     }
@@ -1,31 +1,37 @@
 package com.comp2042;
 
+import com.comp2042.logic.HighScoreManager;
 import com.comp2042.logic.Score;
+import com.comp2042.model.GameLevel;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 class ScoreTest {
 
+    private static Score newScore() {
+        return new Score(GameLevel.LevelType.TYPE_B_NORMAL, HighScoreManager.inMemory());
+    }
+
     @Test
     void add() {
-        Score score = new Score();
+        Score score = newScore();
         score.add(100);
-        assertEquals(100, score.scoreProperty().get(), "Score should update to 100");
+        assertEquals(100, score.getScore(), "Score should update to 100");
     }
 
     @Test
     void updateHighScore() {
-        Score score = new Score();
+        Score score = newScore();
         score.add(1000);
         score.updateHighScore();
-        assertEquals(1000, score.highScoreProperty().get(), "High score should be saved");
+        assertEquals(1000, score.getHighScore(), "High score should be saved");
     }
 
     @Test
     void reset() {
-        Score score = new Score();
+        Score score = newScore();
         score.add(50);
         score.reset();
-        assertEquals(0, score.scoreProperty().get(), "Score should reset to 0");
+        assertEquals(0, score.getScore(), "Score should reset to 0");
     }
-}
\ No newline at end of file
+}
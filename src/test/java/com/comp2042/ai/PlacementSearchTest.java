@@ -0,0 +1,128 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.bricks.Piece;
+import com.comp2042.logic.bricks.PieceCatalog;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.events.EventType;
+import com.comp2042.model.GameLevel;
+import com.comp2042.simulation.BotMovePolicy;
+import com.comp2042.simulation.GameResult;
+import com.comp2042.simulation.SimulationRunner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacementSearchTest {
+
+    @Test
+    @DisplayName("Every generated path should lock the brick exactly at its placement on a real board")
+    void findPath_ShouldReachEveryPlacement() {
+        // Arrange
+        MoveGenerator generator = new MoveGenerator();
+        for (long seed = 0; seed < 20; seed++) {
+            Random random = new Random(seed);
+            SimpleBoard template = newBoard(seed, random);
+            SearchBoard searchBoard = SearchBoard.of(template.getBoardMatrix());
+            Piece piece = template.getCurrentBrick().getPiece();
+            Point start = template.getBrickPosition();
+
+            for (Placement placement : generator.generate(searchBoard, piece, start.x, start.y, 0)) {
+                // Act
+                SimpleBoard board = newBoard(seed, new Random(seed));
+                for (EventType input : generator.findPath(searchBoard, piece, start.x, start.y, 0, placement)) {
+                    switch (input) {
+                        case LEFT -> assertTrue(board.moveBrickLeft(), "left refused for " + placement);
+                        case RIGHT -> assertTrue(board.moveBrickRight(), "right refused for " + placement);
+                        case ROTATE -> assertTrue(board.rotateLeftBrick(), "rotation refused for " + placement);
+                        case DOWN -> assertTrue(board.moveBrickDown(), "down refused for " + placement);
+                        default -> board.hardDrop();
+                    }
+                }
+
+                // Assert
+                assertEquals(new Point(placement.getX(), placement.getY()), board.getBrickPosition(), "seed " + seed);
+                assertEquals(placement.getRotation(), board.getBrickRotation(), "seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("The move generator should find a tuck under an overhang")
+    void generate_ShouldFindTuckUnderOverhang() {
+        // Arrange: a roof over columns 0-3 with an open gap beneath it, open to the right
+        int[][] matrix = new int[10][6];
+        for (int j = 0; j < 4; j++) {
+            matrix[7][j] = 1;
+        }
+        Piece o = PieceCatalog.O.getPiece();
+        SearchBoard board = SearchBoard.of(matrix);
+
+        // Act
+        List<Placement> placements = new MoveGenerator().generate(board, o, MoveGenerator.spawnX(o, 6), 0, 0);
+
+        // Assert: some placement rests with its cells in rows 8-9 below the roof, left of column 4
+        boolean tucked = placements.stream().anyMatch(p -> {
+            int bottom = p.getY() + o.getShape(0).getMaxRow();
+            int left = p.getX() + o.getShape(0).getMinColumn();
+            return bottom == 9 && left < 3;
+        });
+        assertTrue(tucked, "placements: " + placements);
+    }
+
+    @Test
+    @DisplayName("The bot should keep a seeded game alive and clear lines")
+    void bot_ShouldSurviveAndClearLines() {
+        // Arrange
+        SimulationRunner runner = new SimulationRunner(GameLevel.LevelType.TYPE_B_NORMAL, 1, 300, seed -> new BotMovePolicy());
+
+        // Act
+        GameResult result = runner.playGame(11);
+
+        // Assert
+        assertFalse(result.isToppedOut());
+        assertEquals(300, result.getPieces());
+        assertTrue(result.getLines() >= 100, "lines: " + result.getLines());
+    }
+
+    @Test
+    @DisplayName("Planning the same position twice should reuse the cached evaluations")
+    void plan_ShouldReuseTranspositionTable() {
+        // Arrange
+        SimpleBoard board = newBoard(3, new Random(3));
+        SearchBoard searchBoard = SearchBoard.of(board.getBoardMatrix());
+        Piece current = board.getCurrentBrick().getPiece();
+        List<Piece> previews = List.of(PieceCatalog.T.getPiece(), PieceCatalog.I.getPiece());
+        PlacementSearch search = new PlacementSearch(Heuristic.defaults(), 2, 8, Long.MAX_VALUE);
+        Point start = board.getBrickPosition();
+
+        // Act
+        Plan first = search.plan(searchBoard, current, start.x, start.y, 0, previews);
+        long missesAfterFirst = search.getTranspositionTable().getMisses();
+        Plan second = search.plan(searchBoard, current, start.x, start.y, 0, previews);
+
+        // Assert
+        assertEquals(2, first.getDepth());
+        assertEquals(first.getInputs(), second.getInputs());
+        // Every board of the second plan was seen in the first; only the rare slot collision misses
+        TranspositionTable table = search.getTranspositionTable();
+        assertTrue(table.getMisses() - missesAfterFirst <= first.getEvaluatedNodes() / 20,
+                "misses in the second plan: " + (table.getMisses() - missesAfterFirst));
+        assertTrue(table.getHits() >= first.getEvaluatedNodes() * 19L / 20, "hits: " + table.getHits());
+    }
+
+    private static SimpleBoard newBoard(long seed, Random random) {
+        SimpleBoard board = new SimpleBoard(10, 25, new RandomBrickGenerator(GameLevel.LevelType.TYPE_B_NORMAL, random.nextLong()));
+        board.newGame();
+        for (int i = 0; i < 6 + seed % 8; i++) {
+            board.addGarbageRows(1, random.nextInt(10), 1);
+        }
+        board.createNewBrick();
+        return board;
+    }
+}
@@ -0,0 +1,146 @@
+package com.comp2042.controller;
+
+import com.comp2042.logic.GameSession;
+import com.comp2042.logic.HighScoreManager;
+import com.comp2042.logic.Score;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.events.EventSource;
+import com.comp2042.logic.events.EventType;
+import com.comp2042.logic.events.MoveEvent;
+import com.comp2042.model.GameLevel;
+import com.comp2042.view.GameView;
+import com.comp2042.view.ViewData;
+import javafx.beans.property.IntegerProperty;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameControllerTest {
+
+    private static final GameLevel.LevelType LEVEL = GameLevel.LevelType.TYPE_B_NORMAL;
+
+    /**
+     * Records what the controller draws, from the simulation thread.
+     */
+    private static final class RecordingView implements GameView {
+        final CountDownLatch frames = new CountDownLatch(3);
+        final CountDownLatch closed = new CountDownLatch(1);
+        volatile ViewData brick;
+
+        @Override
+        public void initGameView(int[][] boardMatrix, ViewData brick) {
+            this.brick = brick;
+        }
+
+        @Override
+        public void refreshBrick(ViewData brick) {
+            this.brick = brick;
+        }
+
+        @Override
+        public void interpolateBrick(double rows, double rowsPerSecond) {
+            frames.countDown();
+        }
+
+        @Override
+        public void inputApplied(long pressedAt, long appliedAt) {
+        }
+
+        @Override
+        public void refreshPreview(List<int[][]> nextBricks) {
+        }
+
+        @Override
+        public void refreshGameBackground(int[][] board, BitSet changedRows) {
+        }
+
+        @Override
+        public void setEventListener(InputEventListener eventListener) {
+        }
+
+        @Override
+        public void bindScore(IntegerProperty scoreProperty) {
+        }
+
+        @Override
+        public void bindHighScore(IntegerProperty highScoreProperty) {
+        }
+
+        @Override
+        public void gameOver() {
+        }
+
+        @Override
+        public void showSpeedNotification(String message) {
+        }
+
+        @Override
+        public void showScoreNotification(String text) {
+        }
+
+        @Override
+        public void spawnFireEffect(double x, double y) {
+        }
+
+        @Override
+        public void animateBlockRemoval(List<Point> clearedBlocks, Runnable onFinished) {
+            onFinished.run();
+        }
+
+        @Override
+        public void updatePowerUpProgressBar(double progress) {
+        }
+
+        @Override
+        public void setPowerUpContainerVisibility(boolean isVisible) {
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("A controller on a simulation thread should run frames and apply input once started")
+    void simulationThread_ShouldRunFramesAndApplyInput() throws InterruptedException {
+        // Arrange
+        GameSession session = new GameSession(LEVEL, new SimpleBoard(GameSession.DEFAULT_WIDTH, GameSession.DEFAULT_HEIGHT,
+                new RandomBrickGenerator(LEVEL, 7)), new Score(LEVEL, HighScoreManager.inMemory()));
+        RecordingView view = new RecordingView();
+        SimulationThread clock = new SimulationThread(GameSession.TICKS_PER_SECOND, () -> { });
+        GameController controller = new GameController(view, session, clock);
+        int startX = view.brick.getxPosition();
+        AtomicLong ticks = new AtomicLong();
+        AtomicInteger x = new AtomicInteger();
+        CountDownLatch read = new CountDownLatch(1);
+
+        // Act
+        controller.start();
+        assertTrue(view.frames.await(5, TimeUnit.SECONDS), "The simulation thread should run frames.");
+        controller.onInput(new MoveEvent(EventType.LEFT, EventSource.USER));
+        clock.execute(() -> {
+            ticks.set(session.getTickCount());
+            x.set(session.getViewData().getxPosition());
+            read.countDown();
+        });
+        assertTrue(read.await(5, TimeUnit.SECONDS), "Commands should run on the simulation thread.");
+        controller.leaveGame();
+
+        // Assert
+        assertTrue(ticks.get() > 0, "Frames should tick the session.");
+        assertEquals(startX - 1, x.get(), "The input should move the brick.");
+        assertEquals(startX - 1, view.brick.getxPosition(), "The moved brick should be drawn.");
+        assertTrue(view.closed.await(5, TimeUnit.SECONDS), "Leaving the game should close the view.");
+    }
+}
@@ -0,0 +1,63 @@
+package com.comp2042.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationThreadTest {
+
+    @Test
+    @DisplayName("Commands and frames should run in order on the simulation thread, and closing should end it")
+    void commandsAndFrames_ShouldRunInOrderOnOneThread() throws InterruptedException {
+        // Arrange
+        AtomicInteger batches = new AtomicInteger();
+        SimulationThread clock = new SimulationThread(1000, batches::incrementAndGet);
+        List<Integer> commands = new ArrayList<>();
+        List<Boolean> onSimulationThread = new ArrayList<>();
+        AtomicInteger frames = new AtomicInteger();
+        CountDownLatch framesRan = new CountDownLatch(5);
+        CountDownLatch closed = new CountDownLatch(1);
+
+        // Act
+        clock.start(now -> {
+            onSimulationThread.add(clock.isSimulationThread());
+            frames.incrementAndGet();
+            framesRan.countDown();
+        });
+        for (int i = 0; i < 1000; i++) {
+            int command = i;
+            clock.execute(() -> commands.add(command));
+        }
+        assertTrue(framesRan.await(5, TimeUnit.SECONDS), "The clock should call the frame handler.");
+        clock.execute(clock::stop);
+        clock.execute(() -> {
+            onSimulationThread.add(clock.isSimulationThread());
+            frames.set(0);
+        });
+        Thread.sleep(50);
+        int framesWhileStopped = frames.get();
+        clock.execute(() -> {
+            commands.add(-1);
+            clock.close();
+            closed.countDown();
+        });
+
+        // Assert
+        assertTrue(closed.await(5, TimeUnit.SECONDS), "Commands queued before closing should run.");
+        assertEquals(0, framesWhileStopped, "A stopped clock should not call the frame handler.");
+        assertEquals(1001, commands.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, commands.get(i), "Command " + i);
+        }
+        assertFalse(onSimulationThread.contains(false), "Everything should run on the simulation thread.");
+        assertFalse(clock.isSimulationThread());
+        assertTrue(batches.get() > 0, "The batch hook should run.");
+    }
+}
@@ -0,0 +1,204 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.events.ClearRow;
+import com.comp2042.view.ViewData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitboardBoardTest {
+
+    /**
+     * A generator that replays a fixed list of bricks, so two boards can be fed the same sequence.
+     */
+    private static final class ScriptedGenerator extends RandomBrickGenerator {
+        private final List<Brick> script;
+        private int index;
+
+        ScriptedGenerator(List<Brick> script) {
+            this.script = script;
+        }
+
+        @Override
+        public Brick getBrick() {
+            return script.get(index++ % script.size());
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return script.get(index % script.size());
+        }
+
+        @Override
+        public List<Brick> getNextBricks(int count) {
+            List<Brick> result = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                result.add(script.get((index + i) % script.size()));
+            }
+            return result;
+        }
+    }
+
+    private static List<Brick> drawBricks(int count) {
+        RandomBrickGenerator generator = new RandomBrickGenerator();
+        List<Brick> bricks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            bricks.add(generator.getBrick());
+        }
+        return bricks;
+    }
+
+    private static void assertSameView(Board expected, Board actual) {
+        ViewData e = expected.getViewData();
+        ViewData a = actual.getViewData();
+        assertEquals(e.getxPosition(), a.getxPosition(), "x position");
+        assertEquals(e.getyPosition(), a.getyPosition(), "y position");
+        assertEquals(e.getGhostYPosition(), a.getGhostYPosition(), "ghost position");
+        assertArrayEquals(e.getBrickData(), a.getBrickData(), "current shape");
+        assertArrayEquals(expected.getBoardMatrix(), actual.getBoardMatrix(), "board matrix");
+    }
+
+    @Test
+    @DisplayName("BitboardBoard should match SimpleBoard for a long random move sequence")
+    void randomMoves_ShouldMatchSimpleBoard() {
+        // Arrange
+        List<Brick> bricks = drawBricks(500);
+        SimpleBoard simple = new SimpleBoard(10, 25, new ScriptedGenerator(bricks));
+        BitboardBoard bitboard = new BitboardBoard(10, 25, new ScriptedGenerator(bricks));
+        simple.createNewBrick();
+        bitboard.createNewBrick();
+        Random random = new Random(42);
+
+        // Act & Assert
+        for (int step = 0; step < 20_000; step++) {
+            switch (random.nextInt(6)) {
+                case 0 -> assertEquals(simple.moveBrickLeft(), bitboard.moveBrickLeft(), "left at step " + step);
+                case 1 -> assertEquals(simple.moveBrickRight(), bitboard.moveBrickRight(), "right at step " + step);
+                case 2 -> assertEquals(simple.rotateLeftBrick(), bitboard.rotateLeftBrick(), "rotate at step " + step);
+                case 3 -> {
+                    simple.holdBrick();
+                    bitboard.holdBrick();
+                }
+                default -> {
+                    boolean moved = simple.moveBrickDown();
+                    assertEquals(moved, bitboard.moveBrickDown(), "down at step " + step);
+                    if (!moved) {
+                        simple.mergeBrickToBackground();
+                        bitboard.mergeBrickToBackground();
+                        ClearRow expected = simple.clearRows();
+                        ClearRow actual = bitboard.clearRows();
+                        assertEquals(expected.getLinesRemoved(), actual.getLinesRemoved(), "lines at step " + step);
+                        boolean gameOver = simple.createNewBrick();
+                        assertEquals(gameOver, bitboard.createNewBrick(), "game over at step " + step);
+                        if (gameOver) {
+                            simple.newGame();
+                            bitboard.newGame();
+                        }
+                    }
+                }
+            }
+            assertSameView(simple, bitboard);
+        }
+    }
+
+    @Test
+    @DisplayName("A board several words wide should match SimpleBoard, also across word boundaries")
+    void wideBoard_ShouldMatchSimpleBoard() {
+        // Arrange: 150 columns take three words, the last one partly
+        List<Brick> bricks = drawBricks(500);
+        SimpleBoard simple = new SimpleBoard(150, 40, new ScriptedGenerator(bricks));
+        BitboardBoard bitboard = new BitboardBoard(150, 40, new ScriptedGenerator(bricks));
+        simple.createNewBrick();
+        bitboard.createNewBrick();
+        Random random = new Random(7);
+
+        // Act & Assert: long runs sideways, so bricks lock on both sides of each word boundary and at the walls
+        for (int step = 0; step < 5_000; step++) {
+            int run = random.nextInt(90);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    for (int k = 0; k < run; k++) {
+                        assertEquals(simple.moveBrickLeft(), bitboard.moveBrickLeft(), "left at step " + step);
+                    }
+                }
+                case 1 -> {
+                    for (int k = 0; k < run; k++) {
+                        assertEquals(simple.moveBrickRight(), bitboard.moveBrickRight(), "right at step " + step);
+                    }
+                }
+                case 2 -> assertEquals(simple.rotateLeftBrick(), bitboard.rotateLeftBrick(), "rotate at step " + step);
+                default -> {
+                    assertEquals(simple.hardDrop(), bitboard.hardDrop(), "drop at step " + step);
+                    simple.mergeBrickToBackground();
+                    bitboard.mergeBrickToBackground();
+                    assertEquals(simple.clearRows().getLinesRemoved(), bitboard.clearRows().getLinesRemoved());
+                    boolean gameOver = simple.createNewBrick();
+                    assertEquals(gameOver, bitboard.createNewBrick(), "game over at step " + step);
+                    if (gameOver) {
+                        simple.newGame();
+                        bitboard.newGame();
+                    }
+                }
+            }
+            assertSameView(simple, bitboard);
+        }
+    }
+
+    @Test
+    @DisplayName("Full rows should be detected and removed")
+    void clearRows_ShouldRemoveFullRows() {
+        // Arrange: fill the bottom row except for one cell, then fill that cell
+        BitboardBoard board = new BitboardBoard(10, 25, new ScriptedGenerator(drawBricks(7)));
+        board.createNewBrick();
+        int[][] matrix = board.getBoardMatrix();
+        for (int j = 0; j < 10; j++) {
+            matrix[24][j] = 1;
+        }
+        matrix[23][3] = 2;
+        board.handleGravity(); // Rebuilds the row masks from the color plane
+
+        // Act
+        ClearRow clearRow = board.clearRows();
+
+        // Assert
+        assertEquals(1, clearRow.getLinesRemoved(), "Exactly one row should be cleared.");
+        assertEquals(50, clearRow.getScoreBonus());
+        assertEquals(2, board.getBoardMatrix()[24][3], "The row above should drop into place.");
+    }
+
+    @Test
+    @DisplayName("A full row of the widest board should be detected, and one missing cell should keep it")
+    void clearRows_ShouldHandleTheWidestBoard() {
+        // Arrange
+        int width = BitboardBoard.MAX_WIDTH;
+        BitboardBoard board = new BitboardBoard(width, 1000, new ScriptedGenerator(drawBricks(7)));
+        board.createNewBrick();
+        int[][] matrix = board.getBoardMatrix();
+        for (int j = 0; j < width; j++) {
+            matrix[999][j] = 1;
+            matrix[998][j] = j == 200 ? 0 : 3;
+        }
+        board.handleGravity();
+
+        // Act
+        ClearRow clearRow = board.clearRows();
+
+        // Assert
+        assertEquals(1, clearRow.getLinesRemoved(), "Only the complete row should be cleared.");
+        assertEquals(0, board.getBoardMatrix()[999][200], "The row with the gap should drop into place.");
+        assertEquals(3, board.getBoardMatrix()[999][255]);
+    }
+
+    @Test
+    @DisplayName("Boards wider than four words should be rejected")
+    void constructor_ShouldRejectTooWideBoards() {
+        assertThrows(IllegalArgumentException.class, () -> new BitboardBoard(BitboardBoard.MAX_WIDTH + 1, 25));
+    }
+}
@@ -0,0 +1,235 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceCatalog;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.events.ClearRow;
+import com.comp2042.model.GameLevel;
+import com.comp2042.simulation.BotMovePolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionTest {
+
+    /**
+     * Hands out nothing but O bricks, so rows can be filled on purpose.
+     */
+    private static final class OBrickGenerator extends RandomBrickGenerator {
+        @Override
+        public Brick getBrick() {
+            return PieceCatalog.O;
+        }
+
+        @Override
+        public List<Brick> getNextBricks(int count) {
+            return Collections.nCopies(count, PieceCatalog.O);
+        }
+    }
+
+    /**
+     * Counts the events of a session.
+     */
+    private static final class CountingListener implements GameSessionListener {
+        int linesCleared;
+        int speedUps;
+        int gameOvers;
+
+        @Override
+        public void onLinesCleared(ClearRow clearRow) {
+            linesCleared += clearRow.getLinesRemoved();
+        }
+
+        @Override
+        public void onSpeedUp() {
+            speedUps++;
+        }
+
+        @Override
+        public void onGameOver() {
+            gameOvers++;
+        }
+    }
+
+    private static GameSession newSession(GameLevel.LevelType levelType) {
+        Board board = new SimpleBoard(GameSession.DEFAULT_WIDTH, GameSession.DEFAULT_HEIGHT, new OBrickGenerator());
+        return new GameSession(levelType, board, new Score(levelType, HighScoreManager.inMemory()));
+    }
+
+    /**
+     * Lays five O bricks side by side, which fills the two bottom rows.
+     */
+    private static void fillTwoRows(GameSession session) {
+        for (int shift = -4; shift <= 4; shift += 2) {
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) {
+                    session.moveLeft();
+                } else {
+                    session.moveRight();
+                }
+            }
+            session.hardDrop();
+        }
+    }
+
+    @Test
+    @DisplayName("Sessions of different level types should run side by side without the UI")
+    void sessions_ShouldKeepTheirOwnLevelType() {
+        // Arrange
+        GameSession speedCurve = newSession(GameLevel.LevelType.TYPE_A_SPEED_CURVE);
+        GameSession normal = newSession(GameLevel.LevelType.TYPE_B_NORMAL);
+        CountingListener speedCurveEvents = new CountingListener();
+        CountingListener normalEvents = new CountingListener();
+        speedCurve.setListener(speedCurveEvents);
+        normal.setListener(normalEvents);
+
+        // Act
+        fillTwoRows(speedCurve);
+        fillTwoRows(normal);
+
+        // Assert
+        assertEquals(2, speedCurveEvents.linesCleared);
+        assertEquals(2, normalEvents.linesCleared);
+        assertEquals(1, speedCurveEvents.speedUps, "The speed curve should speed up after two lines.");
+        assertEquals(0, normalEvents.speedUps, "The normal mode should keep its speed.");
+        assertEquals(GameSession.INITIAL_DROP_INTERVAL * 0.75, speedCurve.getDropInterval());
+        assertEquals(GameSession.INITIAL_DROP_INTERVAL, normal.getDropInterval());
+        assertEquals(normal.getScore().getScore(), speedCurve.getScore().getScore());
+        assertTrue(normal.getScore().getScore() >= 200, "Two lines should score a bonus of 200.");
+    }
+
+    @Test
+    @DisplayName("Ticks should drop the brick once per drop interval and lock it after the lock delay")
+    void ticks_ShouldDriveGravityAndTheLockDelay() {
+        // Arrange
+        GameSession session = newSession(GameLevel.LevelType.TYPE_B_NORMAL);
+        GameSession replayed = newSession(GameLevel.LevelType.TYPE_B_NORMAL);
+        int dropTicks = (int) (GameSession.INITIAL_DROP_INTERVAL * GameSession.TICKS_PER_SECOND / 1_000_000_000);
+        int startY = session.getBoard().getBrickPosition().y;
+        int distance = session.getBoard().getGhostYPosition() - startY;
+        // The brick falls, gravity fails once more, and the lock delay runs from that failed step
+        int lockTick = dropTicks * (distance + 1) + GameSession.LOCK_DELAY_TICKS - 1;
+
+        // Act & Assert
+        int steps = 0;
+        for (int tick = 1; tick <= lockTick; tick++) {
+            int taken = session.tick();
+            for (int i = 0; i < taken; i++) {
+                replayed.moveDown(false);
+            }
+            steps += taken;
+            if (tick == dropTicks - 1) {
+                assertEquals(startY, session.getBoard().getBrickPosition().y, "No drop before a whole interval");
+                assertTrue(session.getFallOffset(0.5) > 0.9, "The brick should be drawn almost a row lower");
+            }
+            if (tick == dropTicks) {
+                assertEquals(startY + 1, session.getBoard().getBrickPosition().y, "One drop per interval");
+            }
+            if (tick == dropTicks * (distance + 1)) {
+                assertEquals(0, session.getFallOffset(0.5), "A resting brick should not be drawn lower");
+            }
+            assertEquals(tick == lockTick ? 1 : 0, session.getPiecesPlaced(), "Pieces placed after tick " + tick);
+        }
+        assertEquals(distance + 1, steps, "Every drop and the lock should count as a step");
+        assertEquals(lockTick, session.getTickCount());
+        assertEquals(1, replayed.getPiecesPlaced(), "Replaying the steps as down moves should lock the same brick");
+        assertArrayEquals(session.getBoard().getBoardMatrix(), replayed.getBoard().getBoardMatrix());
+    }
+
+    @Test
+    @DisplayName("A brick resting in its lock delay should not be held a second time, live or replayed")
+    void hold_ShouldNotResetDuringTheLockDelay() {
+        // Arrange
+        GameSession session = newSession(GameLevel.LevelType.TYPE_B_NORMAL);
+        GameSession replayed = newSession(GameLevel.LevelType.TYPE_B_NORMAL);
+        int dropTicks = (int) (GameSession.INITIAL_DROP_INTERVAL * GameSession.TICKS_PER_SECOND / 1_000_000_000);
+        session.hold();
+        replayed.hold();
+        int distance = session.getBoard().getGhostYPosition() - session.getBoard().getBrickPosition().y;
+
+        // Act: tick until gravity has failed on the resting brick, replaying each step as a down move
+        for (int tick = 1; tick <= dropTicks * (distance + 1); tick++) {
+            for (int i = session.tick(); i > 0; i--) {
+                replayed.moveDown(false);
+            }
+        }
+        session.hold();
+        replayed.hold();
+
+        // Assert
+        assertEquals(0, session.getPiecesPlaced(), "The brick should still be in its lock delay");
+        assertFalse(session.getBoard().canHoldBrick(), "The brick was already held once");
+        assertEquals(session.getBoard().getGhostYPosition(), session.getBoard().getBrickPosition().y,
+                "The second hold should leave the resting brick where it is");
+        assertEquals(session.getBoard().canHoldBrick(), replayed.getBoard().canHoldBrick());
+        assertEquals(session.getBoard().getBrickPosition(), replayed.getBoard().getBrickPosition());
+    }
+
+    @Test
+    @DisplayName("Hard drops in one column should end the game once and then ignore input")
+    void hardDrops_ShouldEndTheGame() {
+        // Arrange
+        GameSession session = newSession(GameLevel.LevelType.TYPE_B_NORMAL);
+        CountingListener events = new CountingListener();
+        session.setListener(events);
+
+        // Act
+        for (int i = 0; i < 100 && !session.isGameOver(); i++) {
+            session.hardDrop();
+        }
+        int finalScore = session.getScore().getScore();
+        session.hardDrop();
+
+        // Assert
+        assertTrue(session.isGameOver());
+        assertEquals(1, events.gameOvers);
+        assertEquals(finalScore, session.getScore().getScore(), "Input after game over should be ignored.");
+        assertEquals(finalScore, session.getScore().getHighScore());
+
+        session.newGame();
+        assertFalse(session.isGameOver());
+        assertEquals(0, session.getScore().getScore());
+    }
+
+    @Test
+    @DisplayName("The same seed should replay the same bricks, obstacle colors and bombs")
+    void seed_ShouldMakeTheGameRepeatable() {
+        // Arrange
+        GameLevel.LevelType levelType = GameLevel.LevelType.TYPE_C_OBSTACLES;
+        GameSession first = new GameSession(levelType, new SimpleBoard(GameSession.DEFAULT_WIDTH, GameSession.DEFAULT_HEIGHT,
+                new RandomBrickGenerator(levelType, 99)), new Score(levelType, HighScoreManager.inMemory()));
+        GameSession second = new GameSession(levelType, new SimpleBoard(GameSession.DEFAULT_WIDTH, GameSession.DEFAULT_HEIGHT,
+                new RandomBrickGenerator(levelType, 99)), new Score(levelType, HighScoreManager.inMemory()));
+
+        // Act
+        List<String> firstGame = play(first, 120);
+        first.newGame(99);
+        List<String> replayed = play(first, 120);
+
+        // Assert
+        assertEquals(99, first.getSeed());
+        assertEquals(firstGame, play(second, 120));
+        assertEquals(firstGame, replayed);
+        assertTrue(firstGame.stream().anyMatch(step -> step.startsWith(SimpleBoard.BOMB_ID + ":")),
+                "the game should have reached a bomb");
+    }
+
+    /**
+     * Plays bricks with the bot and records the brick and board before each one.
+     */
+    private static List<String> play(GameSession session, int bricks) {
+        BotMovePolicy policy = new BotMovePolicy();
+        List<String> steps = new ArrayList<>();
+        for (int i = 0; i < bricks && !session.isGameOver(); i++) {
+            steps.add(session.getBoard().getCurrentBrick().getPiece().getId() + ":" + Arrays.deepToString(session.getBoard().getBoardMatrix()));
+            policy.playBrick(session);
+        }
+        return steps;
+    }
+}
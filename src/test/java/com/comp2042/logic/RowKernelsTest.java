@@ -0,0 +1,96 @@
+package com.comp2042.logic;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class RowKernelsTest {
+
+    @Test
+    @DisplayName("The scalar kernels should find full rows, holes and falling cells on a small board")
+    void scalarKernels_ShouldHandleASmallBoard() {
+        // Arrange
+        RowKernels kernels = RowKernels.scalar();
+        int[][] matrix = {
+                {0, 3, 0, 0},
+                {0, 0, 0, 2},
+                {1, 0, 4, 0},
+                {1, 1, 1, 1}
+        };
+        long[] words = new long[1];
+
+        // Act
+        int holes = kernels.countHoles(matrix);
+        kernels.packRow(matrix[2], words, 0);
+        kernels.applyGravity(matrix);
+
+        // Assert
+        assertEquals(3, holes);
+        assertEquals(0b0101L, words[0]);
+        assertArrayEquals(new int[][]{
+                {0, 0, 0, 0},
+                {0, 0, 0, 0},
+                {1, 3, 4, 2},
+                {1, 1, 1, 1}
+        }, matrix);
+        assertTrue(kernels.isRowFull(matrix[3]));
+        assertFalse(kernels.isRowFull(matrix[2]) && kernels.isRowFull(matrix[1]));
+    }
+
+    @Test
+    @DisplayName("The vector kernels should give the same results as the scalar kernels on boards of every width")
+    void vectorKernels_ShouldMatchScalar() {
+        RowKernels vector = RowKernels.vector();
+        assumeTrue(vector != null, "The Vector API is not available; start the JVM with --add-modules jdk.incubator.vector.");
+        RowKernels scalar = RowKernels.scalar();
+        Random random = new Random(21);
+
+        for (int width : new int[]{4, 10, 17, 64, 100, 256}) {
+            for (int round = 0; round < 20; round++) {
+                // Arrange
+                int[][] board = randomBoard(random, width, 40);
+                int[][] scalarBoard = MatrixOperations.copy(board);
+                int[][] vectorBoard = MatrixOperations.copy(board);
+                long[] scalarWords = new long[4];
+                long[] vectorWords = new long[4];
+
+                // Act
+                for (int i = 0; i < board.length; i++) {
+                    assertEquals(scalar.isRowFull(board[i]), vector.isRowFull(board[i]), "Row " + i + " of width " + width);
+                }
+                scalar.packRow(board[board.length - 1], scalarWords, 0);
+                vector.packRow(board[board.length - 1], vectorWords, 0);
+                int scalarHoles = scalar.countHoles(board);
+                int vectorHoles = vector.countHoles(board);
+                scalar.applyGravity(scalarBoard);
+                vector.applyGravity(vectorBoard);
+
+                // Assert
+                assertEquals(scalarHoles, vectorHoles, "Holes at width " + width);
+                assertArrayEquals(scalarWords, vectorWords, "Packed row at width " + width);
+                assertTrue(Arrays.deepEquals(scalarBoard, vectorBoard), "Gravity at width " + width);
+            }
+        }
+    }
+
+    /**
+     * Builds a board that gets denser towards the bottom, with a few full rows.
+     */
+    private static int[][] randomBoard(Random random, int width, int height) {
+        int[][] board = new int[height][width];
+        for (int i = 0; i < height; i++) {
+            boolean full = random.nextInt(5) == 0;
+            for (int j = 0; j < width; j++) {
+                if (full || random.nextInt(height) < i) {
+                    board[i][j] = 1 + random.nextInt(7);
+                }
+            }
+        }
+        return board;
+    }
+}
@@ -0,0 +1,101 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.model.GameLevel;
+import com.comp2042.simulation.BotMovePolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.Point;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SavedGameTest {
+
+    private static final GameLevel.LevelType LEVEL = GameLevel.LevelType.TYPE_C_OBSTACLES;
+
+    @TempDir
+    Path directory;
+
+    private static GameSession newSession(long seed) {
+        GameSession session = new GameSession(LEVEL, new SimpleBoard(GameSession.DEFAULT_WIDTH, GameSession.DEFAULT_HEIGHT,
+                new RandomBrickGenerator(LEVEL, seed)), new Score(LEVEL, HighScoreManager.inMemory()));
+        session.setListener(new GameSessionListener() {
+            @Override
+            public void onBombDetonated(Point center, List<Point> clearedBlocks, Runnable aftermath) {
+                aftermath.run();
+            }
+        });
+        return session;
+    }
+
+    @Test
+    @DisplayName("A saved and resumed game should continue exactly like the original")
+    void writeAndRead_ShouldResumeTheSameGame() throws Exception {
+        // Arrange: a game in progress with a held brick and a moved, rotated falling brick
+        GameSession original = newSession(77);
+        BotMovePolicy bot = new BotMovePolicy();
+        for (int i = 0; i < 60; i++) {
+            bot.playBrick(original);
+        }
+        original.hold();
+        original.rotate();
+        original.moveLeft();
+        original.moveDown(true);
+        Path file = directory.resolve("savegame.dat");
+
+        // Act
+        SavedGame.write(original.saveState(), file);
+        GameSession resumed = newSession(1);
+        resumed.restoreState(SavedGame.read(file));
+
+        // Assert
+        assertEquals(original.saveState(), resumed.saveState());
+        assertTrue(Files.size(file) < 300, "size: " + Files.size(file));
+        assertFalse(Files.exists(directory.resolve("savegame.dat.tmp")));
+        BotMovePolicy resumedBot = new BotMovePolicy();
+        for (int i = 0; i < 60; i++) {
+            bot.playBrick(original);
+            resumedBot.playBrick(resumed);
+            assertEquals(original.saveState(), resumed.saveState(), "brick " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("A damaged save should be rejected")
+    void decode_ShouldRejectDamagedData() {
+        // Arrange
+        byte[] data = SavedGame.encode(newSession(5).saveState());
+        data[20] ^= 0x10;
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> SavedGame.decode(data));
+    }
+
+    @Test
+    @DisplayName("Saving and restoring should take well under a millisecond")
+    void saveAndRestore_ShouldBeFast() {
+        // Arrange
+        GameSession session = newSession(9);
+        BotMovePolicy bot = new BotMovePolicy();
+        for (int i = 0; i < 30; i++) {
+            bot.playBrick(session);
+        }
+        GameSession target = newSession(10);
+        int rounds = 2_000;
+
+        // Act
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            target.restoreState(SavedGame.decode(SavedGame.encode(session.saveState())));
+        }
+        long average = (System.nanoTime() - start) / rounds;
+
+        // Assert
+        assertTrue(average < 1_000_000, "average save and restore: " + average + " ns");
+    }
+}
@@ -0,0 +1,62 @@
+package com.comp2042.logic;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SimpleBoardAllocationTest {
+
+    private static final int MOVES = 1_000_000;
+
+    /**
+     * Headroom for the bytes the measurement itself may allocate.
+     * Any per-move allocation would cost at least {@code MOVES * 16} bytes, far above this.
+     */
+    private static final long MEASUREMENT_SLACK_BYTES = 4096;
+
+    private static int runMoves(SimpleBoard board, int count) {
+        int successful = 0;
+        for (int i = 0; i < count; i++) {
+            boolean moved = switch (i & 3) {
+                case 0 -> board.moveBrickLeft();
+                case 1 -> board.moveBrickRight();
+                case 2 -> board.rotateLeftBrick();
+                default -> board.moveBrickDown();
+            };
+            if (moved) {
+                successful++;
+            }
+        }
+        return successful;
+    }
+
+    @Test
+    @DisplayName("A million moves on SimpleBoard should allocate nothing")
+    void moves_ShouldNotAllocate() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Per-thread allocation accounting is not available on this JVM.");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Per-thread allocation accounting is not supported.");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().threadId();
+
+        // Arrange
+        SimpleBoard board = new SimpleBoard(10, 25);
+        board.createNewBrick();
+        runMoves(board, MOVES); // Warm up so the measured run is not skewed by class loading or compilation
+
+        // Act
+        long before = threads.getThreadAllocatedBytes(threadId);
+        int successful = runMoves(board, MOVES);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Assert
+        assertTrue(successful > 0, "Some of the moves should have succeeded.");
+        assertTrue(allocated <= MEASUREMENT_SLACK_BYTES,
+                "Moving the brick should not allocate, but " + MOVES + " moves allocated " + allocated + " bytes.");
+    }
+}
@@ -0,0 +1,294 @@
+package com.comp2042.logic;
+
+import com.comp2042.ai.SearchBoard;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceCatalog;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.events.ClearRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimpleBoardTest {
+
+    /**
+     * Draws standard bricks from a seeded random sequence, so a test plays the same game every run.
+     */
+    private static final class SeededGenerator extends RandomBrickGenerator {
+        private final List<Brick> queue = new ArrayList<>();
+        private final Random random;
+
+        SeededGenerator(long seed) {
+            random = new Random(seed);
+        }
+
+        @Override
+        public Brick getBrick() {
+            getNextBricks(1);
+            return queue.remove(0);
+        }
+
+        @Override
+        public List<Brick> getNextBricks(int count) {
+            while (queue.size() < count) {
+                queue.add(PieceCatalog.byId(random.nextInt(7) + 1));
+            }
+            return new ArrayList<>(queue.subList(0, count));
+        }
+    }
+
+    /**
+     * Finds the landing row the slow way, one row at a time.
+     */
+    private static int scanGhostY(SimpleBoard board) {
+        int x = board.getBrickPosition().x;
+        int y = board.getBrickPosition().y;
+        while (board.canPlace(x, y + 1, board.getBrickRotation())) {
+            y++;
+        }
+        return y;
+    }
+
+    @Test
+    @DisplayName("Skyline ghost position should match a downward scan through obstacles, bombs and gravity")
+    void ghostPosition_ShouldMatchScan() {
+        // Arrange
+        SimpleBoard board = new SimpleBoard(10, 25);
+        board.createPyramidObstacle();
+        board.createNewBrick();
+        Random random = new Random(7);
+
+        // Act & Assert
+        for (int step = 0; step < 5_000; step++) {
+            switch (random.nextInt(5)) {
+                case 0 -> board.moveBrickLeft();
+                case 1 -> board.moveBrickRight();
+                case 2 -> board.rotateLeftBrick();
+                case 3 -> {
+                    if (random.nextInt(10) == 0) {
+                        board.detonateBomb(random.nextInt(10), 15 + random.nextInt(10));
+                        board.handleGravity();
+                    }
+                }
+                default -> {
+                    if (!board.moveBrickDown()) {
+                        board.mergeBrickToBackground();
+                        board.clearRows();
+                        if (board.createNewBrick()) {
+                            board.newGame();
+                            board.createPyramidObstacle();
+                        }
+                    }
+                }
+            }
+            assertEquals(scanGhostY(board), board.getGhostYPosition(), "ghost at step " + step);
+        }
+    }
+
+    @Test
+    @DisplayName("Hard drop should land the brick on its ghost and report the distance")
+    void hardDrop_ShouldLandOnGhost() {
+        // Arrange
+        SimpleBoard board = new SimpleBoard(10, 25);
+        board.createPyramidObstacle();
+        board.createNewBrick();
+        int startY = board.getBrickPosition().y;
+        int ghostY = board.getGhostYPosition();
+
+        // Act
+        int distance = board.hardDrop();
+
+        // Assert
+        assertEquals(ghostY - startY, distance);
+        assertEquals(ghostY, board.getBrickPosition().y);
+        assertFalse(board.moveBrickDown(), "The brick should already be resting on the stack.");
+    }
+
+    @Test
+    @DisplayName("Incremental line clears should match a full-board scan")
+    void clearRows_ShouldMatchFullScan() {
+        // Arrange
+        SimpleBoard board = new SimpleBoard(10, 25, new SeededGenerator(11));
+        board.createPyramidObstacle();
+        board.createNewBrick();
+        Random random = new Random(11);
+        int totalLines = 0;
+
+        // Act & Assert
+        for (int piece = 0; piece < 2_000; piece++) {
+            for (int shift = random.nextInt(10) - 5; shift != 0; shift -= Integer.signum(shift)) {
+                if (shift < 0) {
+                    board.moveBrickLeft();
+                } else {
+                    board.moveBrickRight();
+                }
+            }
+            for (int turns = random.nextInt(4); turns > 0; turns--) {
+                board.rotateLeftBrick();
+            }
+            board.hardDrop();
+            board.mergeBrickToBackground();
+            if (board.isCurrentBrickBomb()) {
+                board.handleGravity();
+            }
+            ClearRow expected = MatrixOperations.checkRemoving(board.getBoardMatrix());
+            ClearRow actual = board.clearRows();
+            assertEquals(expected.getLinesRemoved(), actual.getLinesRemoved(), "lines at piece " + piece);
+            assertArrayEquals(expected.getClearedRows(), actual.getClearedRows(), "rows at piece " + piece);
+            assertArrayEquals(expected.getNewMatrix(), board.getBoardMatrix(), "board at piece " + piece);
+            totalLines += actual.getLinesRemoved();
+            if (board.createNewBrick()) {
+                board.newGame();
+            }
+        }
+        assertTrue(totalLines > 0, "The random play should clear at least one line.");
+    }
+
+    @Test
+    @DisplayName("Garbage rows should push the stack up and keep the ghost and line clears consistent")
+    void addGarbageRows_ShouldPushStackUp() {
+        // Arrange
+        SimpleBoard board = new SimpleBoard(10, 25);
+        board.createPyramidObstacle();
+        board.createNewBrick();
+        int[] pyramidRow = board.getBoardMatrix()[24].clone();
+
+        // Act
+        boolean overflow = board.addGarbageRows(3, 4, 7);
+
+        // Assert
+        assertFalse(overflow);
+        int[][] matrix = board.getBoardMatrix();
+        assertArrayEquals(pyramidRow, matrix[21], "The stack should move up by three rows.");
+        for (int i = 22; i < 25; i++) {
+            for (int j = 0; j < 10; j++) {
+                assertEquals(j == 4 ? 0 : 7, matrix[i][j], "garbage cell " + i + "," + j);
+            }
+        }
+        assertEquals(scanGhostY(board), board.getGhostYPosition());
+        assertEquals(0, board.clearRows().getLinesRemoved(), "Garbage rows with a hole are not full.");
+        assertTrue(board.addGarbageRows(25, 0, 7), "Pushing the whole board up should overflow the stack.");
+    }
+
+    @Test
+    @DisplayName("Garbage that overflows the stack should keep the skyline and the lifted brick on the board")
+    void addGarbageRows_ShouldKeepSkylineOnOverflow() {
+        // Arrange: a brick left hanging at the spawn row, with nothing below it
+        SimpleBoard board = new SimpleBoard(10, 25);
+        board.createNewBrick();
+        board.mergeBrickToBackground();
+
+        // Act
+        boolean overflow = board.addGarbageRows(3, 0, 7);
+        board.createNewBrick();
+
+        // Assert
+        assertTrue(overflow, "The hanging brick should be pushed off the top.");
+        assertEquals(scanGhostY(board), board.getGhostYPosition(), "The emptied columns should drop to the garbage.");
+        SimpleBoard full = new SimpleBoard(10, 25);
+        full.createNewBrick();
+        full.addGarbageRows(25, 0, 7);
+        int[][] brick = full.getViewData().getBrickData();
+        for (int i = 0; i < brick.length; i++) {
+            for (int j = 0; j < brick[i].length; j++) {
+                if (brick[i][j] != 0) {
+                    assertTrue(full.getBrickPosition().y + i >= 0, "The brick should not be lifted above the top row.");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A board snapshot should not change when the brick merges in place")
+    void boardSnapshot_ShouldStayUnchanged() {
+        // Arrange
+        SimpleBoard board = new SimpleBoard(10, 25);
+        board.createNewBrick();
+        int[][] liveMatrix = board.getBoardMatrix();
+        BoardSnapshot snapshot = board.getBoardSnapshot();
+
+        // Act
+        board.hardDrop();
+        board.mergeBrickToBackground();
+
+        // Assert
+        assertSame(liveMatrix, board.getBoardMatrix(), "Merging should not replace the board matrix.");
+        assertArrayEquals(new int[25][10], snapshot.toMatrix());
+        assertFalse(Arrays.deepEquals(snapshot.toMatrix(), board.getBoardMatrix()));
+        assertArrayEquals(liveMatrix, board.getBoardSnapshot().toMatrix());
+    }
+
+    @Test
+    @DisplayName("Changed rows should cover exactly the rows the locked brick touched")
+    void drainChangedRows_ShouldReportLockedRows() {
+        // Arrange
+        SimpleBoard board = new SimpleBoard(10, 25);
+        board.createNewBrick();
+        BitSet changedRows = new BitSet();
+        board.drainChangedRows(changedRows);
+        changedRows.clear();
+
+        // Act
+        board.hardDrop();
+        board.mergeBrickToBackground();
+        board.drainChangedRows(changedRows);
+
+        // Assert
+        int[][] matrix = board.getBoardMatrix();
+        for (int i = 0; i < matrix.length; i++) {
+            boolean filled = Arrays.stream(matrix[i]).anyMatch(cell -> cell != 0);
+            assertEquals(filled, changedRows.get(i), "row " + i);
+        }
+        BitSet drainedAgain = new BitSet();
+        board.drainChangedRows(drainedAgain);
+        assertTrue(drainedAgain.isEmpty(), "Draining should forget the reported rows.");
+    }
+
+    @Test
+    @DisplayName("The incremental Zobrist hash should equal a fresh hash of the same cells")
+    void zobristHash_ShouldMatchRecomputedHash() {
+        // Arrange
+        SimpleBoard board = new SimpleBoard(10, 25, new SeededGenerator(5));
+        board.createPyramidObstacle();
+        board.createNewBrick();
+        Random random = new Random(5);
+        int clears = 0;
+
+        // Act & Assert: merges, line clears, garbage, bombs and gravity all update the hash
+        for (int piece = 0; piece < 1_000; piece++) {
+            for (int shift = random.nextInt(10) - 5; shift != 0; shift -= Integer.signum(shift)) {
+                if (shift < 0) {
+                    board.moveBrickLeft();
+                } else {
+                    board.moveBrickRight();
+                }
+            }
+            board.hardDrop();
+            board.mergeBrickToBackground();
+            clears += board.clearRows().getLinesRemoved();
+            switch (random.nextInt(20)) {
+                case 0 -> board.addGarbageRows(1 + random.nextInt(3), random.nextInt(10), 8);
+                case 1 -> {
+                    board.detonateBomb(random.nextInt(10), 12 + random.nextInt(13));
+                    board.handleGravity();
+                    clears += board.clearRows().getLinesRemoved();
+                }
+                default -> {
+                }
+            }
+            assertEquals(SearchBoard.of(board.getBoardMatrix()).getHash(), board.getZobristHash(), "hash after piece " + piece);
+            if (board.createNewBrick()) {
+                board.newGame();
+                assertEquals(0, board.getZobristHash(), "An empty board should hash to 0.");
+            }
+        }
+        assertTrue(clears > 0, "The game should have cleared lines.");
+    }
+}
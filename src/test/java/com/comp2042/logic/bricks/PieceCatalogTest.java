@@ -0,0 +1,46 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceCatalogTest {
+
+    @Test
+    @DisplayName("Catalog bricks should be shared flyweights")
+    void byId_ShouldReturnSharedBricks() {
+        assertSame(PieceCatalog.T, PieceCatalog.byId(6));
+        assertSame(PieceCatalog.byId(6).getPiece(), PieceCatalog.byId(6).getPiece(), "The piece should never be rebuilt.");
+        assertEquals(7, PieceCatalog.standardBricks().size());
+    }
+
+    @Test
+    @DisplayName("Precomputed shape data should match the shape matrix")
+    void pieceShape_ShouldMatchMatrix() {
+        // The first T rotation is {6,6,6} on row 1 and {0,6,0} on row 2
+        PieceShape shape = PieceCatalog.T.getPiece().getShape(0);
+
+        assertEquals(4, shape.getCellCount());
+        assertEquals(1, shape.getMinRow());
+        assertEquals(2, shape.getMaxRow());
+        assertEquals(0, shape.getMinColumn());
+        assertEquals(2, shape.getMaxColumn());
+        assertEquals(0b111, shape.getRowMask(1));
+        assertEquals(0b010, shape.getRowMask(2));
+        assertEquals(6, shape.getColor());
+    }
+
+    @Test
+    @DisplayName("Every rotation should agree with getShapeMatrix")
+    void rotations_ShouldMatchLegacyMatrices() {
+        for (int id = 1; id <= 8; id++) {
+            Brick brick = PieceCatalog.byId(id);
+            Piece piece = brick.getPiece();
+            assertEquals(brick.getShapeMatrix().size(), piece.getRotationCount());
+            for (int r = 0; r < piece.getRotationCount(); r++) {
+                assertArrayEquals(brick.getShapeMatrix().get(r), piece.getShape(r).getMatrix());
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.model.GameLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PreviewQueueTest {
+
+    private static final long SEED = 2024;
+    private static final int BRICKS = 5_000;
+
+    @Test
+    @DisplayName("Prefetching on a background thread should give the same bricks and states as prefetching inline")
+    void backgroundPrefetch_ShouldMatchInline() {
+        ExecutorService prefetcher = Executors.newSingleThreadExecutor();
+        try {
+            // Arrange
+            RandomBrickGenerator inline = new RandomBrickGenerator(GameLevel.LevelType.TYPE_B_NORMAL, SEED);
+            RandomBrickGenerator background = new RandomBrickGenerator(GameLevel.LevelType.TYPE_B_NORMAL, SEED);
+            background.setPrefetcher(prefetcher);
+            GeneratorState halfway = null;
+
+            // Act & Assert
+            for (int i = 0; i < BRICKS; i++) {
+                assertEquals(inline.saveState(), background.saveState(), "State before brick " + i);
+                assertEquals(inline.getBrick(), background.getBrick(), "Brick " + i);
+                if (i == BRICKS / 2) {
+                    halfway = background.saveState();
+                }
+            }
+            RandomBrickGenerator resumed = new RandomBrickGenerator(GameLevel.LevelType.TYPE_B_NORMAL, 0);
+            resumed.setPrefetcher(prefetcher);
+            resumed.restoreState(halfway);
+            RandomBrickGenerator replayed = new RandomBrickGenerator(GameLevel.LevelType.TYPE_B_NORMAL, SEED);
+            for (int i = 0; i <= BRICKS / 2; i++) {
+                replayed.getBrick();
+            }
+            for (int i = 0; i < BRICKS; i++) {
+                assertEquals(replayed.getBrick(), resumed.getBrick(), "Brick " + i + " after restoring");
+            }
+        } finally {
+            prefetcher.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Reading the preview should not allocate and its version should only move when a brick is drawn")
+    void preview_ShouldNotAllocateAndOnlyChangeOnDraw() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Per-thread allocation accounting is not available on this JVM.");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Per-thread allocation accounting is not supported.");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().threadId();
+
+        // Arrange
+        RandomBrickGenerator generator = new RandomBrickGenerator(GameLevel.LevelType.TYPE_B_NORMAL, SEED);
+        generator.setPreviewDepth(RandomBrickGenerator.PREVIEW_CAPACITY);
+        List<int[][]> shapes = generator.getPreviewShapes();
+        int version = generator.getPreviewVersion();
+        long sink = readPreview(generator, 1_000); // Warm up
+
+        // Act
+        long before = threads.getThreadAllocatedBytes(threadId);
+        sink += readPreview(generator, 1_000_000);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Assert
+        assertTrue(sink > 0);
+        assertTrue(allocated <= 4096, "Reading the preview allocated " + allocated + " bytes.");
+        assertEquals(version, generator.getPreviewVersion(), "Peeking must not change the preview.");
+        assertSame(shapes, generator.getPreviewShapes(), "The shapes should be cached until the preview changes.");
+        Brick drawn = generator.getBrick();
+        assertEquals(shapes.get(0), drawn.getPiece().getShape(0).getMatrix());
+        assertNotEquals(version, generator.getPreviewVersion(), "Drawing a brick must change the preview.");
+        assertEquals(shapes.get(1), generator.getPreviewShapes().get(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.setPreviewDepth(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.setPreviewDepth(8));
+    }
+
+    private static long readPreview(RandomBrickGenerator generator, int rounds) {
+        long sink = 0;
+        for (int i = 0; i < rounds; i++) {
+            sink += generator.getPreviewId(i % RandomBrickGenerator.PREVIEW_CAPACITY);
+            sink += generator.getPreviewShapes().size();
+        }
+        return sink;
+    }
+}
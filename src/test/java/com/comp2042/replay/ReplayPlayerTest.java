@@ -0,0 +1,230 @@
+package com.comp2042.replay;
+
+import com.comp2042.ai.BotPlayer;
+import com.comp2042.controller.InputEventListener;
+import com.comp2042.logic.GameSession;
+import com.comp2042.logic.GameSessionListener;
+import com.comp2042.logic.GameState;
+import com.comp2042.logic.HighScoreManager;
+import com.comp2042.logic.Score;
+import com.comp2042.logic.SimpleBoard;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.events.EventSource;
+import com.comp2042.logic.events.EventType;
+import com.comp2042.model.GameLevel;
+import com.comp2042.view.GameView;
+import com.comp2042.view.ViewData;
+import javafx.beans.property.IntegerProperty;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.Point;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayPlayerTest {
+
+    private static final long MILLIS = 1_000_000;
+    private static final GameLevel.LevelType LEVEL = GameLevel.LevelType.TYPE_C_OBSTACLES;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Seeking in any order should reproduce the recorded game at every tick")
+    void seek_ShouldReproduceRecordedStates() throws Exception {
+        // Arrange: the bot plays an obstacle game with gravity while every input is recorded
+        Map<Long, GameState> expected = new LinkedHashMap<>();
+        Path file = record(2024, 6_000, expected);
+
+        // Act
+        ReplayPlayer player = ReplayPlayer.open(file, 10);
+        List<Long> ticks = new ArrayList<>(expected.keySet());
+        List<Long> order = new ArrayList<>();
+        for (int i = ticks.size() - 1; i >= 0; i -= 2) {
+            order.add(ticks.get(i));
+        }
+        for (int i = 0; i < ticks.size(); i += 2) {
+            order.add(ticks.get(i));
+        }
+
+        // Assert
+        assertTrue(player.getKeyframeCount() > 5, "keyframes: " + player.getKeyframeCount());
+        for (long tick : order) {
+            player.seek(tick);
+            assertEquals(expected.get(tick), player.getSession().saveState(), "tick " + tick);
+        }
+        player.advanceTo(Long.MAX_VALUE);
+        assertTrue(player.isFinished());
+    }
+
+    @Test
+    @DisplayName("An attached view should show the board and brick after every step and after seeking back")
+    void view_ShouldFollowStepsAndSeeks() throws Exception {
+        // Arrange
+        Map<Long, GameState> expected = new LinkedHashMap<>();
+        Path file = record(7, 3_000, expected);
+        ReplayPlayer player = ReplayPlayer.open(file, 5);
+        DrawingView view = new DrawingView();
+
+        // Act & Assert
+        player.setView(view);
+        assertDrawn(player, view, "after attaching");
+        for (int i = 0; i < 400 && player.step(); i++) {
+            assertDrawn(player, view, "after step " + i);
+        }
+        long back = expected.keySet().iterator().next();
+        assertTrue(back < player.getTick(), "The seek should go backwards");
+        player.seek(back);
+        assertEquals(expected.get(back), player.getSession().saveState());
+        assertDrawn(player, view, "after seeking back to tick " + back);
+        player.step();
+        assertDrawn(player, view, "after stepping on from tick " + back);
+    }
+
+    private static void assertDrawn(ReplayPlayer player, DrawingView view, String when) {
+        GameSession session = player.getSession();
+        assertArrayEquals(session.getBoard().getBoardMatrix(), view.board, "board " + when);
+        ViewData brick = session.getViewData();
+        assertEquals(brick.getxPosition(), view.brick.getxPosition(), "brick x " + when);
+        assertEquals(brick.getyPosition(), view.brick.getyPosition(), "brick y " + when);
+        assertArrayEquals(brick.getBrickData(), view.brick.getBrickData(), "brick shape " + when);
+    }
+
+    /**
+     * Keeps a copy of the board as drawn, applying only the rows it is told changed.
+     */
+    private static final class DrawingView implements GameView {
+        int[][] board;
+        ViewData brick;
+
+        @Override
+        public void initGameView(int[][] boardMatrix, ViewData brick) {
+            board = new int[boardMatrix.length][];
+            for (int i = 0; i < boardMatrix.length; i++) {
+                board[i] = boardMatrix[i].clone();
+            }
+            this.brick = brick;
+        }
+
+        @Override
+        public void refreshBrick(ViewData brick) {
+            this.brick = brick;
+        }
+
+        @Override
+        public void interpolateBrick(double rows, double rowsPerSecond) {
+        }
+
+        @Override
+        public void inputApplied(long pressedAt, long appliedAt) {
+        }
+
+        @Override
+        public void refreshPreview(List<int[][]> nextBricks) {
+        }
+
+        @Override
+        public void refreshGameBackground(int[][] board, BitSet changedRows) {
+            for (int i = changedRows.nextSetBit(0); i >= 0 && i < board.length; i = changedRows.nextSetBit(i + 1)) {
+                this.board[i] = board[i].clone();
+            }
+        }
+
+        @Override
+        public void setEventListener(InputEventListener eventListener) {
+        }
+
+        @Override
+        public void bindScore(IntegerProperty scoreProperty) {
+        }
+
+        @Override
+        public void bindHighScore(IntegerProperty highScoreProperty) {
+        }
+
+        @Override
+        public void gameOver() {
+        }
+
+        @Override
+        public void showSpeedNotification(String message) {
+        }
+
+        @Override
+        public void showScoreNotification(String text) {
+        }
+
+        @Override
+        public void spawnFireEffect(double x, double y) {
+        }
+
+        @Override
+        public void animateBlockRemoval(List<Point> clearedBlocks, Runnable onFinished) {
+            onFinished.run();
+        }
+
+        @Override
+        public void updatePowerUpProgressBar(double progress) {
+        }
+
+        @Override
+        public void setPowerUpContainerVisibility(boolean isVisible) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Plays and records a game, keeping the state after every 250th step by its tick.
+     */
+    private Path record(long seed, int steps, Map<Long, GameState> states) throws Exception {
+        GameSession session = new GameSession(LEVEL, new SimpleBoard(GameSession.DEFAULT_WIDTH, GameSession.DEFAULT_HEIGHT,
+                new RandomBrickGenerator(LEVEL, seed)), new Score(LEVEL, HighScoreManager.inMemory()));
+        session.setListener(new GameSessionListener() {
+            @Override
+            public void onBombDetonated(Point center, List<Point> clearedBlocks, Runnable aftermath) {
+                aftermath.run();
+            }
+        });
+        ReplayRecorder recorder = new ReplayRecorder(ReplayRecorder.fileFor(directory, seed), LEVEL, seed, 0);
+        BotPlayer bot = new BotPlayer();
+        long now = 0;
+        for (int i = 1; i <= steps && !session.isGameOver(); i++) {
+            now += 20 * MILLIS;
+            if (i % 20 == 0) {
+                apply(session, recorder, EventType.DOWN, EventSource.THREAD, now);
+            }
+            EventType input = bot.nextInput(session.getBoard(), now);
+            if (input != null && !session.isGameOver()) {
+                apply(session, recorder, input, EventSource.BOT, now);
+            }
+            if (i % 250 == 0) {
+                states.put(now / MILLIS, session.saveState());
+            }
+        }
+        states.put(now / MILLIS, session.saveState());
+        return recorder.close().get();
+    }
+
+    private static void apply(GameSession session, ReplayRecorder recorder, EventType type, EventSource source, long now) {
+        recorder.record(type, source, now);
+        switch (type) {
+            case DOWN -> session.moveDown(source == EventSource.USER);
+            case LEFT -> session.moveLeft();
+            case RIGHT -> session.moveRight();
+            case ROTATE -> session.rotate();
+            case HARD_DROP -> session.hardDrop();
+            case HOLD -> session.hold();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.events.EventSource;
+import com.comp2042.logic.events.EventType;
+import com.comp2042.model.GameLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayRecorderTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("A recorded replay should read back with the same seed, events and ticks")
+    void record_ShouldRoundTrip() throws Exception {
+        // Arrange
+        long start = 5_000 * MILLIS;
+        ReplayRecorder recorder = new ReplayRecorder(ReplayRecorder.fileFor(directory, 42),
+                GameLevel.LevelType.TYPE_C_OBSTACLES, 42, start);
+
+        // Act
+        recorder.record(EventType.LEFT, EventSource.USER, start + 3 * MILLIS);
+        recorder.record(EventType.DOWN, EventSource.THREAD, start + 400 * MILLIS);
+        // A clock sampled slightly earlier must not move the tick back
+        recorder.record(EventType.ROTATE, EventSource.BOT, start + 399 * MILLIS);
+        recorder.record(EventType.HARD_DROP, EventSource.USER, start + 90_000 * MILLIS);
+        Path file = recorder.close().get();
+        ReplayReader reader = ReplayReader.open(file);
+
+        // Assert
+        assertEquals(42, reader.getSeed());
+        assertEquals(GameLevel.LevelType.TYPE_C_OBSTACLES, reader.getLevelType());
+        assertEvent(reader, EventType.LEFT, EventSource.USER, 3);
+        assertEvent(reader, EventType.DOWN, EventSource.THREAD, 400);
+        assertEvent(reader, EventType.ROTATE, EventSource.BOT, 400);
+        assertEvent(reader, EventType.HARD_DROP, EventSource.USER, 90_000);
+        assertFalse(reader.next());
+    }
+
+    @Test
+    @DisplayName("Inputs a few hundred milliseconds apart should take two bytes each")
+    void record_ShouldBeCompact() throws Exception {
+        // Arrange: about a marathon's worth of inputs and gravity steps
+        int events = 20_000;
+        SplittableRandom random = new SplittableRandom(7);
+        ReplayRecorder recorder = new ReplayRecorder(directory.resolve("marathon.trpl"),
+                GameLevel.LevelType.TYPE_B_NORMAL, 7, 0);
+        EventType[] types = EventType.values();
+
+        // Act
+        long now = 0;
+        for (int i = 0; i < events; i++) {
+            now += random.nextInt(30, 500) * MILLIS;
+            recorder.record(types[random.nextInt(types.length)], EventSource.USER, now);
+        }
+        Path file = recorder.close().get();
+
+        // Assert
+        assertEquals(events, recorder.getEventCount());
+        assertTrue(Files.size(file) <= ReplayFormat.HEADER_SIZE + 2L * events, "size: " + Files.size(file));
+        ReplayReader reader = ReplayReader.open(file);
+        int read = 0;
+        while (reader.next()) {
+            read++;
+        }
+        assertEquals(events, read);
+        assertEquals(now / MILLIS, reader.getTick());
+    }
+
+    private static void assertEvent(ReplayReader reader, EventType type, EventSource source, long tick) {
+        assertTrue(reader.next());
+        assertEquals(type, reader.getEventType());
+        assertEquals(source, reader.getEventSource());
+        assertEquals(tick, reader.getTick());
+    }
+}
@@ -0,0 +1,39 @@
+package com.comp2042.simulation;
+
+import com.comp2042.model.GameLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationRunnerTest {
+
+    @Test
+    @DisplayName("A seeded batch should give the same results on one thread and on many")
+    void run_ShouldBeRepeatableAcrossThreadCounts() {
+        // Arrange
+        SimulationRunner single = new SimulationRunner(GameLevel.LevelType.TYPE_C_OBSTACLES, 1, 2_000, RandomMovePolicy::new);
+        SimulationRunner parallel = new SimulationRunner(GameLevel.LevelType.TYPE_C_OBSTACLES, 4, 2_000, RandomMovePolicy::new);
+
+        // Act
+        SimulationReport first = single.run(40, 7);
+        SimulationReport second = parallel.run(40, 7);
+
+        // Assert
+        assertEquals(40, first.getGames());
+        List<GameResult> expected = first.getResults();
+        List<GameResult> actual = second.getResults();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getSeed(), actual.get(i).getSeed(), "seed of game " + i);
+            assertEquals(expected.get(i).getScore(), actual.get(i).getScore(), "score of game " + i);
+            assertEquals(expected.get(i).getPieces(), actual.get(i).getPieces(), "pieces of game " + i);
+            assertEquals(expected.get(i).getLines(), actual.get(i).getLines(), "lines of game " + i);
+        }
+        assertEquals(first.getTotalPieces(), second.getTotalPieces());
+        assertTrue(first.getTotalPieces() > 0);
+        assertTrue(first.getScorePercentile(0) <= first.getScorePercentile(50));
+        assertTrue(first.getScorePercentile(50) <= first.getScorePercentile(100));
+    }
+}
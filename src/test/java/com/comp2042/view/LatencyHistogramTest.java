@@ -0,0 +1,34 @@
+package com.comp2042.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Percentiles should stay within a bucket of the exact value, and the maximum should be exact")
+    void percentiles_ShouldBeWithinABucket() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(micros * 1_000);
+        }
+        histogram.record(-5);
+
+        // Assert
+        assertEquals(10_001, histogram.getCount());
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(5_000_000, histogram.getPercentile(50), 5_000_000 * 0.035);
+        assertEquals(9_900_000, histogram.getPercentile(99), 9_900_000 * 0.035);
+        assertEquals(0, histogram.getPercentile(0));
+        assertEquals(histogram.getMax(), histogram.getPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+}